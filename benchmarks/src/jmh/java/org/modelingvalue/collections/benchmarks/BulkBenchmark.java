@@ -0,0 +1,149 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePSet;
+import org.pcollections.PSet;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+/**
+ * Bulk set algebra between two sets of {@link #size} elements that share {@link #overlap} percent of their elements.
+ * {@code java} and {@code guava} copy the left operand, which is what a persistent result costs them. The partition
+ * size of the hash collections is swept in {@link HashTuningBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkBenchmark extends TuningState {
+    @Param({"mvg", "java", "guava", "pcollections"})
+    public String                 impl;
+
+    @Param({"50"})
+    public int                    overlap;
+
+    private Set<Integer>          mvgLeft;
+    private Set<Integer>          mvgRight;
+    private ImmutableSet<Integer> guavaLeft;
+    private ImmutableSet<Integer> guavaRight;
+    private PSet<Integer>         pLeft;
+    private PSet<Integer>         pRight;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random   = new Random(SEED);
+        int[]  elements = distinctInts(size * 2, random);
+        int    shared   = size * overlap / 100;
+        int[]  left     = new int[size];
+        int[]  right    = new int[size];
+        System.arraycopy(elements, 0, left, 0, size);
+        System.arraycopy(elements, size - shared, right, 0, size);
+        switch (impl) {
+        case "mvg" -> {
+            mvgLeft = Set.of();
+            mvgRight = Set.of();
+            for (int i = 0; i < size; i++) {
+                mvgLeft = mvgLeft.add(left[i]);
+                mvgRight = mvgRight.add(right[i]);
+            }
+        }
+        case "java", "guava" -> {
+            ImmutableSet.Builder<Integer> l = ImmutableSet.builder();
+            ImmutableSet.Builder<Integer> r = ImmutableSet.builder();
+            for (int i = 0; i < size; i++) {
+                l.add(left[i]);
+                r.add(right[i]);
+            }
+            guavaLeft = l.build();
+            guavaRight = r.build();
+        }
+        case "pcollections" -> {
+            pLeft = HashTreePSet.empty();
+            pRight = HashTreePSet.empty();
+            for (int i = 0; i < size; i++) {
+                pLeft = pLeft.plus(left[i]);
+                pRight = pRight.plus(right[i]);
+            }
+        }
+        default -> throw new IllegalArgumentException(impl);
+        }
+    }
+
+    @Benchmark
+    public Object addAll() {
+        return switch (impl) {
+            case "mvg" -> mvgLeft.addAll(mvgRight);
+            case "java" -> {
+                HashSet<Integer> r = new HashSet<>(guavaLeft);
+                r.addAll(guavaRight);
+                yield r;
+            }
+            case "guava" -> Sets.union(guavaLeft, guavaRight).immutableCopy();
+            default -> pLeft.plusAll(pRight);
+        };
+    }
+
+    @Benchmark
+    public Object retainAll() {
+        return switch (impl) {
+            case "mvg" -> mvgLeft.retainAll(mvgRight);
+            case "java" -> {
+                HashSet<Integer> r = new HashSet<>(guavaLeft);
+                r.retainAll(guavaRight);
+                yield r;
+            }
+            case "guava" -> Sets.intersection(guavaLeft, guavaRight).immutableCopy();
+            default -> pLeft.minusAll(pLeft.minusAll(pRight));
+        };
+    }
+
+    @Benchmark
+    public Object removeAll() {
+        return switch (impl) {
+            case "mvg" -> mvgLeft.removeAll(mvgRight);
+            case "java" -> {
+                HashSet<Integer> r = new HashSet<>(guavaLeft);
+                r.removeAll(guavaRight);
+                yield r;
+            }
+            case "guava" -> Sets.difference(guavaLeft, guavaRight).immutableCopy();
+            default -> pLeft.minusAll(pRight);
+        };
+    }
+}
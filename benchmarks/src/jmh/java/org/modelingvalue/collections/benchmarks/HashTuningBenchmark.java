@@ -0,0 +1,147 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.QualifiedSet;
+import org.modelingvalue.collections.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sweeps {@code HASH_PARTITION_SIZE} over the hash collections of this library, a set, a map and a qualified set of
+ * {@link #size} elements. The other libraries are compared at the default partition size in {@link SetBenchmark},
+ * {@link MapBenchmark}, {@link BulkBenchmark} and {@link QualifiedSetBenchmark}, as they do not read this parameter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashTuningBenchmark extends TuningState {
+    private static final int PROBES = 1024;
+
+    public record Item(Integer id) {
+    }
+
+    @Param({"2", "3", "4", "5", "6"})
+    public int                          hashPartitionSize;
+
+    private Set<Integer>                set;
+    private Set<Integer>                other;
+    private Map<Integer, Integer>       map;
+    private QualifiedSet<Integer, Item> qualified;
+    private int[]                       hits;
+    private int[]                       misses;
+    private int                         probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tune("HASH_PARTITION_SIZE", hashPartitionSize);
+        Random random   = new Random(SEED);
+        int[]  elements = distinctInts(size * 2, random);
+        hits = probes(java.util.Arrays.copyOf(elements, size), PROBES, random);
+        misses = misses(PROBES, random);
+        Set<Integer>                s = Set.of();
+        Set<Integer>                o = Set.of();
+        Map<Integer, Integer>       m = Map.of();
+        QualifiedSet<Integer, Item> q = QualifiedSet.of(Item::id);
+        for (int i = 0; i < size; i++) {
+            s = s.add(elements[i]);
+            o = o.add(elements[i + size / 2]);
+            m = m.put(elements[i], i);
+            q = q.add(new Item(elements[i]));
+        }
+        set = s;
+        other = o;
+        map = m;
+        qualified = q;
+    }
+
+    private int next() {
+        return probe = (probe + 1) & (PROBES - 1);
+    }
+
+    @Benchmark
+    public boolean setContainsHit() {
+        return set.contains(hits[next()]);
+    }
+
+    @Benchmark
+    public boolean setContainsMiss() {
+        return set.contains(misses[next()]);
+    }
+
+    @Benchmark
+    public Object setAdd() {
+        return set.add(misses[next()]);
+    }
+
+    @Benchmark
+    public Object setRemove() {
+        return set.remove(hits[next()]);
+    }
+
+    @Benchmark
+    public Object mapGetHit() {
+        return map.get(hits[next()]);
+    }
+
+    @Benchmark
+    public Object mapPutNew() {
+        int k = misses[next()];
+        return map.put(k, k);
+    }
+
+    @Benchmark
+    public Item qualifiedGet() {
+        return qualified.get(hits[next()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object addAll() {
+        return set.addAll(other);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object retainAll() {
+        return set.retainAll(other);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object removeAll() {
+        return set.removeAll(other);
+    }
+}
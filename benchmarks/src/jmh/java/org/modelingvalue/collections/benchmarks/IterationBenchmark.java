@@ -0,0 +1,109 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.modelingvalue.collections.ContainingCollection;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential walks over a set, map or list of {@link #size} elements. These should not allocate anything per element,
+ * run with {@code -prof gc} and check that {@code gc.alloc.rate.norm} stays at (close to) zero B/op, independent of
+ * {@link #size}. {@code contains} probes {@code 64} elements, for the list that is a linear search.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterationBenchmark extends TuningState {
+    private static final int               PROBES = 64;
+
+    @Param({"set", "map", "list"})
+    public String                          impl;
+
+    private ContainingCollection<Object>   collection;
+    private Object[]                       probes;
+    private long                           sum;
+    private final Consumer<Object>         consumer = e -> sum += e.hashCode();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random   = new Random(SEED);
+        int[]  elements = distinctInts(size, random);
+        collection = switch (impl) {
+            case "set" -> (ContainingCollection) Set.of(IntStream.of(elements).boxed().toArray(Integer[]::new));
+            case "map" -> (ContainingCollection) Map.of(IntStream.range(0, size).mapToObj(i -> Entry.of(elements[i], i)).toArray(Entry[]::new));
+            case "list" -> (ContainingCollection) List.of(IntStream.of(elements).boxed().toArray(Integer[]::new));
+            default -> throw new IllegalArgumentException(impl);
+        };
+        probes = new Object[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = collection.get(random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public long forEach() {
+        sum = 0;
+        collection.forEach(consumer);
+        return sum;
+    }
+
+    @Benchmark
+    public long iterator() {
+        long s = 0;
+        for (Iterator<Object> it = collection.iterator(); it.hasNext();) {
+            s += it.next().hashCode();
+        }
+        return s;
+    }
+
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        for (Object probe : probes) {
+            if (collection.contains(probe)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,252 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Operations on a list of {@link #size} elements. {@code java} uses an {@link ArrayList}: {@code append} and
+ * {@code insert} are done in place (and undone), {@code sublist} is a copy. {@code guava} measures full copies on
+ * update. The length of the leaves of the list tree is swept in {@link ListTuningBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark extends TuningState {
+    private static final int PROBES = 1024;
+
+    @Param({"mvg", "java", "guava", "pcollections"})
+    public String            impl;
+
+    private Subject          subject;
+    private int[]            indexes;
+    private int              probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(SEED);
+        indexes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+        subject = switch (impl) {
+            case "mvg" -> new MvgSubject(size);
+            case "java" -> new JavaSubject(size);
+            case "guava" -> new GuavaSubject(size);
+            case "pcollections" -> new PSubject(size);
+            default -> throw new IllegalArgumentException(impl);
+        };
+    }
+
+    private int next() {
+        return indexes[probe = (probe + 1) & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Object get() {
+        return subject.get(next());
+    }
+
+    @Benchmark
+    public Object append() {
+        return subject.append(-1);
+    }
+
+    @Benchmark
+    public Object insert() {
+        return subject.insert(next(), -1);
+    }
+
+    @Benchmark
+    public Object sublist() {
+        int i = next();
+        return subject.sublist(i / 2, i);
+    }
+
+    private interface Subject {
+        Object get(int i);
+
+        Object append(int e);
+
+        Object insert(int i, int e);
+
+        Object sublist(int from, int to);
+    }
+
+    private static final class MvgSubject implements Subject {
+        private final List<Integer> list;
+
+        private MvgSubject(int size) {
+            list = build(0, size);
+        }
+
+        private static List<Integer> build(int from, int to) {
+            if (to - from <= 32) {
+                Integer[] es = new Integer[to - from];
+                for (int i = 0; i < es.length; i++) {
+                    es[i] = from + i;
+                }
+                return List.of(es);
+            } else {
+                int mid = (from + to) >>> 1;
+                return build(from, mid).appendList(build(mid, to));
+            }
+        }
+
+        @Override
+        public Object get(int i) {
+            return list.get(i);
+        }
+
+        @Override
+        public Object append(int e) {
+            return list.append(e);
+        }
+
+        @Override
+        public Object insert(int i, int e) {
+            return list.insert(i, e);
+        }
+
+        @Override
+        public Object sublist(int from, int to) {
+            return list.sublist(from, to);
+        }
+    }
+
+    private static final class JavaSubject implements Subject {
+        private final ArrayList<Integer> list;
+
+        private JavaSubject(int size) {
+            list = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+        }
+
+        @Override
+        public Object get(int i) {
+            return list.get(i);
+        }
+
+        @Override
+        public Object append(int e) {
+            list.add(e);
+            return list.remove(list.size() - 1);
+        }
+
+        @Override
+        public Object insert(int i, int e) {
+            list.add(i, e);
+            return list.remove(i);
+        }
+
+        @Override
+        public Object sublist(int from, int to) {
+            return new ArrayList<>(list.subList(from, to));
+        }
+    }
+
+    private static final class GuavaSubject implements Subject {
+        private final ImmutableList<Integer> list;
+
+        private GuavaSubject(int size) {
+            ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(size);
+            for (int i = 0; i < size; i++) {
+                builder.add(i);
+            }
+            list = builder.build();
+        }
+
+        @Override
+        public Object get(int i) {
+            return list.get(i);
+        }
+
+        @Override
+        public Object append(int e) {
+            return ImmutableList.<Integer> builderWithExpectedSize(list.size() + 1).addAll(list).add(e).build();
+        }
+
+        @Override
+        public Object insert(int i, int e) {
+            ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(list.size() + 1);
+            return builder.addAll(list.subList(0, i)).add(e).addAll(list.subList(i, list.size())).build();
+        }
+
+        @Override
+        public Object sublist(int from, int to) {
+            return list.subList(from, to);
+        }
+    }
+
+    private static final class PSubject implements Subject {
+        private final PVector<Integer> list;
+
+        private PSubject(int size) {
+            PVector<Integer> l = TreePVector.empty();
+            for (int i = 0; i < size; i++) {
+                l = l.plus(i);
+            }
+            list = l;
+        }
+
+        @Override
+        public Object get(int i) {
+            return list.get(i);
+        }
+
+        @Override
+        public Object append(int e) {
+            return list.plus(e);
+        }
+
+        @Override
+        public Object insert(int i, int e) {
+            return list.plus(i, e);
+        }
+
+        @Override
+        public Object sublist(int from, int to) {
+            return list.subList(from, to);
+        }
+    }
+}
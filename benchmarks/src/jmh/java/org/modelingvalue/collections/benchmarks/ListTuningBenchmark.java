@@ -0,0 +1,105 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sweeps {@code LIST_MULTI_MAX_LENGTH} over the operations of {@link ListBenchmark} on a {@link List} of {@link #size}
+ * elements. The other libraries are compared at the default length in {@link ListBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListTuningBenchmark extends TuningState {
+    private static final int PROBES = 1024;
+
+    @Param({"16", "32", "64"})
+    public int               listMultiMaxLength;
+
+    private List<Integer>    list;
+    private int[]            indexes;
+    private int              probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tune("LIST_MULTI_MAX_LENGTH", listMultiMaxLength);
+        Random random = new Random(SEED);
+        indexes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+        list = build(0, size);
+    }
+
+    private static List<Integer> build(int from, int to) {
+        if (to - from <= 32) {
+            Integer[] es = new Integer[to - from];
+            for (int i = 0; i < es.length; i++) {
+                es[i] = from + i;
+            }
+            return List.of(es);
+        } else {
+            int mid = (from + to) >>> 1;
+            return build(from, mid).appendList(build(mid, to));
+        }
+    }
+
+    private int next() {
+        return indexes[probe = (probe + 1) & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(next());
+    }
+
+    @Benchmark
+    public Object append() {
+        return list.append(-1);
+    }
+
+    @Benchmark
+    public Object insert() {
+        return list.insert(next(), -1);
+    }
+
+    @Benchmark
+    public Object sublist() {
+        int i = next();
+        return list.sublist(i / 2, i);
+    }
+}
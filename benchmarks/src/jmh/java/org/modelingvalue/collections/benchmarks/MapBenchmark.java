@@ -0,0 +1,252 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.IntMap;
+import org.modelingvalue.collections.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Single entry operations on a map of {@link #size} entries. {@code mvgDefault} is a {@link DefaultMap}, {@code mvgInt}
+ * an {@link IntMap}, {@code java} updates a mutable {@link HashMap} in place (and undoes it), {@code guava} measures a
+ * full copy on update. The partition size of the hash collections is swept in {@link HashTuningBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark extends TuningState {
+    private static final int PROBES = 1024;
+
+    @Param({"mvg", "mvgDefault", "mvgInt", "java", "guava", "pcollections"})
+    public String            impl;
+
+    private Subject          subject;
+    private int[]            hits;
+    private int[]            misses;
+    private int              probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(SEED);
+        int[]  keys   = distinctInts(size, random);
+        hits = probes(keys, PROBES, random);
+        misses = misses(PROBES, random);
+        subject = switch (impl) {
+            case "mvg" -> new MvgSubject(keys);
+            case "mvgDefault" -> new MvgDefaultSubject(keys);
+            case "mvgInt" -> new MvgIntSubject(keys);
+            case "java" -> new JavaSubject(keys);
+            case "guava" -> new GuavaSubject(keys);
+            case "pcollections" -> new PSubject(keys);
+            default -> throw new IllegalArgumentException(impl);
+        };
+    }
+
+    private int next() {
+        return probe = (probe + 1) & (PROBES - 1);
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return subject.get(hits[next()]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return subject.get(misses[next()]);
+    }
+
+    @Benchmark
+    public Object putNew() {
+        int k = misses[next()];
+        return subject.put(k, k);
+    }
+
+    @Benchmark
+    public Object putExisting() {
+        int k = hits[next()];
+        return subject.put(k, -k);
+    }
+
+    private interface Subject {
+        Object get(int k);
+
+        Object put(int k, int v);
+    }
+
+    private static final class MvgSubject implements Subject {
+        private final Map<Integer, Integer> map;
+
+        private MvgSubject(int[] keys) {
+            Map<Integer, Integer> m = Map.of();
+            for (int k : keys) {
+                m = m.put(k, k);
+            }
+            map = m;
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            return map.put(k, v);
+        }
+    }
+
+    private static final class MvgDefaultSubject implements Subject {
+        private final DefaultMap<Integer, Integer> map;
+
+        @SuppressWarnings("unchecked")
+        private MvgDefaultSubject(int[] keys) {
+            DefaultMap<Integer, Integer> m = DefaultMap.of(k -> 0);
+            for (int k : keys) {
+                m = m.put(k, k);
+            }
+            map = m;
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            return map.put(k, v);
+        }
+    }
+
+    private static final class MvgIntSubject implements Subject {
+        private final IntMap<Integer> map;
+
+        private MvgIntSubject(int[] keys) {
+            IntMap<Integer> m = IntMap.of();
+            for (int k : keys) {
+                m = m.put(k, k);
+            }
+            map = m;
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            return map.put(k, v);
+        }
+    }
+
+    private static final class JavaSubject implements Subject {
+        private final HashMap<Integer, Integer> map = new HashMap<>();
+
+        private JavaSubject(int[] keys) {
+            for (int k : keys) {
+                map.put(k, k);
+            }
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            Integer old = map.put(k, v);
+            if (old == null) {
+                map.remove(k);
+            } else {
+                map.put(k, old);
+            }
+            return old;
+        }
+    }
+
+    private static final class GuavaSubject implements Subject {
+        private final ImmutableMap<Integer, Integer> map;
+
+        private GuavaSubject(int[] keys) {
+            ImmutableMap.Builder<Integer, Integer> builder = ImmutableMap.builderWithExpectedSize(keys.length);
+            for (int k : keys) {
+                builder.put(k, k);
+            }
+            map = builder.build();
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            ImmutableMap.Builder<Integer, Integer> builder = ImmutableMap.builderWithExpectedSize(map.size() + 1);
+            return builder.putAll(map).put(k, v).buildKeepingLast();
+        }
+    }
+
+    private static final class PSubject implements Subject {
+        private final PMap<Integer, Integer> map;
+
+        private PSubject(int[] keys) {
+            PMap<Integer, Integer> m = HashTreePMap.empty();
+            for (int k : keys) {
+                m = m.plus(k, k);
+            }
+            map = m;
+        }
+
+        @Override
+        public Object get(int k) {
+            return map.get(k);
+        }
+
+        @Override
+        public Object put(int k, int v) {
+            return map.plus(k, v);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.Mergeable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * N-way merge of {@link #branches} versions that each changed {@link #changes} elements of a common base of
+ * {@link #size} elements. There is no equivalent in the other libraries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark extends TuningState {
+    @Param({"2", "3", "4", "5", "6"})
+    public int          hashPartitionSize;
+
+    @Param({"map", "defaultMap", "set"})
+    public String       collection;
+
+    @Param({"2", "8", "32"})
+    public int          branches;
+
+    @Param({"1", "100"})
+    public int          changes;
+
+    private Mergeable<?> base;
+    private Object[]     versions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tune("HASH_PARTITION_SIZE", hashPartitionSize);
+        Random random = new Random(SEED);
+        int[]  keys   = distinctInts(size, random);
+        switch (collection) {
+        case "map" -> {
+            Map<Integer, Integer> b = Map.of();
+            for (int k : keys) {
+                b = b.put(k, k);
+            }
+            Map<?, ?>[] vs = new Map[branches];
+            for (int i = 0; i < branches; i++) {
+                Map<Integer, Integer> v = b;
+                for (int c = 0; c < changes; c++) {
+                    int k = keys[random.nextInt(keys.length)];
+                    v = random.nextBoolean() ? v.put(k, -k) : v.removeKey(k);
+                }
+                vs[i] = v;
+            }
+            base = b;
+            versions = vs;
+        }
+        case "defaultMap" -> {
+            DefaultMap<Integer, Integer> b = DefaultMap.of(k -> 0);
+            for (int k : keys) {
+                b = b.put(k, k);
+            }
+            DefaultMap<?, ?>[] vs = new DefaultMap[branches];
+            for (int i = 0; i < branches; i++) {
+                DefaultMap<Integer, Integer> v = b;
+                for (int c = 0; c < changes; c++) {
+                    int k = keys[random.nextInt(keys.length)];
+                    v = random.nextBoolean() ? v.put(k, -k) : v.removeKey(k);
+                }
+                vs[i] = v;
+            }
+            base = b;
+            versions = vs;
+        }
+        case "set" -> {
+            Set<Integer> b = Set.of();
+            for (int k : keys) {
+                b = b.add(k);
+            }
+            Set<?>[] vs = new Set[branches];
+            for (int i = 0; i < branches; i++) {
+                Set<Integer> v = b;
+                for (int c = 0; c < changes; c++) {
+                    int k = keys[random.nextInt(keys.length)];
+                    v = random.nextBoolean() ? v.add(-k - 1) : v.remove(k);
+                }
+                vs[i] = v;
+            }
+            base = b;
+            versions = vs;
+        }
+        default -> throw new IllegalArgumentException(collection);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Benchmark
+    public Object merge() {
+        return ((Mergeable) base).merge(versions, versions.length);
+    }
+}
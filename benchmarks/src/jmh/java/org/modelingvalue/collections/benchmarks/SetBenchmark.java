@@ -0,0 +1,249 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.modelingvalue.collections.IntSet;
+import org.modelingvalue.collections.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePSet;
+import org.pcollections.PSet;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Single element operations on a set of {@link #size} elements. The persistent implementations return a new version
+ * on every update, {@code mvgInt} is the unboxed {@link IntSet}. {@code java} updates a mutable {@link HashSet} in
+ * place (and undoes it) and is a lower bound, {@code guava} has no persistent update so its {@code add} and
+ * {@code remove} measure a full copy. The partition size of the hash collections is swept in
+ * {@link HashTuningBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetBenchmark extends TuningState {
+    private static final int PROBES = 1024;
+
+    @Param({"mvg", "mvgInt", "java", "guava", "pcollections"})
+    public String            impl;
+
+    private Subject          subject;
+    private int[]            hits;
+    private int[]            misses;
+    private int              probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random   = new Random(SEED);
+        int[]  elements = distinctInts(size, random);
+        hits = probes(elements, PROBES, random);
+        misses = misses(PROBES, random);
+        subject = switch (impl) {
+            case "mvg" -> new MvgSubject(elements);
+            case "mvgInt" -> new MvgIntSubject(elements);
+            case "java" -> new JavaSubject(elements);
+            case "guava" -> new GuavaSubject(elements);
+            case "pcollections" -> new PSubject(elements);
+            default -> throw new IllegalArgumentException(impl);
+        };
+    }
+
+    private int next() {
+        return probe = (probe + 1) & (PROBES - 1);
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return subject.contains(hits[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return subject.contains(misses[next()]);
+    }
+
+    @Benchmark
+    public Object add() {
+        return subject.add(misses[next()]);
+    }
+
+    @Benchmark
+    public Object remove() {
+        return subject.remove(hits[next()]);
+    }
+
+    private interface Subject {
+        boolean contains(int e);
+
+        Object add(int e);
+
+        Object remove(int e);
+    }
+
+    private static final class MvgSubject implements Subject {
+        private final Set<Integer> set;
+
+        private MvgSubject(int[] elements) {
+            Set<Integer> s = Set.of();
+            for (int e : elements) {
+                s = s.add(e);
+            }
+            set = s;
+        }
+
+        @Override
+        public boolean contains(int e) {
+            return set.contains(e);
+        }
+
+        @Override
+        public Object add(int e) {
+            return set.add(e);
+        }
+
+        @Override
+        public Object remove(int e) {
+            return set.remove(e);
+        }
+    }
+
+    private static final class MvgIntSubject implements Subject {
+        private final IntSet set;
+
+        private MvgIntSubject(int[] elements) {
+            set = IntSet.of(elements);
+        }
+
+        @Override
+        public boolean contains(int e) {
+            return set.contains(e);
+        }
+
+        @Override
+        public Object add(int e) {
+            return set.add(e);
+        }
+
+        @Override
+        public Object remove(int e) {
+            return set.remove(e);
+        }
+    }
+
+    private static final class JavaSubject implements Subject {
+        private final HashSet<Integer> set = new HashSet<>();
+
+        private JavaSubject(int[] elements) {
+            for (int e : elements) {
+                set.add(e);
+            }
+        }
+
+        @Override
+        public boolean contains(int e) {
+            return set.contains(e);
+        }
+
+        @Override
+        public Object add(int e) {
+            return set.add(e) && set.remove(e);
+        }
+
+        @Override
+        public Object remove(int e) {
+            return set.remove(e) && set.add(e);
+        }
+    }
+
+    private static final class GuavaSubject implements Subject {
+        private final ImmutableSet<Integer> set;
+
+        private GuavaSubject(int[] elements) {
+            ImmutableSet.Builder<Integer> builder = ImmutableSet.builderWithExpectedSize(elements.length);
+            for (int e : elements) {
+                builder.add(e);
+            }
+            set = builder.build();
+        }
+
+        @Override
+        public boolean contains(int e) {
+            return set.contains(e);
+        }
+
+        @Override
+        public Object add(int e) {
+            return ImmutableSet.<Integer> builderWithExpectedSize(set.size() + 1).addAll(set).add(e).build();
+        }
+
+        @Override
+        public Object remove(int e) {
+            ImmutableSet.Builder<Integer> builder = ImmutableSet.builderWithExpectedSize(set.size());
+            for (Integer i : set) {
+                if (i != e) {
+                    builder.add(i);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private static final class PSubject implements Subject {
+        private final PSet<Integer> set;
+
+        private PSubject(int[] elements) {
+            PSet<Integer> s = HashTreePSet.empty();
+            for (int e : elements) {
+                s = s.plus(e);
+            }
+            set = s;
+        }
+
+        @Override
+        public boolean contains(int e) {
+            return set.contains(e);
+        }
+
+        @Override
+        public Object add(int e) {
+            return set.plus(e);
+        }
+
+        @Override
+        public Object remove(int e) {
+            return set.minus(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.benchmarks;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Base state of all benchmarks. The tuning parameters of the collections are read from system properties when the
+ * implementation classes are initialized, so they are set here before any collection is created. This only works
+ * because every parameter combination runs in its own forked JVM, never run these benchmarks with zero forks.
+ */
+@State(Scope.Benchmark)
+public abstract class TuningState {
+    protected static final long SEED = 267835244387707587L;
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int                  size;
+
+    protected static void tune(String property, int value) {
+        System.setProperty(property, Integer.toString(value));
+    }
+
+    protected static int[] distinctInts(int size, Random random) {
+        java.util.Set<Integer> seen   = new java.util.HashSet<>(size * 2);
+        int[]                  result = new int[size];
+        for (int i = 0; i < size;) {
+            int r = random.nextInt(Integer.MAX_VALUE);
+            if (seen.add(r)) {
+                result[i++] = r;
+            }
+        }
+        return result;
+    }
+
+    protected static int[] probes(int[] elements, int nr, Random random) {
+        int[] result = new int[nr];
+        for (int i = 0; i < nr; i++) {
+            result[i] = elements[random.nextInt(elements.length)];
+        }
+        return result;
+    }
+
+    protected static int[] misses(int nr, Random random) {
+        int[] result = new int[nr];
+        for (int i = 0; i < nr; i++) {
+            result[i] = -1 - random.nextInt(Integer.MAX_VALUE);
+        }
+        return result;
+    }
+}
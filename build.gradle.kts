@@ -46,3 +46,24 @@ tasks.withType(JavaCompile::class) {
     options.compilerArgs.add("-Xlint:unchecked")
     options.compilerArgs.add("-Xlint:deprecation")
 }
+
+val cachedKeyHashesTest by tasks.registering(Test::class) {
+    description = "Runs the hash collection tests with CACHE_KEY_HASHES on."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = tasks.test.get().testClassesDirs
+    classpath = tasks.test.get().classpath
+    maxHeapSize = "3g"
+    useJUnitPlatform()
+    systemProperty("CACHE_KEY_HASHES", "true")
+    filter {
+        includeTestsMatching("org.modelingvalue.collections.test.SetTest")
+        includeTestsMatching("org.modelingvalue.collections.test.MapTest")
+        includeTestsMatching("org.modelingvalue.collections.test.QualifiedSetTest")
+        includeTestsMatching("org.modelingvalue.collections.test.DefaultMapTest")
+        includeTestsMatching("org.modelingvalue.collections.test.TransientTest")
+        includeTestsMatching("org.modelingvalue.collections.test.SerializeTest")
+    }
+}
+tasks.test {
+    finalizedBy(cachedKeyHashesTest)
+}
@@ -21,4 +21,5 @@
 rootProject.name = "immutable-collections"
 
 include("generator")
+include("benchmarks")
 
@@ -20,9 +20,11 @@
 
 package org.modelingvalue.collections;
 
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 import org.modelingvalue.collections.impl.DirGraphImpl;
+import org.modelingvalue.collections.util.ContextPool;
 import org.modelingvalue.collections.util.Pair;
 import org.modelingvalue.collections.util.TriFunction;
 
@@ -140,6 +142,12 @@ public interface Dag<N> extends DirGraph<N> {
 
     Dag<N> mergeEnd(Set<Dag<N>> branches);
 
+    /**
+     * Runs {@code action} for every node in {@code pool}, with the results of the predecessors of the node, and runs
+     * all nodes of which the predecessors are done at the same time. Returns the results of all nodes.
+     */
+    <A> Map<N, A> topological(ContextPool pool, BiFunction<N, Map<N, A>, A> action);
+
     @Override
     default Dag<N> removeAll(Predicate<? super Vertex<N>> predicate) {
         return (Dag<N>) DirGraph.super.removeAll(predicate);
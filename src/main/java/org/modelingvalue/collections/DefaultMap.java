@@ -25,6 +25,7 @@ import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 
 import org.modelingvalue.collections.impl.DefaultMapImpl;
+import org.modelingvalue.collections.util.MergeResult;
 import org.modelingvalue.collections.util.Mergeable;
 import org.modelingvalue.collections.util.Pair;
 import org.modelingvalue.collections.util.QuadFunction;
@@ -95,6 +96,19 @@ public interface DefaultMap<K, V> extends ContainingCollection<Entry<K, V>>, Mer
 
     DefaultMap<K, V> merge(QuadFunction<K, V, V[], Integer, V> merger, DefaultMap<K, V>[] branches, int length);
 
+    /**
+     * Merges the branches into this base in one pass, like {@link #merge(Object[], int)}, and reports the keys that
+     * several branches changed differently. Conflicting values are merged when they are {@link Mergeable}, otherwise
+     * the base value is kept.
+     */
+    default MergeResult<DefaultMap<K, V>, K, V> mergeWithConflicts(DefaultMap<K, V>[] branches, int length) {
+        return MergeResult.of(merger -> merge(merger, branches, length));
+    }
+
+    default MergeResult<DefaultMap<K, V>, K, V> mergeWithConflicts(DefaultMap<K, V>[] branches) {
+        return mergeWithConflicts(branches, branches.length);
+    }
+
     @Override
     DefaultMap<K, V> remove(Object e);
 
@@ -110,8 +124,17 @@ public interface DefaultMap<K, V> extends ContainingCollection<Entry<K, V>>, Mer
     @Override
     DefaultMap<K, V> addAll(Collection<? extends Entry<K, V>> es);
 
+    /**
+     * The entries that differ from {@code other}, as the value here and the value there, the default value if the key
+     * is absent. Computed lazily, skipping the parts both maps share.
+     */
     Collection<Entry<K, Pair<V, V>>> diff(DefaultMap<K, V> other);
 
+    /**
+     * The number of entries {@link #diff(DefaultMap)} returns, counted without creating them.
+     */
+    int diffCount(DefaultMap<K, V> other);
+
     SerializableFunction<K, V> defaultFunction();
 
     void forEach(BiConsumer<K, V> action);
@@ -81,6 +81,23 @@ public interface DirGraph<N> extends ContainingCollection<Vertex<N>>, Mergeable<
 
     List<Pair<N, N>> invTopologicalEdges();
 
+    /**
+     * The position of {@code node} in {@link #topologicalNodes()}, or -1 if it is not in this graph.
+     */
+    int topologicalIndex(N node);
+
+    /**
+     * The strongly connected component of {@code node}: the nodes that are on a cycle with it, and the node itself. Empty
+     * if the node is not in this graph.
+     */
+    Set<N> scc(N node);
+
+    /**
+     * A compact read-only snapshot of this graph, for running many queries and traversals over a graph that does not
+     * change. {@link FrozenDirGraph#thaw()} gives an equal graph back.
+     */
+    FrozenDirGraph<N> freeze();
+
     <A> A dfsNodes(A acc, BiFunction<A, N, A> func);
 
     <A> A invDfsNodes(A acc, BiFunction<A, N, A> func);
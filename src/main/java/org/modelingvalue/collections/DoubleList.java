@@ -0,0 +1,99 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+import org.modelingvalue.collections.impl.DoubleListImpl;
+
+/**
+ * An immutable list of unboxed doubles. Its hash code is the one of the equal {@link java.util.List} of Doubles.
+ */
+public interface DoubleList extends Serializable {
+    static DoubleList of() {
+        return DoubleListImpl.EMPTY;
+    }
+
+    static DoubleList of(double... elements) {
+        return elements.length == 0 ? DoubleListImpl.EMPTY : new DoubleListImpl(elements);
+    }
+
+    static DoubleList of(DoubleStream stream) {
+        return of(stream.toArray());
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    double get(int index);
+
+    double first();
+
+    double last();
+
+    DoubleList append(double e);
+
+    DoubleList prepend(double e);
+
+    DoubleList insert(int position, double e);
+
+    DoubleList replace(int position, double e);
+
+    DoubleList appendList(DoubleList list);
+
+    DoubleList insertList(int position, DoubleList list);
+
+    DoubleList sublist(int begin, int end);
+
+    DoubleList removeList(int begin, int end);
+
+    int firstIndexOf(double e);
+
+    boolean contains(double e);
+
+    /**
+     * The index of {@code key} in this list, which must be sorted, or {@code -(insertion point) - 1}.
+     */
+    int binarySearch(double key);
+
+    double sum();
+
+    OptionalDouble min();
+
+    OptionalDouble max();
+
+    DoubleList clear();
+
+    void forEach(DoubleConsumer action);
+
+    PrimitiveIterator.OfDouble iterator();
+
+    DoubleStream stream();
+
+    double[] toArray();
+
+    List<Double> toList();
+}
@@ -0,0 +1,60 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.function.BiFunction;
+
+/**
+ * A read-only snapshot of a {@link DirGraph}, made by {@link DirGraph#freeze()}. The nodes are numbered and the edges are
+ * kept in compressed sparse row form ({@code int} offsets and targets per direction), which is far more compact than the
+ * vertex sets of the graph and lets traversals run over plain arrays. The queries give the same answers as on the graph
+ * that was frozen; {@link #thaw()} gives an editable graph back.
+ */
+public interface FrozenDirGraph<N> extends Serializable {
+
+    int size();
+
+    List<N> nodes();
+
+    boolean containsNode(N node);
+
+    boolean containsEdge(N from, N to);
+
+    Set<N> ins(N node);
+
+    Set<N> outs(N node);
+
+    Set<N> begin();
+
+    Set<N> end();
+
+    <A> A dfsNodes(A acc, BiFunction<A, N, A> func);
+
+    <A> A invDfsNodes(A acc, BiFunction<A, N, A> func);
+
+    List<N> topologicalNodes();
+
+    List<N> invTopologicalNodes();
+
+    DirGraph<N> thaw();
+
+}
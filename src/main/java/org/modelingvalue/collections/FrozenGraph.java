@@ -0,0 +1,76 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+
+/**
+ * A read-only snapshot of a {@link Graph}, made by {@link Graph#freeze()}. The vertices are numbered and the edges are
+ * kept in compressed sparse row form ({@code int} offsets and targets, with the edge weights alongside), instead of the
+ * nested maps of the graph. The queries give the same answers as the corresponding methods of {@link Graph};
+ * {@link #thaw()} gives an editable graph back.
+ *
+ * @param <V>
+ *            the type of vertices in this graph
+ * @param <E>
+ *            the type of edge weights in this graph
+ */
+public interface FrozenGraph<V, E> extends Serializable {
+
+    /**
+     * Returns the number of edges in this graph.
+     *
+     * @return the number of edges in this graph
+     */
+    int size();
+
+    Set<V> getNodes();
+
+    boolean containsNode(V node);
+
+    boolean containsEdge(V src, V dst, E val);
+
+    Set<E> getEdges(V src, V dst);
+
+    DefaultMap<E, Set<V>> getIncoming(V node);
+
+    Set<V> getIncoming(V node, E val);
+
+    DefaultMap<E, Set<V>> getOutgoing(V node);
+
+    Set<V> getOutgoing(V node, E val);
+
+    Set<E> getIncomingEdges(V node);
+
+    Set<E> getOutgoingEdges(V node);
+
+    Set<V> getIncomingNodes(V node);
+
+    Set<V> getOutgoingNodes(V node);
+
+    /**
+     * Returns an editable graph with the same edges as this snapshot.
+     *
+     * @return the thawed graph
+     */
+    Graph<V, E> thaw();
+
+}
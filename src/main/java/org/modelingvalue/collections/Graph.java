@@ -20,7 +20,9 @@
 
 package org.modelingvalue.collections;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.function.Predicate;
 
 import org.modelingvalue.collections.impl.GraphImpl;
@@ -274,35 +276,38 @@ public interface Graph<V, E> extends ContainingCollection<Triple<V, E, V>>, Merg
      *             if any of the predicates are null
      */
     default boolean hasCycles(Predicate<V> nodePredicate, Predicate<Triple<V, E, V>> edgePredicate) {
-        HashSet<V> safe = new HashSet<>();
-        HashSet<V> visited = new HashSet<>();
-
+        // absent: not visited yet, FALSE: on the current path, TRUE: done, no cycle reachable
+        HashMap<V, Boolean> state = new HashMap<>();
+        ArrayList<V> path = new ArrayList<>();
+        ArrayList<Iterator<V>> nexts = new ArrayList<>();
         for (V node : getNodes()) {
-            if (cycleDetectionHelper(nodePredicate, edgePredicate, safe, visited, node)) {
-                return true;
+            if (state.putIfAbsent(node, Boolean.FALSE) != null) {
+                continue;
             }
-
-            safe.addAll(visited);
-            visited = new HashSet<>();
-        }
-
-        return false;
-    }
-
-    private boolean cycleDetectionHelper(Predicate<V> nodePredicate, Predicate<Triple<V, E, V>> edgePredicate, HashSet<V> safe, HashSet<V> visited, V curr) {
-        if (safe.contains(curr))
-            return false;
-        if (visited.contains(curr))
-            return true;
-        visited.add(curr);
-
-        for (V next : getOutgoingNodes(curr)) {
-            if (nodePredicate.test(next) && getEdges(curr, next).anyMatch(e -> edgePredicate.test(Triple.of(curr, e, next))) && cycleDetectionHelper(nodePredicate, edgePredicate, safe, visited, next)) {
-                return true;
+            path.add(node);
+            nexts.add(getOutgoingNodes(node).iterator());
+            while (!path.isEmpty()) {
+                int top = path.size() - 1;
+                V curr = path.get(top);
+                Iterator<V> it = nexts.get(top);
+                if (!it.hasNext()) {
+                    state.put(curr, Boolean.TRUE);
+                    path.remove(top);
+                    nexts.remove(top);
+                } else {
+                    V next = it.next();
+                    if (nodePredicate.test(next) && getEdges(curr, next).anyMatch(e -> edgePredicate.test(Triple.of(curr, e, next)))) {
+                        Boolean s = state.putIfAbsent(next, Boolean.FALSE);
+                        if (s == null) {
+                            path.add(next);
+                            nexts.add(getOutgoingNodes(next).iterator());
+                        } else if (!s) {
+                            return true;
+                        }
+                    }
+                }
             }
         }
-
-        visited.remove(curr);
         return false;
     }
 
@@ -314,6 +319,14 @@ public interface Graph<V, E> extends ContainingCollection<Triple<V, E, V>>, Merg
      */
     Graph<V, E> inverted();
 
+    /**
+     * Returns a compact read-only snapshot of this graph, for running many queries over a graph
+     * that does not change. {@link FrozenGraph#thaw()} gives an equal graph back.
+     *
+     * @return a frozen snapshot of this graph
+     */
+    FrozenGraph<V, E> freeze();
+
     /**
      * Removes the specified edge and returns the updated graph. If either vertex from the edge has
      * no other edges connected to it after the removal, that vertex is also removed. If no
@@ -0,0 +1,99 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.modelingvalue.collections.impl.IntListImpl;
+
+/**
+ * An immutable list of unboxed ints. Its hash code is the one of the equal {@link java.util.List} of Integers.
+ */
+public interface IntList extends Serializable {
+    static IntList of() {
+        return IntListImpl.EMPTY;
+    }
+
+    static IntList of(int... elements) {
+        return elements.length == 0 ? IntListImpl.EMPTY : new IntListImpl(elements);
+    }
+
+    static IntList of(IntStream stream) {
+        return of(stream.toArray());
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    int get(int index);
+
+    int first();
+
+    int last();
+
+    IntList append(int e);
+
+    IntList prepend(int e);
+
+    IntList insert(int position, int e);
+
+    IntList replace(int position, int e);
+
+    IntList appendList(IntList list);
+
+    IntList insertList(int position, IntList list);
+
+    IntList sublist(int begin, int end);
+
+    IntList removeList(int begin, int end);
+
+    int firstIndexOf(int e);
+
+    boolean contains(int e);
+
+    /**
+     * The index of {@code key} in this list, which must be sorted, or {@code -(insertion point) - 1}.
+     */
+    int binarySearch(int key);
+
+    long sum();
+
+    OptionalInt min();
+
+    OptionalInt max();
+
+    IntList clear();
+
+    void forEach(IntConsumer action);
+
+    PrimitiveIterator.OfInt iterator();
+
+    IntStream stream();
+
+    int[] toArray();
+
+    List<Integer> toList();
+}
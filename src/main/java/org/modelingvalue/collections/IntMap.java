@@ -0,0 +1,71 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.function.IntPredicate;
+
+import org.modelingvalue.collections.impl.IntMapImpl;
+
+/**
+ * An immutable map from unboxed ints to values. Iterates in unsigned order of the keys.
+ */
+public interface IntMap<V> extends Serializable {
+    @SuppressWarnings("unchecked")
+    static <V> IntMap<V> of() {
+        return IntMapImpl.EMPTY;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(int key);
+
+    V get(int key);
+
+    V getOrDefault(int key, V defaultValue);
+
+    IntMap<V> put(int key, V value);
+
+    IntMap<V> removeKey(int key);
+
+    IntMap<V> putAll(IntMap<? extends V> c);
+
+    IntMap<V> removeAllKey(IntSet c);
+
+    IntMap<V> filter(IntPredicate keyPredicate);
+
+    IntMap<V> clear();
+
+    void forEach(EntryConsumer<? super V> action);
+
+    IntSet keys();
+
+    Collection<V> values();
+
+    Map<Integer, V> toMap();
+}
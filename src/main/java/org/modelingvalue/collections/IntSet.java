@@ -0,0 +1,78 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.modelingvalue.collections.impl.IntSetImpl;
+
+/**
+ * An immutable set of unboxed ints. Iterates in unsigned order of the ints.
+ */
+public interface IntSet extends Serializable {
+    static IntSet of() {
+        return IntSetImpl.EMPTY;
+    }
+
+    static IntSet of(int... elements) {
+        return elements.length == 0 ? IntSetImpl.EMPTY : new IntSetImpl(elements);
+    }
+
+    static IntSet of(IntStream stream) {
+        return of(stream.toArray());
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean contains(int e);
+
+    boolean containsAll(IntSet c);
+
+    IntSet add(int e);
+
+    IntSet remove(int e);
+
+    IntSet addAll(IntSet c);
+
+    IntSet removeAll(IntSet c);
+
+    IntSet retainAll(IntSet c);
+
+    IntSet filter(IntPredicate predicate);
+
+    IntSet clear();
+
+    void forEach(IntConsumer action);
+
+    PrimitiveIterator.OfInt iterator();
+
+    IntStream stream();
+
+    int[] toArray();
+
+    Set<Integer> toSet();
+}
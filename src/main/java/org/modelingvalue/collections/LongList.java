@@ -0,0 +1,99 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import org.modelingvalue.collections.impl.LongListImpl;
+
+/**
+ * An immutable list of unboxed longs. Its hash code is the one of the equal {@link java.util.List} of Longs.
+ */
+public interface LongList extends Serializable {
+    static LongList of() {
+        return LongListImpl.EMPTY;
+    }
+
+    static LongList of(long... elements) {
+        return elements.length == 0 ? LongListImpl.EMPTY : new LongListImpl(elements);
+    }
+
+    static LongList of(LongStream stream) {
+        return of(stream.toArray());
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    long get(int index);
+
+    long first();
+
+    long last();
+
+    LongList append(long e);
+
+    LongList prepend(long e);
+
+    LongList insert(int position, long e);
+
+    LongList replace(int position, long e);
+
+    LongList appendList(LongList list);
+
+    LongList insertList(int position, LongList list);
+
+    LongList sublist(int begin, int end);
+
+    LongList removeList(int begin, int end);
+
+    int firstIndexOf(long e);
+
+    boolean contains(long e);
+
+    /**
+     * The index of {@code key} in this list, which must be sorted, or {@code -(insertion point) - 1}.
+     */
+    int binarySearch(long key);
+
+    long sum();
+
+    OptionalLong min();
+
+    OptionalLong max();
+
+    LongList clear();
+
+    void forEach(LongConsumer action);
+
+    PrimitiveIterator.OfLong iterator();
+
+    LongStream stream();
+
+    long[] toArray();
+
+    List<Long> toList();
+}
@@ -0,0 +1,78 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.io.Serializable;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import org.modelingvalue.collections.impl.LongSetImpl;
+
+/**
+ * An immutable set of unboxed longs.
+ */
+public interface LongSet extends Serializable {
+    static LongSet of() {
+        return LongSetImpl.EMPTY;
+    }
+
+    static LongSet of(long... elements) {
+        return elements.length == 0 ? LongSetImpl.EMPTY : new LongSetImpl(elements);
+    }
+
+    static LongSet of(LongStream stream) {
+        return of(stream.toArray());
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean contains(long e);
+
+    boolean containsAll(LongSet c);
+
+    LongSet add(long e);
+
+    LongSet remove(long e);
+
+    LongSet addAll(LongSet c);
+
+    LongSet removeAll(LongSet c);
+
+    LongSet retainAll(LongSet c);
+
+    LongSet filter(LongPredicate predicate);
+
+    LongSet clear();
+
+    void forEach(LongConsumer action);
+
+    PrimitiveIterator.OfLong iterator();
+
+    LongStream stream();
+
+    long[] toArray();
+
+    Set<Long> toSet();
+}
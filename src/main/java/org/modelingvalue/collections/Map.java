@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 
 import org.modelingvalue.collections.impl.MapImpl;
 import org.modelingvalue.collections.mutable.MutableMap;
+import org.modelingvalue.collections.util.MergeResult;
 import org.modelingvalue.collections.util.Mergeable;
 import org.modelingvalue.collections.util.Pair;
 import org.modelingvalue.collections.util.QuadFunction;
@@ -107,6 +108,19 @@ public interface Map<K, V> extends ContainingCollection<Entry<K, V>>, Mergeable<
 
     Map<K, V> merge(QuadFunction<K, V, V[], Integer, V> merger, Map<K, V>[] branches, int length);
 
+    /**
+     * Merges the branches into this base in one pass, like {@link #merge(Object[], int)}, and reports the keys that
+     * several branches changed differently. Conflicting values are merged when they are {@link Mergeable}, otherwise
+     * the base value is kept.
+     */
+    default MergeResult<Map<K, V>, K, V> mergeWithConflicts(Map<K, V>[] branches, int length) {
+        return MergeResult.of(merger -> merge(merger, branches, length));
+    }
+
+    default MergeResult<Map<K, V>, K, V> mergeWithConflicts(Map<K, V>[] branches) {
+        return mergeWithConflicts(branches, branches.length);
+    }
+
     @Override
     Map<K, V> remove(Object e);
 
@@ -122,8 +136,23 @@ public interface Map<K, V> extends ContainingCollection<Entry<K, V>>, Mergeable<
     @Override
     Map<K, V> addAll(Collection<? extends Entry<K, V>> es);
 
+    /**
+     * The entries that differ from {@code other}, as the value here and the value there, null if the key is absent.
+     * Computed lazily, skipping the parts both maps share.
+     */
     Collection<Entry<K, Pair<V, V>>> diff(Map<K, V> other);
 
+    /**
+     * The number of entries {@link #diff(Map)} returns, counted without creating them.
+     */
+    int diffCount(Map<K, V> other);
+
+    /**
+     * An equal map that shares its internal nodes with the other interned maps, so that equal parts of independently
+     * built maps are held in memory only once.
+     */
+    Map<K, V> intern();
+
     void forEach(BiConsumer<K, V> action);
 
     @Override
@@ -133,6 +162,8 @@ public interface Map<K, V> extends ContainingCollection<Entry<K, V>>, Mergeable<
 
     java.util.Map<K, V> toConcurrent();
 
+    TransientMap<K, V> transientCopy();
+
     static <S, E> Map<S, E> fromMutable(java.util.Map<S, E> mutable) {
         return mutable instanceof MutableMap ? ((MutableMap<S, E>) mutable).toImmutable() : Collection.of(mutable.entrySet()).asMap(e -> Entry.of(e.getKey(), e.getValue()));
     }
@@ -0,0 +1,57 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.modelingvalue.collections.impl.MappedMapImpl;
+
+/**
+ * An immutable map that lives in a memory mapped file. Lookups read the trie in the file directly, without loading
+ * the map on the heap. {@link #asMap()} loads it as a normal {@link Map}, and {@link #append(Map)} adds a new version
+ * to the file, that only writes the nodes that are not in the file yet.
+ * <p>
+ * Lookups depend on the hash codes of the keys, so these should be the same in the writing and the reading process.
+ */
+public interface MappedMap<K, V> extends AutoCloseable {
+    static <K, V> MappedMap<K, V> create(Path path, Map<K, V> map) throws IOException {
+        return MappedMapImpl.create(path, map);
+    }
+
+    static <K, V> MappedMap<K, V> open(Path path) throws IOException {
+        return MappedMapImpl.open(path);
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(K key);
+
+    V get(K key);
+
+    Map<K, V> asMap();
+
+    MappedMap<K, V> append(Map<K, V> map) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
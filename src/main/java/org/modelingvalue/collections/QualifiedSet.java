@@ -23,6 +23,7 @@ package org.modelingvalue.collections;
 import java.util.function.Predicate;
 
 import org.modelingvalue.collections.impl.QualifiedSetImpl;
+import org.modelingvalue.collections.util.MergeResult;
 import org.modelingvalue.collections.util.Mergeable;
 import org.modelingvalue.collections.util.QuadFunction;
 import org.modelingvalue.collections.util.SerializableFunction;
@@ -79,6 +80,19 @@ public interface QualifiedSet<K, V> extends ContainingCollection<V>, Mergeable<Q
 
     QualifiedSet<K, V> merge(QuadFunction<K, V, V[], Integer, V> merger, QualifiedSet<K, V>[] branches, int length);
 
+    /**
+     * Merges the branches into this base in one pass, like {@link #merge(Object[], int)}, and reports the keys that
+     * several branches changed differently. Conflicting values are merged when they are {@link Mergeable}, otherwise
+     * the base value is kept.
+     */
+    default MergeResult<QualifiedSet<K, V>, K, V> mergeWithConflicts(QualifiedSet<K, V>[] branches, int length) {
+        return MergeResult.of(merger -> merge(merger, branches, length));
+    }
+
+    default MergeResult<QualifiedSet<K, V>, K, V> mergeWithConflicts(QualifiedSet<K, V>[] branches) {
+        return mergeWithConflicts(branches, branches.length);
+    }
+
     @Override
     QualifiedSet<K, V> remove(Object e);
 
@@ -26,6 +26,7 @@ import java.util.function.Predicate;
 import org.modelingvalue.collections.impl.SetImpl;
 import org.modelingvalue.collections.mutable.MutableSet;
 import org.modelingvalue.collections.util.Mergeable;
+import org.modelingvalue.collections.util.Pair;
 
 public interface Set<T> extends ContainingCollection<T>, Mergeable<Set<T>> {
     @SuppressWarnings("unchecked")
@@ -55,6 +56,23 @@ public interface Set<T> extends ContainingCollection<T>, Mergeable<Set<T>> {
 
     boolean containsAll(Collection<?> c);
 
+    /**
+     * The elements that are only here, as pairs with a null second, and the ones that are only in {@code other}, as
+     * pairs with a null first. Computed lazily, skipping the parts both sets share.
+     */
+    Collection<Pair<T, T>> diff(Set<T> other);
+
+    /**
+     * The number of pairs {@link #diff(Set)} returns, counted without creating them.
+     */
+    int diffCount(Set<T> other);
+
+    /**
+     * An equal set that shares its internal nodes with the other interned sets, so that equal parts of independently
+     * built sets are held in memory only once.
+     */
+    Set<T> intern();
+
     @Override
     Set<T> replace(Object pre, T post);
 
@@ -88,6 +106,8 @@ public interface Set<T> extends ContainingCollection<T>, Mergeable<Set<T>> {
 
     java.util.Set<T> toConcurrent();
 
+    TransientSet<T> transientCopy();
+
     static <E> Set<E> fromMutable(java.util.Collection<E> mutable) {
         return mutable instanceof MutableSet ? ((MutableSet<E>) mutable).toImmutable() : Collection.of(mutable).asSet();
     }
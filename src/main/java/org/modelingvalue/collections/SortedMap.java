@@ -0,0 +1,155 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import org.modelingvalue.collections.impl.SortedMapImpl;
+import org.modelingvalue.collections.util.Mergeable;
+import org.modelingvalue.collections.util.Pair;
+
+/**
+ * A map that keeps its entries ordered by key, using a {@link Comparator} or the natural order of the keys. Iteration,
+ * {@link #get(int)} and {@link #index(Object)} follow that order, and the spliterators split by key range.
+ */
+public interface SortedMap<K, V> extends ContainingCollection<Entry<K, V>>, Mergeable<SortedMap<K, V>> {
+
+    @SuppressWarnings("unchecked")
+    static <K, V> SortedMap<K, V> of() {
+        return SortedMapImpl.EMPTY;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <K, V> SortedMap<K, V> of(Entry<K, V>... entries) {
+        return entries.length == 0 ? SortedMapImpl.EMPTY : new SortedMapImpl<>(null, entries);
+    }
+
+    static <K, V> SortedMap<K, V> of(Comparator<? super K> comparator) {
+        return new SortedMapImpl<>(comparator, null);
+    }
+
+    Comparator<? super K> comparator();
+
+    boolean containsKey(K key);
+
+    V get(K key);
+
+    Entry<K, V> getEntry(K key);
+
+    SortedMap<K, V> put(K key, V value);
+
+    SortedMap<K, V> put(Entry<K, V> entry);
+
+    SortedMap<K, V> removeKey(K key);
+
+    Entry<K, V> firstEntry();
+
+    Entry<K, V> lastEntry();
+
+    /**
+     * The entry with the greatest key not greater than {@code key}, or null.
+     */
+    Entry<K, V> floorEntry(K key);
+
+    /**
+     * The entry with the least key not less than {@code key}, or null.
+     */
+    Entry<K, V> ceilingEntry(K key);
+
+    /**
+     * The entry with the greatest key less than {@code key}, or null.
+     */
+    Entry<K, V> lowerEntry(K key);
+
+    /**
+     * The entry with the least key greater than {@code key}, or null.
+     */
+    Entry<K, V> higherEntry(K key);
+
+    default K floorKey(K key) {
+        Entry<K, V> e = floorEntry(key);
+        return e != null ? e.getKey() : null;
+    }
+
+    default K ceilingKey(K key) {
+        Entry<K, V> e = ceilingEntry(key);
+        return e != null ? e.getKey() : null;
+    }
+
+    /**
+     * The number of keys less than {@code key}. The entry of a given rank is {@link #get(int)}.
+     */
+    int rank(K key);
+
+    SortedMap<K, V> subMap(K from, boolean fromInclusive, K to, boolean toInclusive);
+
+    default SortedMap<K, V> subMap(K from, K to) {
+        return subMap(from, true, to, false);
+    }
+
+    SortedMap<K, V> headMap(K to, boolean inclusive);
+
+    default SortedMap<K, V> headMap(K to) {
+        return headMap(to, false);
+    }
+
+    SortedMap<K, V> tailMap(K from, boolean inclusive);
+
+    default SortedMap<K, V> tailMap(K from) {
+        return tailMap(from, true);
+    }
+
+    Collection<K> toKeys();
+
+    Collection<V> toValues();
+
+    Collection<Entry<K, Pair<V, V>>> diff(SortedMap<K, V> other);
+
+    @Override
+    SortedMap<K, V> add(Entry<K, V> e);
+
+    @Override
+    SortedMap<K, V> addAll(Collection<? extends Entry<K, V>> es);
+
+    @Override
+    SortedMap<K, V> remove(Object e);
+
+    @Override
+    SortedMap<K, V> removeAll(Collection<?> e);
+
+    @Override
+    SortedMap<K, V> replace(Object pre, Entry<K, V> post);
+
+    @Override
+    SortedMap<K, V> clear();
+
+    @Override
+    default SortedMap<K, V> removeAll(Predicate<? super Entry<K, V>> predicate) {
+        return (SortedMap<K, V>) ContainingCollection.super.removeAll(predicate);
+    }
+
+    @Override
+    default SortedMap<K, V> retainAll(Predicate<? super Entry<K, V>> predicate) {
+        return (SortedMap<K, V>) ContainingCollection.super.retainAll(predicate);
+    }
+}
@@ -0,0 +1,134 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import org.modelingvalue.collections.impl.SortedSetImpl;
+import org.modelingvalue.collections.util.Mergeable;
+
+/**
+ * A set that keeps its elements ordered by a {@link Comparator}, or by their natural order. Iteration, {@link #get(int)}
+ * and {@link #index(Object)} follow that order, and the spliterators split by key range.
+ */
+public interface SortedSet<T> extends ContainingCollection<T>, Mergeable<SortedSet<T>> {
+
+    @SuppressWarnings("unchecked")
+    static <T> SortedSet<T> of() {
+        return SortedSetImpl.EMPTY;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <T> SortedSet<T> of(T... elements) {
+        return elements.length == 0 ? SortedSetImpl.EMPTY : new SortedSetImpl<>(null, elements);
+    }
+
+    static <T> SortedSet<T> of(Comparator<? super T> comparator) {
+        return new SortedSetImpl<>(comparator, null);
+    }
+
+    static <T> SortedSet<T> of(Comparator<? super T> comparator, java.util.Collection<? extends T> coll) {
+        return new SortedSetImpl<>(comparator, coll.toArray());
+    }
+
+    Comparator<? super T> comparator();
+
+    T first();
+
+    T last();
+
+    /**
+     * The greatest element not greater than {@code e}, or null.
+     */
+    T floor(T e);
+
+    /**
+     * The least element not less than {@code e}, or null.
+     */
+    T ceiling(T e);
+
+    /**
+     * The greatest element less than {@code e}, or null.
+     */
+    T lower(T e);
+
+    /**
+     * The least element greater than {@code e}, or null.
+     */
+    T higher(T e);
+
+    /**
+     * The number of elements less than {@code e}. The element of a given rank is {@link #get(int)}.
+     */
+    int rank(T e);
+
+    SortedSet<T> subSet(T from, boolean fromInclusive, T to, boolean toInclusive);
+
+    default SortedSet<T> subSet(T from, T to) {
+        return subSet(from, true, to, false);
+    }
+
+    SortedSet<T> headSet(T to, boolean inclusive);
+
+    default SortedSet<T> headSet(T to) {
+        return headSet(to, false);
+    }
+
+    SortedSet<T> tailSet(T from, boolean inclusive);
+
+    default SortedSet<T> tailSet(T from) {
+        return tailSet(from, true);
+    }
+
+    boolean containsAll(Collection<?> c);
+
+    @Override
+    SortedSet<T> add(T e);
+
+    @Override
+    SortedSet<T> addAll(Collection<? extends T> c);
+
+    @Override
+    SortedSet<T> remove(Object e);
+
+    @Override
+    SortedSet<T> removeAll(Collection<?> c);
+
+    SortedSet<T> retainAll(Collection<?> c);
+
+    @Override
+    SortedSet<T> replace(Object pre, T post);
+
+    @Override
+    SortedSet<T> clear();
+
+    @Override
+    default SortedSet<T> removeAll(Predicate<? super T> predicate) {
+        return (SortedSet<T>) ContainingCollection.super.removeAll(predicate);
+    }
+
+    @Override
+    default SortedSet<T> retainAll(Predicate<? super T> predicate) {
+        return (SortedSet<T>) ContainingCollection.super.retainAll(predicate);
+    }
+}
@@ -0,0 +1,676 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.Graph;
+import org.modelingvalue.collections.IntSet;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.LongSet;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.QualifiedSet;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.Vertex;
+import org.modelingvalue.collections.util.Deserializer;
+import org.modelingvalue.collections.util.NotDeserializableError;
+import org.modelingvalue.collections.util.NotSerializableError;
+import org.modelingvalue.collections.util.Pair;
+import org.modelingvalue.collections.util.SerializableFunction;
+import org.modelingvalue.collections.util.Serializer;
+import org.modelingvalue.collections.util.Triple;
+
+/**
+ * A compact binary format for the immutable collections. Sizes and integral numbers are written as (zigzag) varints,
+ * boxed primitives and strings get a one byte type tag, and strings and collections that occur more than once
+ * are written once and referred back to. Element types can be given their own {@link ElementCodec}.
+ * All other objects fall back to java serialization.
+ * <p>
+ * Hash and list collections are written as their trie, node by node, and nodes that occur more than once are also
+ * referred back to. Within a session, see {@link #writer()} and {@link #reader()}, this holds over all objects written,
+ * so successive versions of a collection only cost the nodes they changed. The reader checks the trie structure
+ * against its own hash codes and rebuilds the nodes for which these differ.
+ * <p>
+ * Usable standalone with a {@link ByteBuffer}, see {@link #encode(Object)} and {@link #decode(ByteBuffer)}, and within a
+ * {@link Serializer}, where the fallback objects are written to the {@link Serializer} itself.
+ */
+public final class CollectionCodec {
+
+    /**
+     * Written instead of a size, to tell the compact format apart from a size followed by one object per element.
+     */
+    public static final int             COMPACT       = -1;
+
+    public static final CollectionCodec DEFAULT       = new CollectionCodec(new HashMap<>(), new ElementCodec<?>[0]);
+
+    private static final int            NULL          = 0;
+    private static final int            REF           = 1;
+    private static final int            FALSE         = 2;
+    private static final int            TRUE          = 3;
+    private static final int            INT           = 4;
+    private static final int            LONG          = 5;
+    private static final int            DOUBLE        = 6;
+    private static final int            FLOAT         = 7;
+    private static final int            SHORT         = 8;
+    private static final int            BYTE          = 9;
+    private static final int            CHAR          = 10;
+    private static final int            STRING        = 11;
+    private static final int            ENTRY         = 12;
+    private static final int            PAIR          = 13;
+    private static final int            TRIPLE        = 14;
+    private static final int            SET           = 15;
+    private static final int            LIST          = 16;
+    private static final int            MAP           = 17;
+    private static final int            DEFAULT_MAP   = 18;
+    private static final int            QUALIFIED_SET = 19;
+    private static final int            INT_SET       = 20;
+    private static final int            LONG_SET      = 21;
+    private static final int            DIR_GRAPH     = 22;
+    private static final int            DAG           = 23;
+    private static final int            GRAPH         = 24;
+    private static final int            CUSTOM        = 25;
+    private static final int            JAVA          = 26;
+    private static final int            NODE          = 27;
+    private static final int            NODE_REF      = 28;
+
+    /**
+     * Writes and reads the elements of one (exact) class.
+     */
+    public interface ElementCodec<T> {
+        void write(Writer writer, T element);
+
+        T read(Reader reader);
+    }
+
+    private final java.util.Map<Class<?>, Integer> ids;
+    private final ElementCodec<?>[]                codecs;
+
+    private CollectionCodec(java.util.Map<Class<?>, Integer> ids, ElementCodec<?>[] codecs) {
+        this.ids = ids;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Returns a codec that also uses the given codec for elements of the given class. Both sides of a stream
+     * must register the same codecs in the same order.
+     */
+    public <T> CollectionCodec with(Class<T> type, ElementCodec<T> codec) {
+        java.util.Map<Class<?>, Integer> newIds = new HashMap<>(ids);
+        newIds.put(type, codecs.length);
+        ElementCodec<?>[] newCodecs = Arrays.copyOf(codecs, codecs.length + 1);
+        newCodecs[codecs.length] = codec;
+        return new CollectionCodec(newIds, newCodecs);
+    }
+
+    /**
+     * Starts a writing session, that remembers all collections and nodes written. Read it back with one {@link #reader()},
+     * in the same order.
+     */
+    public Writer writer() {
+        return new Writer(this, null);
+    }
+
+    public Reader reader() {
+        return new Reader(this, ByteBuffer.allocate(0), null);
+    }
+
+    public ByteBuffer encode(Object o) {
+        Writer writer = new Writer(this, null);
+        writer.writeObject(o);
+        return ByteBuffer.wrap(writer.bytes, 0, writer.length);
+    }
+
+    public <T> T decode(ByteBuffer buffer) {
+        return new Reader(this, buffer, null).readObject();
+    }
+
+    /**
+     * Writes the {@link #COMPACT} marker, the encoded object and then the objects that fall back to java serialization.
+     */
+    public void write(Serializer s, Object o) {
+        java.util.List<Object> external = new ArrayList<>();
+        Writer writer = new Writer(this, external::add);
+        writer.writeObject(o);
+        flush(s, writer, external);
+    }
+
+    /**
+     * Reads what {@link #write(Serializer, Object)} wrote, after the {@link #COMPACT} marker.
+     */
+    public <T> T read(Deserializer s) {
+        byte[] bytes = s.readObject();
+        return new Reader(this, ByteBuffer.wrap(bytes), s::readObject).readObject();
+    }
+
+    /**
+     * Like {@link #write(Serializer, Object)}, for the elements of a collection.
+     */
+    public void writeElements(Serializer s, Iterable<?> elements, int size) {
+        java.util.List<Object> external = new ArrayList<>();
+        Writer writer = new Writer(this, external::add);
+        writer.writeVarInt(size);
+        for (Object e : elements) {
+            writer.writeObject(e);
+        }
+        flush(s, writer, external);
+    }
+
+    /**
+     * Reads what {@link #writeElements(Serializer, Iterable, int)} wrote, after the {@link #COMPACT} marker.
+     */
+    public Object[] readElements(Deserializer s) {
+        byte[] bytes = s.readObject();
+        Reader reader = new Reader(this, ByteBuffer.wrap(bytes), s::readObject);
+        return reader.readElements();
+    }
+
+    private static void flush(Serializer s, Writer writer, java.util.List<Object> external) {
+        s.writeInt(COMPACT);
+        s.writeObject(Arrays.copyOf(writer.bytes, writer.length));
+        for (Object o : external) {
+            s.writeObject(o);
+        }
+    }
+
+    public static final class Writer {
+        private final CollectionCodec                 codec;
+        private final Consumer<Object>                external;
+        private final HashMap<String, Integer>        strings = new HashMap<>();
+        private final IdentityHashMap<Object, Integer> shared  = new IdentityHashMap<>();
+        private final IdentityHashMap<Object, Integer> nodes   = new IdentityHashMap<>();
+        private byte[]                                bytes   = new byte[256];
+        private int                                   length;
+        private int                                   refs;
+
+        private Writer(CollectionCodec codec, Consumer<Object> external) {
+            this.codec = codec;
+            this.external = external;
+        }
+
+        /**
+         * Returns the bytes written since the previous call. The session continues.
+         */
+        public ByteBuffer toByteBuffer() {
+            ByteBuffer result = ByteBuffer.wrap(Arrays.copyOf(bytes, length));
+            length = 0;
+            return result;
+        }
+
+        public void writeByte(int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+            bytes[length++] = (byte) b;
+        }
+
+        public void writeBytes(byte[] b) {
+            if (length + b.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length * 2, length + b.length));
+            }
+            System.arraycopy(b, 0, bytes, length, b.length);
+            length += b.length;
+        }
+
+        public void writeVarInt(int i) {
+            while ((i & ~0x7F) != 0) {
+                writeByte(i & 0x7F | 0x80);
+                i >>>= 7;
+            }
+            writeByte(i);
+        }
+
+        public void writeVarLong(long l) {
+            while ((l & ~0x7FL) != 0) {
+                writeByte((int) l & 0x7F | 0x80);
+                l >>>= 7;
+            }
+            writeByte((int) l);
+        }
+
+        public void writeSignedVarInt(int i) {
+            writeVarInt(i << 1 ^ i >> 31);
+        }
+
+        public void writeSignedVarLong(long l) {
+            writeVarLong(l << 1 ^ l >> 63);
+        }
+
+        public void writeFixedLong(long l) {
+            for (int s = 0; s < Long.SIZE; s += Byte.SIZE) {
+                writeByte((int) (l >>> s));
+            }
+        }
+
+        public void writeString(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(b.length);
+            writeBytes(b);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void writeObject(Object o) {
+            if (o == null) {
+                writeByte(NULL);
+            } else if (o instanceof Integer) {
+                writeByte(INT);
+                writeSignedVarInt((Integer) o);
+            } else if (o instanceof String) {
+                Integer ref = strings.get(o);
+                if (ref != null) {
+                    writeRef(ref);
+                } else {
+                    writeByte(STRING);
+                    writeString((String) o);
+                    strings.put((String) o, refs++);
+                }
+            } else if (o instanceof Long) {
+                writeByte(LONG);
+                writeSignedVarLong((Long) o);
+            } else if (o instanceof Boolean) {
+                writeByte((Boolean) o ? TRUE : FALSE);
+            } else if (o instanceof Double) {
+                writeByte(DOUBLE);
+                writeFixedLong(Double.doubleToRawLongBits((Double) o));
+            } else if (o instanceof Float) {
+                writeByte(FLOAT);
+                writeVarInt(Float.floatToRawIntBits((Float) o));
+            } else if (o instanceof Short) {
+                writeByte(SHORT);
+                writeSignedVarInt((Short) o);
+            } else if (o instanceof Byte) {
+                writeByte(BYTE);
+                writeByte((Byte) o);
+            } else if (o instanceof Character) {
+                writeByte(CHAR);
+                writeVarInt((Character) o);
+            } else if (o instanceof EntryImpl) {
+                writeByte(ENTRY);
+                writeObject(((Entry) o).getKey());
+                writeObject(((Entry) o).getValue());
+            } else if (o.getClass() == Pair.class) {
+                writeByte(PAIR);
+                writeObject(((Pair) o).a());
+                writeObject(((Pair) o).b());
+            } else if (o.getClass() == Triple.class) {
+                writeByte(TRIPLE);
+                writeObject(((Triple) o).a());
+                writeObject(((Triple) o).b());
+                writeObject(((Triple) o).c());
+            } else if (codec.ids.containsKey(o.getClass())) {
+                writeByte(CUSTOM);
+                int id = codec.ids.get(o.getClass());
+                writeVarInt(id);
+                ((ElementCodec) codec.codecs[id]).write(this, o);
+            } else if (!writeShared(o)) {
+                writeByte(JAVA);
+                writeJava(o);
+            }
+        }
+
+        /**
+         * Writes a collection as a reference when it was written before, and registers it otherwise.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private boolean writeShared(Object o) {
+            Integer ref = shared.get(o);
+            if (ref != null) {
+                writeRef(ref);
+                return true;
+            } else if (o instanceof SetImpl) {
+                writeByte(SET);
+                writeTree(((SetImpl) o).value);
+            } else if (o instanceof ListImpl) {
+                writeByte(LIST);
+                writeTree(((ListImpl) o).value);
+            } else if (o instanceof MapImpl) {
+                writeByte(MAP);
+                writeTree(((MapImpl) o).value);
+            } else if (o instanceof DefaultMapImpl) {
+                writeByte(DEFAULT_MAP);
+                writeJava(((DefaultMap) o).defaultFunction().original());
+                writeTree(((DefaultMapImpl) o).value);
+            } else if (o instanceof QualifiedSetImpl) {
+                writeByte(QUALIFIED_SET);
+                writeJava(((QualifiedSet) o).qualifier().original());
+                writeTree(((QualifiedSetImpl) o).value);
+            } else if (o instanceof IntSetImpl) {
+                writeByte(INT_SET);
+                writeVarInt(((IntSet) o).size());
+                ((IntSet) o).forEach(this::writeSignedVarInt);
+            } else if (o instanceof LongSetImpl) {
+                writeByte(LONG_SET);
+                writeVarInt(((LongSet) o).size());
+                ((LongSet) o).forEach(this::writeSignedVarLong);
+            } else if (o instanceof DirGraphImpl) {
+                writeGraph((DirGraphImpl) o);
+            } else if (o instanceof GraphImpl) {
+                writeElements(GRAPH, (Graph) o, ((Graph) o).size());
+            } else {
+                return false;
+            }
+            shared.put(o, refs++);
+            return true;
+        }
+
+        private void writeElements(int tag, Iterable<?> elements, int size) {
+            writeByte(tag);
+            writeVarInt(size);
+            for (Object e : elements) {
+                writeObject(e);
+            }
+        }
+
+        /**
+         * Writes the nodes of a trie, each node only once.
+         */
+        private void writeTree(Object value) {
+            if (value instanceof TreeCollectionImpl.MultiValue) {
+                Integer ref = nodes.get(value);
+                if (ref != null) {
+                    writeByte(NODE_REF);
+                    writeVarInt(ref);
+                } else {
+                    Object[] values = ((TreeCollectionImpl.MultiValue) value).values;
+                    writeByte(NODE);
+                    writeByte(HashCollectionImpl.level(value));
+                    writeVarInt(values.length);
+                    for (Object v : values) {
+                        writeTree(v);
+                    }
+                    nodes.put(value, nodes.size());
+                }
+            } else {
+                writeObject(value);
+            }
+        }
+
+        /**
+         * Writes the nodes once and the outs of each node as indexes in the nodes.
+         */
+        private <N> void writeGraph(DirGraphImpl<N> graph) {
+            writeByte(graph instanceof DagImpl ? DAG : DIR_GRAPH);
+            QualifiedSet<N, Vertex<N>> vertices = graph.vertices();
+            HashMap<N, Integer> index = new HashMap<>();
+            writeVarInt(vertices.size());
+            for (Vertex<N> v : vertices) {
+                index.put(v.node(), index.size());
+                writeObject(v.node());
+            }
+            for (Vertex<N> v : vertices) {
+                writeVarInt(v.outs().size());
+                for (N out : v.outs()) {
+                    writeVarInt(index.get(out));
+                }
+            }
+        }
+
+        private void writeRef(int ref) {
+            writeByte(REF);
+            writeVarInt(ref);
+        }
+
+        private void writeJava(Object o) {
+            if (external != null) {
+                external.accept(o);
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(o);
+                } catch (IOException e) {
+                    throw new NotSerializableError(e);
+                }
+                byte[] b = bos.toByteArray();
+                writeVarInt(b.length);
+                writeBytes(b);
+            }
+        }
+    }
+
+    public static final class Reader {
+        private final CollectionCodec   codec;
+        private final Supplier<Object>  external;
+        private final ArrayList<Object> refs  = new ArrayList<>();
+        private final ArrayList<Object> nodes = new ArrayList<>();
+        private ByteBuffer              buffer;
+
+        private Reader(CollectionCodec codec, ByteBuffer buffer, Supplier<Object> external) {
+            this.codec = codec;
+            this.buffer = buffer;
+            this.external = external;
+        }
+
+        /**
+         * Continues the session with the next bytes written by the session of the writer.
+         */
+        public Reader from(ByteBuffer buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        public int readByte() {
+            return buffer.get();
+        }
+
+        public byte[] readBytes(int length) {
+            byte[] b = new byte[length];
+            buffer.get(b);
+            return b;
+        }
+
+        public int readVarInt() {
+            int result = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = buffer.get();
+                result |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+        }
+
+        public long readVarLong() {
+            long result = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = buffer.get();
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+        }
+
+        public int readSignedVarInt() {
+            int i = readVarInt();
+            return i >>> 1 ^ -(i & 1);
+        }
+
+        public long readSignedVarLong() {
+            long l = readVarLong();
+            return l >>> 1 ^ -(l & 1);
+        }
+
+        public long readFixedLong() {
+            long result = 0;
+            for (int s = 0; s < Long.SIZE; s += Byte.SIZE) {
+                result |= (buffer.get() & 0xFFL) << s;
+            }
+            return result;
+        }
+
+        public String readString() {
+            return new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <T> T readObject() {
+            int tag = readByte();
+            switch (tag) {
+            case NULL:
+                return null;
+            case REF:
+                return (T) refs.get(readVarInt());
+            case FALSE:
+                return (T) Boolean.FALSE;
+            case TRUE:
+                return (T) Boolean.TRUE;
+            case INT:
+                return (T) (Integer) readSignedVarInt();
+            case LONG:
+                return (T) (Long) readSignedVarLong();
+            case DOUBLE:
+                return (T) (Double) Double.longBitsToDouble(readFixedLong());
+            case FLOAT:
+                return (T) (Float) Float.intBitsToFloat(readVarInt());
+            case SHORT:
+                return (T) (Short) (short) readSignedVarInt();
+            case BYTE:
+                return (T) (Byte) (byte) readByte();
+            case CHAR:
+                return (T) (Character) (char) readVarInt();
+            case STRING:
+                return shared(readString());
+            case ENTRY:
+                return (T) Entry.of(readObject(), readObject());
+            case PAIR:
+                return (T) Pair.of(readObject(), readObject());
+            case TRIPLE:
+                return (T) Triple.of(readObject(), readObject(), readObject());
+            case SET:
+                return shared(readTree((SetImpl) Set.of()));
+            case LIST:
+                return shared(readTree((ListImpl) List.of()));
+            case MAP:
+                return shared(readTree((MapImpl) Map.of()));
+            case DEFAULT_MAP:
+                SerializableFunction defaultFunction = ((SerializableFunction) readJava()).of();
+                return shared(readTree((DefaultMapImpl) DefaultMap.of(defaultFunction)));
+            case QUALIFIED_SET:
+                SerializableFunction qualifier = ((SerializableFunction) readJava()).of();
+                return shared(readTree((QualifiedSetImpl) QualifiedSet.of(qualifier)));
+            case INT_SET:
+                int[] ints = new int[readVarInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = readSignedVarInt();
+                }
+                return shared(IntSet.of(ints));
+            case LONG_SET:
+                long[] longs = new long[readVarInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = readSignedVarLong();
+                }
+                return shared(LongSet.of(longs));
+            case DIR_GRAPH:
+            case DAG:
+                return shared(readGraph(tag == DAG));
+            case GRAPH:
+                Object[] triples = readElements();
+                return shared(Graph.of(Arrays.copyOf(triples, triples.length, Triple[].class)));
+            case CUSTOM:
+                return (T) codec.codecs[readVarInt()].read(this);
+            case JAVA:
+                return (T) readJava();
+            default:
+                throw new NotDeserializableError("unknown collection codec tag " + tag);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T shared(Object o) {
+            refs.add(o);
+            return (T) o;
+        }
+
+        private Object[] readElements() {
+            Object[] elements = new Object[readVarInt()];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = readObject();
+            }
+            return elements;
+        }
+
+        private Object readTree(TreeCollectionImpl<?> empty) {
+            return empty.create(readTree(empty instanceof HashCollectionImpl ? ((HashCollectionImpl<?>) empty).key() : null));
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Object readTree(Function key) {
+            int tag = buffer.get(buffer.position());
+            if (tag == NODE_REF) {
+                readByte();
+                return nodes.get(readVarInt());
+            } else if (tag == NODE) {
+                readByte();
+                byte level = (byte) readByte();
+                Object[] values = new Object[readVarInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readTree(key);
+                }
+                Object node = key != null ? HashCollectionImpl.restore(values, level, key) : ListImpl.restore(values);
+                nodes.add(node);
+                return node;
+            } else {
+                return readObject();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <N> DirGraphImpl<N> readGraph(boolean dag) {
+            N[] nodes = (N[]) new Object[readVarInt()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = readObject();
+            }
+            int[][] outs = new int[nodes.length][];
+            for (int i = 0; i < nodes.length; i++) {
+                outs[i] = new int[readVarInt()];
+                for (int o = 0; o < outs[i].length; o++) {
+                    outs[i][o] = readVarInt();
+                }
+            }
+            return DirGraphImpl.of(nodes, outs, dag);
+        }
+
+        private Object readJava() {
+            if (external != null) {
+                return external.get();
+            } else {
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(readVarInt())))) {
+                    return ois.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new NotDeserializableError(e);
+                }
+            }
+        }
+    }
+}
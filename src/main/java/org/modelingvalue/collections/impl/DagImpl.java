@@ -25,9 +25,11 @@ import java.util.function.BiFunction;
 import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.Dag;
 import org.modelingvalue.collections.DirGraph;
+import org.modelingvalue.collections.Map;
 import org.modelingvalue.collections.QualifiedSet;
 import org.modelingvalue.collections.Set;
 import org.modelingvalue.collections.Vertex;
+import org.modelingvalue.collections.util.ContextPool;
 import org.modelingvalue.collections.util.Pair;
 import org.modelingvalue.collections.util.TriFunction;
 
@@ -48,7 +50,7 @@ public class DagImpl<N> extends DirGraphImpl<N> implements Dag<N> {
         if (possibleCycleAdded) {
             return super.construct(beginEnd, vertices, possibleCycleAdded);
         } else {
-            return vertices.isEmpty() ? Dag.of() : this.vertices().equals(vertices) ? this : new DagImpl<N>(beginEnd, vertices);
+            return vertices.isEmpty() ? Dag.of() : this.vertices().equals(vertices) ? this : derive(new DagImpl<N>(beginEnd, vertices));
         }
     }
 
@@ -251,6 +253,11 @@ public class DagImpl<N> extends DirGraphImpl<N> implements Dag<N> {
         return (Dag<N>) super.removeAll(e);
     }
 
+    @Override
+    public <A> Map<N, A> topological(ContextPool pool, BiFunction<N, Map<N, A>, A> action) {
+        return new TopologicalScheduler<>(this, pool, action).run();
+    }
+
     @Override
     protected boolean checkCycles() {
         return false;
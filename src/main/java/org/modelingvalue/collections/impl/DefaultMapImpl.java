@@ -282,19 +282,21 @@ public class DefaultMapImpl<K, V> extends HashCollectionImpl<Entry<K, V>> implem
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Collection<Entry<K, Pair<V, V>>> diff(DefaultMap<K, V> toCompare) {
-        return compare(toCompare).flatMap(a -> {
-            if (a[0] == null) {
-                return a[1].map(e -> Entry.of(e.getKey(), Pair.of(defaultFunction.apply(e.getKey()), a[1].get(e.getKey()))));
-            } else if (a[1] == null) {
-                return a[0].map(e -> Entry.of(e.getKey(), Pair.of(a[0].get(e.getKey()), defaultFunction.apply(e.getKey()))));
-            } else {
-                return a[0].toKeys().asSet().addAll(a[1].toKeys()).map(k -> Entry.of(k, Pair.of(a[0].get(k), a[1].get(k))));
-            }
+        return new StreamCollectionImpl<>(diffSpliterator((DefaultMapImpl<K, V>) toCompare), false).map(a -> {
+            Entry<K, V> e0 = (Entry<K, V>) a[0], e1 = (Entry<K, V>) a[1];
+            K key = e0 != null ? e0.getKey() : e1.getKey();
+            return Entry.of(key, Pair.of(e0 != null ? e0.getValue() : defaultFunction.apply(key), e1 != null ? e1.getValue() : defaultFunction.apply(key)));
         });
     }
 
+    @Override
+    public int diffCount(DefaultMap<K, V> toCompare) {
+        return countDiff((DefaultMapImpl<K, V>) toCompare);
+    }
+
     @Override
     public Collection<K> toKeys() {
         return map(Entry::getKey);
@@ -20,14 +20,20 @@
 
 package org.modelingvalue.collections.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.modelingvalue.collections.*;
@@ -40,19 +46,22 @@ import org.modelingvalue.collections.util.TriConsumer;
 import org.modelingvalue.collections.util.TriFunction;
 
 public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGraph<N> {
-    private static final long                                 serialVersionUID = -1977417266823883798L;
+    private static final long                                 serialVersionUID       = -1977417266823883798L;
+    private static final int                                  NAVIGABLE_PARALLEL_MIN = Integer.getInteger("NAVIGABLE_PARALLEL_MIN", 1 << 14);
 
     @SuppressWarnings("rawtypes")
-    private static final SerializableFunction<Vertex, Object> NODE_OF_VERTEX   = Vertex::node;
+    private static final SerializableFunction<Vertex, Object> NODE_OF_VERTEX         = Vertex::node;
     @SuppressWarnings("rawtypes")
-    private static final QualifiedSet                         EMPTY_VERTICES   = QualifiedSet.of(NODE_OF_VERTEX);
+    private static final QualifiedSet                         EMPTY_VERTICES         = QualifiedSet.of(NODE_OF_VERTEX);
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    public static final Dag                                   EMPTY            = new DagImpl(Set.of(), Set.of(), EMPTY_VERTICES);
+    public static final Dag                                   EMPTY                  = new DagImpl(Set.of(), Set.of(), EMPTY_VERTICES);
 
     transient private Set<N>                                  begin;
     transient private Set<N>                                  end;
     transient private QualifiedSet<N, Vertex<N>>              vertices;
+    transient private volatile TopologicalOrder<N>            order;
+    transient private volatile StrongComponents<N>            components;
 
     @SuppressWarnings("unchecked")
     public DirGraphImpl(N[] edges) {
@@ -80,7 +89,46 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
     }
 
     protected DirGraph<N> construct(Set<N>[] beginEnd, QualifiedSet<N, Vertex<N>> vertices, boolean possibleCycleAdded) {
-        return vertices.isEmpty() ? DirGraph.of() : this.vertices.equals(vertices) ? this : new DirGraphImpl<N>(beginEnd, vertices);
+        return vertices.isEmpty() ? DirGraph.of() : this.vertices.equals(vertices) ? this : derive(new DirGraphImpl<N>(beginEnd, vertices));
+    }
+
+    /**
+     * Gives {@code graph}, edited from this graph, the topological order and strongly connected components that follow
+     * from the ones of this graph, as far as this graph has them.
+     */
+    protected final <G extends DirGraphImpl<N>> G derive(G graph) {
+        DirGraphImpl<N> g = graph;
+        TopologicalOrder<N> o = order;
+        if (o != null) {
+            g.order = o.next(vertices, g.vertices);
+        }
+        StrongComponents<N> c = components;
+        if (c != null) {
+            g.components = c.next(vertices, g.vertices);
+        }
+        return graph;
+    }
+
+    private StrongComponents<N> components() {
+        StrongComponents<N> c = components;
+        if (c == null) {
+            components = c = StrongComponents.of(vertices);
+        }
+        return c;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TopologicalOrder<N> order() {
+        TopologicalOrder<N> o = order;
+        if (o == null) {
+            order = o = TopologicalOrder.of(vertices, dfsNodes(List.of(), (l, n) -> l.prepend(n)), !checkCycles());
+        }
+        return o;
+    }
+
+    @Override
+    public FrozenDirGraph<N> freeze() {
+        return new FrozenDirGraphImpl<>(vertices, begin, end, this instanceof Dag);
     }
 
     @Override
@@ -103,38 +151,78 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
         return dfsEdges(vertices, Collection.concat(end(), nodes()), acc, func, false);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public List<N> topologicalNodes() {
-        return dfsNodes(List.of(), (l, n) -> l.prepend(n));
+        return order().list();
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public List<N> invTopologicalNodes() {
-        return invDfsNodes(List.of(), (l, n) -> l.prepend(n));
+        TopologicalOrder<N> o = order();
+        return o.isAcyclic() ? o.invList() : invDfsNodes(List.of(), (l, n) -> l.prepend(n));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public List<Pair<N, N>> topologicalEdges() {
-        return dfsEdges(List.of(), (l, f, t, c) -> l.prepend(Pair.of(f, t)));
+        TopologicalOrder<N> o = order();
+        if (o.isAcyclic()) {
+            java.util.List<Pair<N, N>> edges = new java.util.ArrayList<>();
+            for (N t : o.list()) {
+                Vertex<N> v = vertices.get(t);
+                if (v.ins().isEmpty()) {
+                    edges.add(Pair.of(null, t));
+                }
+                for (N f : v.ins()) {
+                    edges.add(Pair.of(f, t));
+                }
+            }
+            return List.of(edges);
+        } else {
+            return dfsEdges(List.of(), (l, f, t, c) -> l.prepend(Pair.of(f, t)));
+        }
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public List<Pair<N, N>> invTopologicalEdges() {
-        return invDfsEdges(List.of(), (l, t, f, c) -> l.prepend(Pair.of(f, t)));
+        TopologicalOrder<N> o = order();
+        if (o.isAcyclic()) {
+            java.util.List<Pair<N, N>> edges = new java.util.ArrayList<>();
+            for (N f : o.invList()) {
+                Vertex<N> v = vertices.get(f);
+                if (v.outs().isEmpty()) {
+                    edges.add(Pair.of(f, null));
+                }
+                for (N t : v.outs()) {
+                    edges.add(Pair.of(f, t));
+                }
+            }
+            return List.of(edges);
+        } else {
+            return invDfsEdges(List.of(), (l, t, f, c) -> l.prepend(Pair.of(f, t)));
+        }
+    }
+
+    @Override
+    public int topologicalIndex(N node) {
+        return order().index(node);
+    }
+
+    @Override
+    public Set<N> scc(N node) {
+        return components().component(node);
     }
 
     @Override
     public Set<Pair<N, N>> cycles() {
-        return dfsEdges(Set.of(), (cs, f, t, c) -> c ? cs.add(Pair.of(f, t)) : cs);
+        return components().isAcyclic() ? Set.of() : dfsEdges(Set.of(), (cs, f, t, c) -> c ? cs.add(Pair.of(f, t)) : cs);
     }
 
     @Override
     public Set<Pair<N, N>> invCycles() {
-        return invDfsEdges(Set.of(), (cs, t, f, c) -> c ? cs.add(Pair.of(f, t)) : cs);
+        return components().isAcyclic() ? Set.of() : invDfsEdges(Set.of(), (cs, t, f, c) -> c ? cs.add(Pair.of(f, t)) : cs);
     }
 
     @Override
@@ -290,12 +378,46 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
 
     @Override
     public Set<N> navigable() {
-        return dfsNodes(vertices, begin, Set.of(), (s, n) -> s.add(n), true);
+        return navigable(begin, true);
     }
 
     @Override
     public Set<N> invNavigable() {
-        return dfsNodes(vertices, end, Set.of(), (s, n) -> s.add(n), false);
+        return navigable(end, false);
+    }
+
+    /**
+     * The nodes reachable from {@code from}. Large graphs are searched breadth first when collections may run in parallel,
+     * each frontier expanded in parallel, with the nodes claimed in an atomic bitmap indexed by vertex position.
+     */
+    private Set<N> navigable(Set<N> from, boolean frwrd) {
+        QualifiedSet<N, Vertex<N>> vs = vertices;
+        if (vs.size() < NAVIGABLE_PARALLEL_MIN || !runParallel()) {
+            return dfsNodes(vs, from, Set.of(), (s, n) -> s.add(n), frwrd);
+        }
+        AtomicLongArray claimed = new AtomicLongArray((vs.size() + 63) >>> 6);
+        java.util.List<N> navigable = new java.util.ArrayList<>();
+        java.util.List<N> frontier = from.filter(n -> claim(claimed, vs, n)).collect(Collectors.toList());
+        while (!frontier.isEmpty()) {
+            navigable.addAll(frontier);
+            frontier = frontier.parallelStream().flatMap(n -> {
+                Vertex<N> v = vs.get(n);
+                return (frwrd ? v.outs() : v.ins()).filter(o -> claim(claimed, vs, o));
+            }).collect(Collectors.toList());
+        }
+        return Set.of(navigable);
+    }
+
+    private static <E> boolean claim(AtomicLongArray claimed, QualifiedSet<E, Vertex<E>> vs, E node) {
+        int i = vs.index(vs.get(node));
+        long bit = 1L << i, old;
+        do {
+            old = claimed.get(i >>> 6);
+            if ((old & bit) != 0) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(i >>> 6, old, old | bit));
+        return true;
     }
 
     // change methods
@@ -465,7 +587,7 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
             Set<N> ins = ins(v);
             vs = put(vs, edge.a(), ins, outs, ins, outs.remove(edge.b()), be);
         }
-        return new DagImpl<N>(be, vs);
+        return derive(new DagImpl<N>(be, vs));
     }
 
     @SuppressWarnings("unchecked")
@@ -910,51 +1032,71 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
         return true;
     }
 
+    /**
+     * Depth first search with an explicit stack, so that arbitrarily deep graphs can be searched. Each entry of the stack
+     * is the edge a node was entered by and the iterator over its remaining neighbours.
+     */
+    @SuppressWarnings("unchecked")
     private <A> A dfs(QualifiedSet<N, Vertex<N>> vs, Collection<N> s, A acc, QuadFunction<A, N, N, Boolean, A> func, boolean frwrd, boolean edges) {
-        int size = vs.size();
-        int[] done = new int[1];
+        int size = vs.size(), done = 0, sp = -1;
         BitSet temp = edges && checkCycles() ? new BitSet(size) : null, perm = new BitSet(size);
-        for (N n : s) {
-            acc = dfs(vs, acc, null, n, func, temp, perm, frwrd, edges, done);
-            if (done[0] >= size) {
+        Object[] stack = new Object[3 * 16];
+        int[] indices = new int[16];
+        for (N root : s) {
+            N f = null, t = root;
+            while (t != null) {
+                Vertex<N> v = vs.get(t);
+                int i = vs.index(v);
+                if (perm.get(i)) {
+                    // already done
+                    if (edges) {
+                        acc = func.apply(acc, f, t, false);
+                    }
+                } else if (temp != null && temp.get(i)) {
+                    // cycle
+                    if (edges) {
+                        assert f != null;
+                        acc = func.apply(acc, f, t, true);
+                    }
+                } else {
+                    done++;
+                    if (temp != null) {
+                        temp.set(i);
+                    } else {
+                        perm.set(i);
+                    }
+                    if (++sp == indices.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                        indices = Arrays.copyOf(indices, indices.length * 2);
+                    }
+                    stack[3 * sp] = f;
+                    stack[3 * sp + 1] = t;
+                    stack[3 * sp + 2] = (frwrd ? v.outs() : v.ins()).iterator();
+                    indices[sp] = i;
+                }
+                t = null;
+                while (t == null && sp >= 0) {
+                    Iterator<N> it = (Iterator<N>) stack[3 * sp + 2];
+                    if (it.hasNext()) {
+                        f = (N) stack[3 * sp + 1];
+                        t = it.next();
+                    } else {
+                        if (temp != null) {
+                            perm.set(indices[sp]);
+                        }
+                        acc = func.apply(acc, (N) stack[3 * sp], (N) stack[3 * sp + 1], false);
+                        Arrays.fill(stack, 3 * sp, 3 * sp + 3, null);
+                        sp--;
+                    }
+                }
+            }
+            if (done >= size) {
                 return acc;
             }
         }
         return acc;
     }
 
-    private static <E, A> A dfs(QualifiedSet<E, Vertex<E>> vs, A a, E f, E t, QuadFunction<A, E, E, Boolean, A> func, BitSet temp, BitSet perm, boolean frwrd, boolean edges, int[] done) {
-        Vertex<E> v = vs.get(t);
-        int i = vs.index(v);
-        if (perm.get(i)) {
-            // already done
-            if (edges) {
-                a = func.apply(a, f, t, false);
-            }
-        } else if (temp != null && temp.get(i)) {
-            // cycle
-            if (edges) {
-                assert f != null;
-                a = func.apply(a, f, t, true);
-            }
-        } else {
-            done[0]++;
-            if (temp != null) {
-                temp.set(i);
-            } else {
-                perm.set(i);
-            }
-            for (E o : frwrd ? v.outs() : v.ins()) {
-                a = dfs(vs, a, t, o, func, temp, perm, frwrd, edges, done);
-            }
-            if (temp != null) {
-                perm.set(i);
-            }
-            a = func.apply(a, f, t, false);
-        }
-        return a;
-    }
-
     private static <E> QualifiedSet<E, Vertex<E>> put(QualifiedSet<E, Vertex<E>> vs, E n, Set<E> pi, Set<E> po, Set<E> ni, Set<E> no, Set<E>[] be) {
         vs = putVertex(vs, n, ni, no, be);
         for (E in : pi) {
@@ -1130,34 +1272,90 @@ public class DirGraphImpl<N> extends CollectionImpl<Vertex<N>> implements DirGra
         return EMPTY;
     }
 
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        Serializer.wrap(s, this::javaSerialize);
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        Deserializer.wrap(s, this::javaDeserialize);
+    }
+
     @Override
     public void javaSerialize(Serializer s) {
-        s.writeInt(vertices.size());
-        for (Object e : vertices) {
-            s.writeObject(e);
-        }
+        CollectionCodec.DEFAULT.write(s, this);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void javaDeserialize(Deserializer s) {
         int size = s.readInt();
-        Set<N> bs = Set.of();
-        Set<N> es = Set.of();
-        QualifiedSet<N, Vertex<N>> vs = emptyVertices();
-        for (int i = 0; i < size; i++) {
-            Vertex<N> v = s.readObject();
-            vs = vs.add(v);
-            if (v.ins().isEmpty()) {
-                bs = bs.add(v.node());
+        if (size == CollectionCodec.COMPACT) {
+            DirGraphImpl<N> graph = CollectionCodec.DEFAULT.read(s);
+            this.vertices = graph.vertices;
+            this.begin = graph.begin;
+            this.end = graph.end;
+        } else {
+            Set<N> bs = Set.of();
+            Set<N> es = Set.of();
+            QualifiedSet<N, Vertex<N>> vs = emptyVertices();
+            for (int i = 0; i < size; i++) {
+                Vertex<N> v = s.readObject();
+                vs = vs.add(v);
+                if (v.ins().isEmpty()) {
+                    bs = bs.add(v.node());
+                }
+                if (v.outs().isEmpty()) {
+                    es = es.add(v.node());
+                }
+            }
+            this.vertices = vs;
+            this.begin = bs;
+            this.end = es;
+        }
+    }
+
+    /**
+     * Builds a graph in one pass from its nodes and the outs of each node, given as indexes in the nodes.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <N> DirGraphImpl<N> of(N[] nodes, int[][] outs, boolean dag) {
+        if (nodes.length == 0) {
+            return (DirGraphImpl<N>) EMPTY;
+        }
+        int[] nrOfIns = new int[nodes.length];
+        for (int[] o : outs) {
+            for (int t : o) {
+                nrOfIns[t]++;
+            }
+        }
+        Object[][] ins = new Object[nodes.length][];
+        for (int i = 0; i < nodes.length; i++) {
+            ins[i] = new Object[nrOfIns[i]];
+            nrOfIns[i] = 0;
+        }
+        for (int f = 0; f < nodes.length; f++) {
+            for (int t : outs[f]) {
+                ins[t][nrOfIns[t]++] = nodes[f];
+            }
+        }
+        Vertex[] vertices = new Vertex[nodes.length];
+        java.util.List<N> begin = new java.util.ArrayList<>();
+        java.util.List<N> end = new java.util.ArrayList<>();
+        for (int i = 0; i < nodes.length; i++) {
+            Object[] os = new Object[outs[i].length];
+            for (int o = 0; o < os.length; o++) {
+                os[o] = nodes[outs[i][o]];
+            }
+            vertices[i] = Vertex.of(nodes[i], Set.of((N[]) ins[i]), Set.of((N[]) os));
+            if (ins[i].length == 0) {
+                begin.add(nodes[i]);
             }
-            if (v.outs().isEmpty()) {
-                es = es.add(v.node());
+            if (os.length == 0) {
+                end.add(nodes[i]);
             }
         }
-        this.vertices = vs;
-        this.begin = bs;
-        this.end = es;
+        QualifiedSet<N, Vertex<N>> vs = QualifiedSet.of((SerializableFunction) NODE_OF_VERTEX, vertices);
+        return dag ? new DagImpl<>(Set.of(begin), Set.of(end), vs) : new DirGraphImpl<>(Set.of(begin), Set.of(end), vs);
     }
 
     @Override
@@ -0,0 +1,321 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import org.modelingvalue.collections.DoubleList;
+import org.modelingvalue.collections.List;
+
+public final class DoubleListImpl implements DoubleList {
+
+    @Serial
+    private static final long      serialVersionUID = 7391524560238165309L;
+
+    public static final DoubleList EMPTY            = new DoubleListImpl((Object) null);
+
+    private static final double[]  NO_ELEMENTS      = new double[0];
+
+    transient Object               root;
+    private transient int          hash;
+
+    public DoubleListImpl(double[] es) {
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    DoubleListImpl(Object root) {
+        this.root = root;
+    }
+
+    private DoubleList create(Object root) {
+        return root == this.root ? this : root == null ? EMPTY : new DoubleListImpl(root);
+    }
+
+    private static Object root(DoubleList list) {
+        return ((DoubleListImpl) list).root;
+    }
+
+    private int check(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size());
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return PrimitiveListTree.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public double get(int index) {
+        return PrimitiveListTree.getDouble(root, check(index));
+    }
+
+    @Override
+    public double first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public double last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public DoubleList append(double e) {
+        return create(PrimitiveListTree.concat(root, new double[]{e}));
+    }
+
+    @Override
+    public DoubleList prepend(double e) {
+        return create(PrimitiveListTree.concat(new double[]{e}, root));
+    }
+
+    @Override
+    public DoubleList insert(int position, double e) {
+        return create(PrimitiveListTree.insert(root, position, new double[]{e}));
+    }
+
+    @Override
+    public DoubleList replace(int position, double e) {
+        return Double.doubleToLongBits(get(position)) == Double.doubleToLongBits(e) ? this : create(PrimitiveListTree.set(root, position, (leaf, i) -> ((double[]) leaf)[i] = e));
+    }
+
+    @Override
+    public DoubleList appendList(DoubleList list) {
+        return create(PrimitiveListTree.concat(root, root(list)));
+    }
+
+    @Override
+    public DoubleList insertList(int position, DoubleList list) {
+        return create(PrimitiveListTree.insert(root, position, root(list)));
+    }
+
+    @Override
+    public DoubleList sublist(int begin, int end) {
+        return create(PrimitiveListTree.slice(root, begin, end));
+    }
+
+    @Override
+    public DoubleList removeList(int begin, int end) {
+        return create(PrimitiveListTree.remove(root, begin, end));
+    }
+
+    @Override
+    public int firstIndexOf(double e) {
+        Elements cursor = new Elements(root, 0, size());
+        while (cursor.advance()) {
+            double[] leaf = (double[]) cursor.leaf;
+            for (int i = cursor.index - cursor.base; i < leaf.length; i++) {
+                if (Double.doubleToLongBits(leaf[i]) == Double.doubleToLongBits(e)) {
+                    return cursor.base + i;
+                }
+            }
+            cursor.index = cursor.limit;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(double e) {
+        return firstIndexOf(e) >= 0;
+    }
+
+    @Override
+    public int binarySearch(double key) {
+        int lo = 0, hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            double e = PrimitiveListTree.getDouble(root, mid);
+            int c = Double.compare(e, key);
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -lo - 1;
+    }
+
+    @Override
+    public double sum() {
+        return stream().sum();
+    }
+
+    @Override
+    public OptionalDouble min() {
+        return stream().min();
+    }
+
+    @Override
+    public OptionalDouble max() {
+        return stream().max();
+    }
+
+    @Override
+    public DoubleList clear() {
+        return EMPTY;
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        new Elements(root, 0, size()).forEachRemaining(action);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return Spliterators.iterator(new Elements(root, 0, size()));
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(new Elements(root, 0, size()), false);
+    }
+
+    @Override
+    public double[] toArray() {
+        return (double[]) PrimitiveListTree.toArray(root, NO_ELEMENTS);
+    }
+
+    @Override
+    public List<Double> toList() {
+        return List.of(stream().boxed().toArray(Double[]::new));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            Elements cursor = new Elements(root, 0, size());
+            while (cursor.advance()) {
+                for (double e : (double[]) cursor.leaf) {
+                    h = 31 * h + Double.hashCode(e);
+                }
+                cursor.index = cursor.limit;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (!(obj instanceof DoubleListImpl) || ((DoubleListImpl) obj).size() != size() || ((DoubleListImpl) obj).hashCode() != hashCode()) {
+            return false;
+        }
+        PrimitiveIterator.OfDouble a = iterator(), b = ((DoubleListImpl) obj).iterator();
+        while (a.hasNext()) {
+            if (Double.doubleToLongBits(a.nextDouble()) != Double.doubleToLongBits(b.nextDouble())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("DoubleList[");
+        PrimitiveIterator.OfDouble it = iterator();
+        for (boolean first = true; it.hasNext(); first = false) {
+            sb.append(first ? "" : ",").append(it.nextDouble());
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        PrimitiveIterator.OfDouble it = iterator();
+        while (it.hasNext()) {
+            s.writeDouble(it.nextDouble());
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        double[] es = new double[s.readInt()];
+        for (int i = 0; i < es.length; i++) {
+            es[i] = s.readDouble();
+        }
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    private static final class Elements extends PrimitiveListTree.Cursor implements Spliterator.OfDouble {
+
+        private Elements(Object root, int index, int end) {
+            super(root, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(((double[]) leaf)[index++ - base]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (advance()) {
+                double[] es = (double[]) leaf;
+                for (int to = Math.min(limit, end) - base, i = index - base; i < to; i++) {
+                    action.accept(es[i]);
+                }
+                index = Math.min(limit, end);
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int from = index, mid = split();
+            return mid < 0 ? null : new Elements(root, from, mid);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.BiFunction;
+
+import org.modelingvalue.collections.DirGraph;
+import org.modelingvalue.collections.FrozenDirGraph;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.QualifiedSet;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.Vertex;
+
+public final class FrozenDirGraphImpl<N> implements FrozenDirGraph<N> {
+    @Serial
+    private static final long        serialVersionUID = -5316224913094541846L;
+
+    private final NodeIndex<N>       index;
+    private final int[]              outOffsets;
+    private final int[]              outTargets;
+    private final int[]              inOffsets;
+    private final int[]              inTargets;
+    private final int[]              begin;
+    private final int[]              end;
+    private final boolean            dag;
+    transient private volatile int[] post;
+    transient private volatile int[] invPost;
+
+    FrozenDirGraphImpl(QualifiedSet<N, Vertex<N>> vertices, Set<N> begin, Set<N> end, boolean dag) {
+        int size = vertices.size(), i = 0, e = 0;
+        Object[] nodes = new Object[size];
+        for (Vertex<N> v : vertices) {
+            nodes[i++] = v.node();
+            e += v.outs().size();
+        }
+        this.index = new NodeIndex<>(nodes);
+        this.outOffsets = new int[size + 1];
+        this.outTargets = new int[e];
+        this.inOffsets = new int[size + 1];
+        this.inTargets = new int[e];
+        int o = 0;
+        i = 0;
+        e = 0;
+        for (Vertex<N> v : vertices) {
+            for (N t : v.outs()) {
+                outTargets[o++] = index.index(t);
+            }
+            for (N f : v.ins()) {
+                inTargets[e++] = index.index(f);
+            }
+            outOffsets[++i] = o;
+            inOffsets[i] = e;
+        }
+        this.begin = indices(begin);
+        this.end = indices(end);
+        this.dag = dag;
+    }
+
+    private int[] indices(Set<N> nodes) {
+        int[] indices = new int[nodes.size()];
+        int i = 0;
+        for (N n : nodes) {
+            indices[i++] = index.index(n);
+        }
+        return indices;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<N> nodes(int[] indices, int from, int to) {
+        Object[] nodes = new Object[to - from];
+        for (int i = from; i < to; i++) {
+            nodes[i - from] = index.node(indices[i]);
+        }
+        return Set.of((N[]) nodes);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<N> nodes() {
+        Object[] nodes = new Object[size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = index.node(i);
+        }
+        return List.of((N[]) nodes);
+    }
+
+    @Override
+    public boolean containsNode(N node) {
+        return index.index(node) >= 0;
+    }
+
+    @Override
+    public boolean containsEdge(N from, N to) {
+        int f = index.index(from), t = index.index(to);
+        if (f >= 0 && t >= 0) {
+            for (int i = outOffsets[f]; i < outOffsets[f + 1]; i++) {
+                if (outTargets[i] == t) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<N> ins(N node) {
+        int i = index.index(node);
+        return i < 0 ? Set.of() : nodes(inTargets, inOffsets[i], inOffsets[i + 1]);
+    }
+
+    @Override
+    public Set<N> outs(N node) {
+        int i = index.index(node);
+        return i < 0 ? Set.of() : nodes(outTargets, outOffsets[i], outOffsets[i + 1]);
+    }
+
+    @Override
+    public Set<N> begin() {
+        return nodes(begin, 0, begin.length);
+    }
+
+    @Override
+    public Set<N> end() {
+        return nodes(end, 0, end.length);
+    }
+
+    @Override
+    public <A> A dfsNodes(A acc, BiFunction<A, N, A> func) {
+        for (int n : post()) {
+            acc = func.apply(acc, index.node(n));
+        }
+        return acc;
+    }
+
+    @Override
+    public <A> A invDfsNodes(A acc, BiFunction<A, N, A> func) {
+        for (int n : invPost()) {
+            acc = func.apply(acc, index.node(n));
+        }
+        return acc;
+    }
+
+    @Override
+    public List<N> topologicalNodes() {
+        return reversed(post());
+    }
+
+    @Override
+    public List<N> invTopologicalNodes() {
+        return reversed(invPost());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<N> reversed(int[] order) {
+        Object[] nodes = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            nodes[order.length - 1 - i] = index.node(order[i]);
+        }
+        return List.of((N[]) nodes);
+    }
+
+    private int[] post() {
+        int[] p = post;
+        if (p == null) {
+            post = p = postOrder(begin, outOffsets, outTargets);
+        }
+        return p;
+    }
+
+    private int[] invPost() {
+        int[] p = invPost;
+        if (p == null) {
+            invPost = p = postOrder(end, inOffsets, inTargets);
+        }
+        return p;
+    }
+
+    /**
+     * The depth first post order that {@link DirGraphImpl} gives: from the start nodes first, then from all nodes in index
+     * order. Iterative, so deep graphs do not overflow the stack.
+     */
+    private int[] postOrder(int[] starts, int[] offsets, int[] targets) {
+        int size = size(), done = 0, sp;
+        int[] order = new int[size], stack = new int[size], pos = new int[size];
+        BitSet visited = new BitSet(size);
+        for (int k = 0; k < starts.length + size && done < size; k++) {
+            int s = k < starts.length ? starts[k] : k - starts.length;
+            if (!visited.get(s)) {
+                visited.set(s);
+                stack[sp = 0] = s;
+                pos[0] = offsets[s];
+                while (sp >= 0) {
+                    int n = stack[sp];
+                    if (pos[sp] < offsets[n + 1]) {
+                        int t = targets[pos[sp]++];
+                        if (!visited.get(t)) {
+                            visited.set(t);
+                            stack[++sp] = t;
+                            pos[sp] = offsets[t];
+                        }
+                    } else {
+                        order[done++] = n;
+                        sp--;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public DirGraph<N> thaw() {
+        int size = size();
+        Object[] nodes = new Object[size];
+        int[][] outs = new int[size][];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = index.node(i);
+            outs[i] = Arrays.copyOfRange(outTargets, outOffsets[i], outOffsets[i + 1]);
+        }
+        return DirGraphImpl.of((N[]) nodes, outs, dag);
+    }
+
+    @Override
+    public String toString() {
+        return "Frozen" + index;
+    }
+}
@@ -0,0 +1,233 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.Serial;
+
+import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.FrozenGraph;
+import org.modelingvalue.collections.Graph;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.Pair;
+import org.modelingvalue.collections.util.SerializableFunction;
+
+/**
+ * An implementation of the {@link FrozenGraph} interface. For each vertex the outgoing and the incoming edges are
+ * consecutive ranges of the target and weight arrays, grouped per neighbour in the order of the {@link GraphImpl} the
+ * snapshot was made of.
+ *
+ * @param <V>
+ *            the type of vertices in this graph
+ * @param <E>
+ *            the type of edge weights in this graph
+ */
+public final class FrozenGraphImpl<V, E> implements FrozenGraph<V, E> {
+    @Serial
+    private static final long  serialVersionUID = 7046871532851359412L;
+
+    private final NodeIndex<V> index;
+    private final int[]        outOffsets;
+    private final int[]        outTargets;
+    private final Object[]     outValues;
+    private final int[]        inOffsets;
+    private final int[]        inTargets;
+    private final Object[]     inValues;
+
+    FrozenGraphImpl(GraphImpl<V, E> graph) {
+        Set<V> nodes = graph.getNodes();
+        Object[] array = new Object[nodes.size()];
+        int i = 0;
+        for (V n : nodes) {
+            array[i++] = n;
+        }
+        int size = graph.size();
+        this.index = new NodeIndex<>(array);
+        this.outOffsets = new int[array.length + 1];
+        this.outTargets = new int[size];
+        this.outValues = new Object[size];
+        this.inOffsets = new int[array.length + 1];
+        this.inTargets = new int[size];
+        this.inValues = new Object[size];
+        fill(graph.outgoing, outOffsets, outTargets, outValues);
+        fill(graph.incoming, inOffsets, inTargets, inValues);
+    }
+
+    private void fill(DefaultMap<V, Pair<DefaultMap<V, Set<E>>, DefaultMap<E, Set<V>>>> adjacency, int[] offsets, int[] targets, Object[] values) {
+        int e = 0;
+        for (int i = 0; i < index.size(); i++) {
+            if (adjacency.getEntry(index.node(i)) != null) {
+                for (Entry<V, Set<E>> entry : adjacency.get(index.node(i)).a()) {
+                    int t = index.index(entry.getKey());
+                    for (E val : entry.getValue()) {
+                        targets[e] = t;
+                        values[e++] = val;
+                    }
+                }
+            }
+            offsets[i + 1] = e;
+        }
+    }
+
+    @Override
+    public int size() {
+        return outTargets.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<V> getNodes() {
+        Object[] nodes = new Object[index.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = index.node(i);
+        }
+        return Set.of((V[]) nodes);
+    }
+
+    @Override
+    public boolean containsNode(V node) {
+        return index.index(node) >= 0;
+    }
+
+    @Override
+    public boolean containsEdge(V src, V dst, E val) {
+        int s = index.index(src), d = index.index(dst);
+        if (s >= 0 && d >= 0 && val != null) {
+            for (int e = outOffsets[s]; e < outOffsets[s + 1]; e++) {
+                if (outTargets[e] == d && val.equals(outValues[e])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<E> getEdges(V src, V dst) {
+        int s = index.index(src), d = index.index(dst);
+        if (s < 0 || d < 0) {
+            return null;
+        }
+        Set<E> edges = Set.of();
+        for (int e = outOffsets[s]; e < outOffsets[s + 1]; e++) {
+            if (outTargets[e] == d) {
+                edges = edges.add((E) outValues[e]);
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public DefaultMap<E, Set<V>> getIncoming(V node) {
+        return byValue(index.index(node), inOffsets, inTargets, inValues);
+    }
+
+    @Override
+    public Set<V> getIncoming(V node, E val) {
+        return val == null ? null : nodes(index.index(node), val, inOffsets, inTargets, inValues);
+    }
+
+    @Override
+    public DefaultMap<E, Set<V>> getOutgoing(V node) {
+        return byValue(index.index(node), outOffsets, outTargets, outValues);
+    }
+
+    @Override
+    public Set<V> getOutgoing(V node, E val) {
+        return val == null ? null : nodes(index.index(node), val, outOffsets, outTargets, outValues);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V node) {
+        return values(index.index(node), inOffsets, inValues);
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V node) {
+        return values(index.index(node), outOffsets, outValues);
+    }
+
+    @Override
+    public Set<V> getIncomingNodes(V node) {
+        return nodes(index.index(node), null, inOffsets, inTargets, inValues);
+    }
+
+    @Override
+    public Set<V> getOutgoingNodes(V node) {
+        return nodes(index.index(node), null, outOffsets, outTargets, outValues);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private DefaultMap<E, Set<V>> byValue(int i, int[] offsets, int[] targets, Object[] values) {
+        if (i < 0) {
+            return null;
+        }
+        DefaultMap<E, Set<V>> map = DefaultMap.of((SerializableFunction) GraphImpl.EMPTY_SET_FUNCTION);
+        for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+            E val = (E) values[e];
+            map = map.put(val, map.get(val).add(index.node(targets[e])));
+        }
+        return map;
+    }
+
+    private Set<V> nodes(int i, E val, int[] offsets, int[] targets, Object[] values) {
+        if (i < 0) {
+            return null;
+        }
+        Set<V> nodes = Set.of();
+        for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+            if (val == null || val.equals(values[e])) {
+                nodes = nodes.add(index.node(targets[e]));
+            }
+        }
+        return nodes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<E> values(int i, int[] offsets, Object[] values) {
+        if (i < 0) {
+            return null;
+        }
+        Set<E> set = Set.of();
+        for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+            set = set.add((E) values[e]);
+        }
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Graph<V, E> thaw() {
+        GraphImpl<V, E> graph = (GraphImpl<V, E>) GraphImpl.EMPTY;
+        for (int s = 0; s < index.size(); s++) {
+            for (int e = outOffsets[s]; e < outOffsets[s + 1]; e++) {
+                graph = graph.putEdge(index.node(s), index.node(outTargets[e]), (E) outValues[e]);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public String toString() {
+        return "Frozen" + index;
+    }
+}
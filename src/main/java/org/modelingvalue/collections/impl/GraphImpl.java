@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.ContainingCollection;
 import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.FrozenGraph;
 import org.modelingvalue.collections.Graph;
 import org.modelingvalue.collections.List;
 import org.modelingvalue.collections.Set;
@@ -58,7 +59,7 @@ import org.modelingvalue.collections.util.*;
  */
 public class GraphImpl<V, E> extends CollectionImpl<Triple<V, E, V>> implements Graph<V, E> {
 
-    private static final SerializableFunction<Object, Set<Object>>                                                            EMPTY_SET_FUNCTION         = new SerializableFunction.SerializableFunctionImpl<>(i -> Set.of());
+    static final SerializableFunction<Object, Set<Object>>                                                                    EMPTY_SET_FUNCTION         = new SerializableFunction.SerializableFunctionImpl<>(i -> Set.of());
     private static final SerializableFunction<Object, Pair<DefaultMap<Object, Set<Object>>, DefaultMap<Object, Set<Object>>>> EMPTY_DEFAULT_MAP_FUNCTION = new SerializableFunction.SerializableFunctionImpl<>(k -> Pair.of(DefaultMap.of(EMPTY_SET_FUNCTION), DefaultMap.of(EMPTY_SET_FUNCTION)));
     private static final DefaultMap<Object, Pair<DefaultMap<Object, Set<Object>>, DefaultMap<Object, Set<Object>>>>           EMPTY_DEFAULT_MAP          = DefaultMap.of(EMPTY_DEFAULT_MAP_FUNCTION);
     @SuppressWarnings("rawtypes")
@@ -336,6 +337,11 @@ public class GraphImpl<V, E> extends CollectionImpl<Triple<V, E, V>> implements
         return new GraphImpl<>(incoming, outgoing);
     }
 
+    @Override
+    public FrozenGraph<V, E> freeze() {
+        return new FrozenGraphImpl<>(this);
+    }
+
     @Override
     public int size() {
         return this.outgoing.flatMap(a -> a.getValue().b().toValues()).mapToInt(Collection::size).sum();
@@ -583,21 +589,25 @@ public class GraphImpl<V, E> extends CollectionImpl<Triple<V, E, V>> implements
 
     @Override
     public void javaSerialize(Serializer s) {
-        s.writeInt(size());
-        for (Object e : this) {
-            s.writeObject(e);
-        }
+        CollectionCodec.DEFAULT.writeElements(s, this, size());
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void javaDeserialize(Deserializer s) {
         int size = s.readInt();
-
-        for (int i = 0; i < size; i++) {
-            Triple<V, E, V> curr = s.readObject();
-            GraphImpl<V, E> next = (GraphImpl<V, E>) add(curr);
-            this.outgoing = next.outgoing;
-            this.incoming = next.incoming;
+        if (size == CollectionCodec.COMPACT) {
+            Object[] triples = CollectionCodec.DEFAULT.readElements(s);
+            GraphImpl<V, E> graph = new GraphImpl<>(Arrays.copyOf(triples, triples.length, Triple[].class));
+            this.outgoing = graph.outgoing;
+            this.incoming = graph.incoming;
+        } else {
+            for (int i = 0; i < size; i++) {
+                Triple<V, E, V> curr = s.readObject();
+                GraphImpl<V, E> next = (GraphImpl<V, E>) add(curr);
+                this.outgoing = next.outgoing;
+                this.incoming = next.incoming;
+            }
         }
     }
 
@@ -24,6 +24,7 @@ import java.io.Serial;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -34,6 +35,8 @@ import org.modelingvalue.collections.ContainingCollection;
 import org.modelingvalue.collections.Set;
 import org.modelingvalue.collections.StreamCollection;
 import org.modelingvalue.collections.util.IdentityRank;
+import org.modelingvalue.collections.util.InternPool;
+import org.modelingvalue.collections.util.Internable;
 import org.modelingvalue.collections.util.Concurrent;
 import org.modelingvalue.collections.util.ContextThread;
 import org.modelingvalue.collections.util.Reusable;
@@ -48,6 +51,9 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
     private static Object[]                        EMPTY_ARRAY                  = new Object[0];
 
     public static final int                        EQUAL_HASHCODE_WARNING_LEVEL = Integer.getInteger("EQUAL_HASHCODE_WARNING_LEVEL", 16);
+    public static final int                        INTERN_POOL_SIZE             = Integer.getInteger("INTERN_POOL_SIZE", 1 << 16);
+
+    private static final InternPool                INTERN_POOL                  = new InternPool(INTERN_POOL_SIZE);
 
     @SuppressWarnings("rawtypes")
     private static final BiFunction                RETURN_2                     = (v1, v2) -> v1.equals(v2) ? v1 : v2;
@@ -66,14 +72,17 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                                                                                     return null;
                                                                                 };
 
-    private static final int                       PART_SIZE                    = Integer.getInteger("HASH_PARTITION_SIZE", 6);
+    static final         int                       PART_SIZE                    = Integer.getInteger("HASH_PARTITION_SIZE", 6);
     private static final int                       PART_REST                    = Integer.SIZE % PART_SIZE == 0 ? 0 : PART_SIZE - Integer.SIZE % PART_SIZE;
-    private static final byte                      NR_OF_PARTS                  = (byte) (Integer.SIZE / PART_SIZE + (PART_REST == 0 ? 0 : 1));
-    private static final int[]                     PART_MASKS                   = new int[NR_OF_PARTS];
+    static final         byte                      NR_OF_PARTS                  = (byte) (Integer.SIZE / PART_SIZE + (PART_REST == 0 ? 0 : 1));
+    static final         int[]                     PART_MASKS                   = new int[NR_OF_PARTS];
     private static final int[]                     INDEX_MASKS                  = new int[NR_OF_PARTS];
-    private static final int[]                     PART_SHIFTS                  = new int[NR_OF_PARTS];
+    static final         int[]                     PART_SHIFTS                  = new int[NR_OF_PARTS];
 
+    static final         boolean                   CACHE_KEY_HASHES             = Boolean.getBoolean("CACHE_KEY_HASHES");
+    private static final int                       PARALLEL_SET_SIZE            = Integer.getInteger("PARALLEL_SET_SIZE", 1 << 15);
     private static final int                       COMPARE_MAX                  = Integer.getInteger("COMPARE_MAX", ContextThread.POOL_SIZE * 2);
+    private static final long                      SORTED                       = 1L;
     private static final HashMultiValue            DUMMY                        = new HashMultiValue(EMPTY_ARRAY, 0, 0, (byte) 1, 0, (byte) 0, 0);
     private static Object[][]                      SINGLES                      = new Object[COMPARE_MAX][COMPARE_MAX];
 
@@ -104,6 +113,13 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
         return v == null ? 0 : v instanceof HashMultiValue ? ((HashMultiValue) v).index : key.apply(v).hashCode();
     }
 
+    /**
+     * The id of {@code v}, which has key hash {@code id} if it is an element.
+     */
+    private static int index(Object v, int id) {
+        return v instanceof HashMultiValue ? ((HashMultiValue) v).index : id;
+    }
+
     protected static byte level(Object v) {
         return v instanceof HashMultiValue ? ((HashMultiValue) v).level : NR_OF_PARTS;
     }
@@ -151,21 +167,90 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
     }
 
     private static final class HashMultiValue extends MultiValue {
-        private static final long serialVersionUID = 3238646981697101095L;
-        private final int         index;
-        private final byte        level;
-        private final long        mask;
+        private static final long         serialVersionUID = 3238646981697101095L;
+        private final int                 index;
+        private final byte                level;
+        private final long                mask;
+        private final int[]               ids;
+
+        private transient volatile int[]  offsets;
 
         private HashMultiValue(Object[] values, int size, int hash, byte depth, int index, byte level, long mask) {
+            this(values, size, hash, depth, index, level, mask, null);
+        }
+
+        private HashMultiValue(Object[] values, int size, int hash, byte depth, int index, byte level, long mask, int[] ids) {
             super(values, size, hash, depth);
             this.index = index;
             this.level = level;
-            this.mask = level < NR_OF_PARTS ? mask : 0;
+            this.mask = level < NR_OF_PARTS ? mask : mask & SORTED;
+            this.ids = level < NR_OF_PARTS ? ids : null;
+        }
+
+        /**
+         * The key hash of child {@code it}, without hashing it again if it is known.
+         */
+        @SuppressWarnings("rawtypes")
+        private int id(int it, Function key) {
+            return level == NR_OF_PARTS ? index : ids != null ? ids[it] : index(values[it], key);
+        }
+
+        /**
+         * The number of elements before each child. Computed on first use, so that positional lookups only touch the
+         * children on their path instead of all siblings before it.
+         */
+        private int[] offsets() {
+            int[] o = offsets;
+            if (o == null) {
+                o = new int[values.length];
+                for (int i = 1; i < o.length; i++) {
+                    o[i] = o[i - 1] + size(values[i - 1]);
+                }
+                offsets = o;
+            }
+            return o;
+        }
+
+        /**
+         * The last child whose offset is not greater than {@code idx}.
+         */
+        private static int child(int[] o, int idx) {
+            int lo = 0, hi = o.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (o[mid] <= idx) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * The element at position {@code idx} of this node.
+         */
+        private Object getDeep(int idx) {
+            HashMultiValue mv = this;
+            while (mv.level < NR_OF_PARTS) {
+                int[] o = mv.offsets();
+                int it = child(o, idx);
+                idx -= o[it];
+                Object v = mv.values[it];
+                if (v instanceof HashMultiValue) {
+                    mv = (HashMultiValue) v;
+                } else if (idx == 0) {
+                    return v;
+                } else {
+                    throw new IndexOutOfBoundsException();
+                }
+            }
+            return mv.values[idx];
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(super.hashCode(), size, index, level, depth);
+            return ((((31 + hash) * 31 + size) * 31 + index) * 31 + level) * 31 + depth;
         }
 
         @Override
@@ -178,8 +263,15 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 return false;
             }
             HashMultiValue other = (HashMultiValue) obj;
-            if (hash != other.hash || index != other.index || level != other.level || size != other.size || depth != other.depth || mask != other.mask) {
+            if (hash != other.hash || index != other.index || level != other.level || size != other.size || depth != other.depth || (level < NR_OF_PARTS && mask != other.mask)) {
                 return false;
+            } else if (level == NR_OF_PARTS && mask == SORTED && other.mask == SORTED) {
+                for (int i = 0; i < values.length; i++) {
+                    if (stop[0] || !equalsWithStop(other, i, stop)) {
+                        return false;
+                    }
+                }
+                return true;
             } else if (level == NR_OF_PARTS) {
                 outer:
                 for (int ia = 0; ia < values.length; ia++) {
@@ -201,27 +293,34 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     return false;
                 }
                 return true;
-            } else {
-                return getIntStream(0, values.length, stop, size).allMatch(i -> {
-                    if (stop[0]) {
+            } else if (sequential(size)) {
+                for (int i = 0; i < values.length; i++) {
+                    if (stop[0] || !equalsWithStop(other, i, stop)) {
                         return false;
-                    } else if (values[i] == other.values[i]) {
-                        return true;
-                    } else if (!TreeCollectionImpl.equalsWithStop(values[i], other.values[i], stop)) {
-                        stop[0] = true;
-                        return false;
-                    } else if (IdentityRank.rank(values[i]) < IdentityRank.rank(other.values[i])) {
-                        other.values[i] = values[i];
-                        return true;
-                    } else {
-                        values[i] = other.values[i];
-                        return true;
                     }
-                });
+                }
+                return true;
+            } else {
+                return getIntStream(0, values.length, stop, size).allMatch(i -> !stop[0] && equalsWithStop(other, i, stop));
             }
         }
 
-        private Object set(int i, Object niw, int oldPos, long newMask, int newLen) {
+        private boolean equalsWithStop(HashMultiValue other, int i, boolean[] stop) {
+            if (values[i] == other.values[i]) {
+                return true;
+            } else if (!TreeCollectionImpl.equalsWithStop(values[i], other.values[i], stop)) {
+                stop[0] = true;
+                return false;
+            } else if (IdentityRank.rank(values[i]) < IdentityRank.rank(other.values[i])) {
+                other.values[i] = values[i];
+                return true;
+            } else {
+                values[i] = other.values[i];
+                return true;
+            }
+        }
+
+        private Object set(int i, Object niw, int nid, int oldPos, long newMask, int newLen) {
             Object old = oldPos >= 0 ? values[oldPos] : null;
             if (Objects.equals(old, niw)) {
                 return this;
@@ -241,39 +340,115 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 int newPos = getIt(newMask, i);
                 assert newPos >= 0 || oldPos >= 0;
                 Object[] result = new Object[newLen];
+                int[] rids = ids != null ? new int[newLen] : null;
                 System.arraycopy(values, 0, result, 0, old != null ? oldPos : newPos);
+                copy(ids, 0, rids, 0, old != null ? oldPos : newPos);
                 oldPos = old != null ? oldPos + 1 : newPos;
                 if (niw != null) {
                     System.arraycopy(values, oldPos, result, newPos + 1, values.length - oldPos);
+                    copy(ids, oldPos, rids, newPos + 1, values.length - oldPos);
                     result[newPos] = niw;
+                    if (rids != null) {
+                        rids[newPos] = nid;
+                    }
                 } else {
                     //assert old != null; // always true because old!=niw && niw==null (see above)
                     System.arraycopy(values, oldPos, result, oldPos - 1, values.length - oldPos);
+                    copy(ids, oldPos, rids, oldPos - 1, values.length - oldPos);
                 }
-                return new HashMultiValue(result, size + size(niw) - size(old), hash + hash(niw) - hash(old), (byte) (d + 1), index, level, newMask);
+                return new HashMultiValue(result, size + size(niw) - size(old), hash + hash(niw) - hash(old), (byte) (d + 1), index, level, newMask, rids);
             }
         }
 
-        private static Object of(Object v1, Object v2, int index, byte level, long newMask) {
-            return new HashMultiValue(new Object[]{v1, v2}, size(v1) + size(v2), hash(v1) + hash(v2), (byte) (max(depth(v1), depth(v2)) + 1), index, level, newMask);
+        private static Object of(Object v1, int id1, Object v2, int id2, int index, byte level, long newMask) {
+            return new HashMultiValue(new Object[]{v1, v2}, size(v1) + size(v2), hash(v1) + hash(v2), (byte) (max(depth(v1), depth(v2)) + 1), index, level, newMask, CACHE_KEY_HASHES ? new int[]{id1, id2} : null);
         }
 
-        private static HashMultiValue of(Object v1, Object v2, int index) {
-            return new HashMultiValue(new Object[]{v1, v2}, 2, index * 2, (byte) 2, index, NR_OF_PARTS, 3);
+        private static void copy(int[] ids, int from, int[] rids, int to, int length) {
+            if (rids != null) {
+                System.arraycopy(ids, from, rids, to, length);
+            }
         }
 
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        private Object set(Function key, Object find, Object set) {
-            assert (level == NR_OF_PARTS);
-            int si = values.length;
+        @SuppressWarnings("rawtypes")
+        private static HashMultiValue of(Object v1, Object v2, int index, Function key) {
+            return equalHashes(new Object[]{v1, v2}, index, key);
+        }
+
+        /**
+         * A node of elements with equal key hashes. When all keys are {@link Comparable} instances of one class the
+         * elements are sorted by key and the node is marked {@link #SORTED}, so that large buckets are searched and
+         * merged without nested scans. The keys must then compare to zero only if they are equal.
+         */
+        @SuppressWarnings("rawtypes")
+        private static HashMultiValue equalHashes(Object[] values, int index, Function key) {
+            return new HashMultiValue(values, values.length, values.length * index, (byte) 2, index, NR_OF_PARTS, sort(values, key) ? SORTED : 0);
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static boolean sort(Object[] values, Function key) {
+            Object first = key.apply(values[0]);
+            if (!(first instanceof Comparable)) {
+                return false;
+            }
+            boolean sorted = true;
+            Comparable prev = null;
+            for (Object v : values) {
+                Object k = key.apply(v);
+                if (k.getClass() != first.getClass()) {
+                    return false;
+                } else if (prev != null && prev.compareTo(k) >= 0) {
+                    sorted = false;
+                }
+                prev = (Comparable) k;
+            }
+            if (!sorted) {
+                Arrays.sort(values, (a, b) -> ((Comparable) key.apply(a)).compareTo(key.apply(b)));
+                for (int i = 1; i < values.length; i++) {
+                    if (((Comparable) key.apply(values[i - 1])).compareTo(key.apply(values[i])) == 0) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The position of the element with key {@code find} in this node of equal hashes, or
+         * {@code -(insertion point) - 1} if it is not there.
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private int find(Function key, Object find) {
+            if (mask == SORTED && find.getClass() == key.apply(values[0]).getClass()) {
+                int lo = 0, hi = values.length - 1;
+                while (lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    Object k = key.apply(values[mid]);
+                    int c = ((Comparable) k).compareTo(find);
+                    if (c < 0) {
+                        lo = mid + 1;
+                    } else if (c > 0) {
+                        hi = mid - 1;
+                    } else {
+                        return k.equals(find) ? mid : -mid - 1;
+                    }
+                }
+                return -lo - 1;
+            }
             for (int i = 0; i < values.length; i++) {
                 if (key.apply(values[i]).equals(find)) {
-                    si = i;
-                    break;
+                    return i;
                 }
             }
+            return -values.length - 1;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private Object set(Function key, Object find, Object set) {
+            assert (level == NR_OF_PARTS);
+            int si = find(key, find);
             if (set == null) {
-                if (si == values.length) {
+                if (si < 0) {
                     return this;
                 } else if (values.length == 2) {
                     return si == 0 ? values[1] : values[0];
@@ -281,19 +456,26 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     Object[] result = new Object[values.length - 1];
                     System.arraycopy(values, 0, result, 0, si);
                     System.arraycopy(values, si + 1, result, si, values.length - si - 1);
-                    return new HashMultiValue(result, result.length, hash - index, (byte) 2, index, NR_OF_PARTS, mask & ~(1L << values.length));
+                    return equalHashes(result, index, key);
                 }
-            } else if (si != values.length && values[si].equals(set)) {
+            } else if (si >= 0 && values[si].equals(set)) {
                 return this;
             } else {
-                Object[] result = new Object[si == values.length ? values.length + 1 : values.length];
-                System.arraycopy(values, 0, result, 0, values.length);
+                Object[] result;
+                if (si >= 0) {
+                    result = values.clone();
+                } else {
+                    si = -si - 1;
+                    result = new Object[values.length + 1];
+                    System.arraycopy(values, 0, result, 0, si);
+                    System.arraycopy(values, si, result, si + 1, values.length - si);
+                }
                 result[si] = set;
                 if (result.length > EQUAL_HASHCODE_WARNING_LEVEL) {
                     System.err.println("WARNING: " + result.length + " non equal objects with equal hashcode " + //
                             StringUtil.toString(Arrays.copyOf(result, EQUAL_HASHCODE_WARNING_LEVEL)));
                 }
-                return new HashMultiValue(result, result.length, result.length * index, (byte) 2, index, NR_OF_PARTS, si == values.length ? mask | 1L << si : mask);
+                return equalHashes(result, index, key);
             }
         }
 
@@ -309,10 +491,11 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             } else {
                 int im = INDEX_MASKS[level];
                 int pi = Long.numberOfTrailingZeros(mask);
-                for (Object v : values) {
+                for (int i = 0; i < values.length; i++) {
+                    Object v = values[i];
                     int vi = index(v, key) & im;
                     int ii = pi << PART_SHIFTS[level];
-                    if (vi != (index | ii)) {
+                    if (vi != (index | ii) || (ids != null && ids[i] != index(v, key))) {
                         return v;
                     } else if (v instanceof HashMultiValue) {
                         Object wrong = ((HashMultiValue) v).checkHashIntegrity(key);
@@ -336,31 +519,191 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
     }
 
     protected static <T> Object addAll(Object value, Function<T, Object> key, T[] adds) {
-        for (T added : adds) {
-            value = add(value, key, added, key);
-        }
-        return value;
+        return add(value, key, build(adds, adds.length, key, false), key);
     }
 
     protected static <T> Object addAll(Object value, Function<T, Object> key, java.util.Collection<? extends T> adds) {
-        for (T added : adds) {
-            value = add(value, key, added, key);
-        }
-        return value;
+        Object[] array = adds.toArray();
+        return add(value, key, build(array, array.length, key, false), key);
     }
 
     protected static <T> Object putAll(Object value, Function<T, Object> key, T[] adds) {
-        for (T added : adds) {
-            value = put(value, key, added, key);
-        }
-        return value;
+        return put(value, key, build(adds, adds.length, key, true), key);
     }
 
     protected static <T> Object putAll(Object value, Function<T, Object> key, java.util.Collection<? extends T> adds) {
-        for (T added : adds) {
-            value = put(value, key, added, key);
+        Object[] array = adds.toArray();
+        return put(value, key, build(array, array.length, key, true), key);
+    }
+
+    @Override
+    protected Object bulkValue(Object[] es) {
+        return build(es, es.length, key(), false);
+    }
+
+    /**
+     * Builds the trie of the first {@code length} elements in one pass, instead of adding them one by one.
+     * Of elements with equal keys the first is kept, or the last if {@code last} is true. Nulls are skipped.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected static Object build(Object[] es, int length, Function key, boolean last) {
+        long[] order = new long[length];
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            if (es[i] != null) {
+                order[n++] = (long) (index(es[i], key) ^ Integer.MIN_VALUE) << 32 | i;
+            }
+        }
+        if (n <= 1) {
+            return n == 0 ? null : es[(int) order[0]];
+        }
+        Arrays.sort(order, 0, n);
+        Object[] sorted = new Object[n];
+        int[] ids = new int[n];
+        int len = 0;
+        for (int i = 0; i < n;) {
+            int id = (int) (order[i] >>> 32) ^ Integer.MIN_VALUE;
+            int e = i + 1;
+            while (e < n && (int) (order[e] >>> 32) == (int) (order[i] >>> 32)) {
+                e++;
+            }
+            int start = len;
+            outer:
+            for (int j = i; j < e; j++) {
+                Object v = es[(int) order[j]];
+                if (e - i > 1) {
+                    Object k = key.apply(v);
+                    for (int m = start; m < len; m++) {
+                        if (k.equals(key.apply(sorted[m]))) {
+                            if (last) {
+                                sorted[m] = v;
+                            }
+                            continue outer;
+                        }
+                    }
+                }
+                sorted[len] = v;
+                ids[len++] = id;
+            }
+            i = e;
+        }
+        return build(sorted, ids, 0, len, (byte) 0, key);
+    }
+
+    /**
+     * Restores a node written by {@link CollectionCodec}, checking its structure against the local hash codes.
+     * When these differ from the ones of the writer, the node is rebuilt from its elements.
+     */
+    @SuppressWarnings("rawtypes")
+    static Object restore(Object[] values, byte level, Function key) {
+        if (values.length < 2 || level < 0 || level > NR_OF_PARTS) {
+            return rebuild(values, key);
+        }
+        int first = index(values[0], key);
+        if (level == NR_OF_PARTS) {
+            for (Object v : values) {
+                if (v instanceof MultiValue || index(v, key) != first) {
+                    return rebuild(values, key);
+                }
+            }
+            return HashMultiValue.equalHashes(values, first, key);
+        }
+        int im = level == 0 ? 0 : INDEX_MASKS[level - 1];
+        int idx = first & im;
+        long mask = 0;
+        int size = 0;
+        int hash = 0;
+        byte depth = 0;
+        int prev = -1;
+        int[] ids = CACHE_KEY_HASHES ? new int[values.length] : null;
+        for (int i = 0; i < values.length; i++) {
+            Object v = values[i];
+            int id = index(v, key);
+            int part = (id & PART_MASKS[level]) >>> PART_SHIFTS[level];
+            if (level(v) <= level || (id & im) != idx || part <= prev) {
+                return rebuild(values, key);
+            }
+            if (ids != null) {
+                ids[i] = id;
+            }
+            prev = part;
+            mask |= 1L << part;
+            size += size(v);
+            hash += hash(v);
+            depth = max(depth, depth(v));
+        }
+        return new HashMultiValue(values, size, hash, (byte) (depth + 1), idx, level, mask, ids);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object rebuild(Object[] values, Function key) {
+        java.util.List<Object> es = new java.util.ArrayList<>();
+        elements(values, es);
+        return build(es.toArray(), es.size(), key, false);
+    }
+
+    private static void elements(Object[] values, java.util.List<Object> es) {
+        for (Object v : values) {
+            if (v instanceof MultiValue) {
+                elements(((MultiValue) v).values, es);
+            } else if (v != null) {
+                es.add(v);
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object build(Object[] sorted, int[] ids, int from, int to, byte level, Function key) {
+        if (to - from == 1) {
+            return sorted[from];
+        }
+        int first = ids[from];
+        int last = ids[to - 1];
+        while (level < NR_OF_PARTS && (first & PART_MASKS[level]) == (last & PART_MASKS[level])) {
+            level++;
         }
-        return value;
+        int idx = level == 0 ? 0 : first & INDEX_MASKS[level - 1];
+        if (level == NR_OF_PARTS) {
+            Object[] result = Arrays.copyOfRange(sorted, from, to);
+            if (result.length > EQUAL_HASHCODE_WARNING_LEVEL) {
+                System.err.println("WARNING: " + result.length + " non equal objects with equal hashcode " + //
+                        StringUtil.toString(Arrays.copyOf(result, EQUAL_HASHCODE_WARNING_LEVEL)));
+            }
+            return HashMultiValue.equalHashes(result, idx, key);
+        }
+        int pm = PART_MASKS[level];
+        long mask = 0;
+        for (int i = from; i < to; i++) {
+            mask |= 1L << ((ids[i] & pm) >>> PART_SHIFTS[level]);
+        }
+        Object[] values = new Object[Long.bitCount(mask)];
+        int[] vids = CACHE_KEY_HASHES ? new int[values.length] : null;
+        int size = 0;
+        int hash = 0;
+        byte depth = 0;
+        for (int i = from, vi = 0; i < to; vi++) {
+            int part = ids[i] & pm;
+            int e = i + 1;
+            while (e < to && (ids[e] & pm) == part) {
+                e++;
+            }
+            Object v = build(sorted, ids, i, e, (byte) (level + 1), key);
+            values[vi] = v;
+            if (vids != null) {
+                vids[vi] = index(v, ids[i]);
+            }
+            size += size(v);
+            hash += hash(v);
+            depth = max(depth, depth(v));
+            i = e;
+        }
+        return new HashMultiValue(values, size, hash, (byte) (depth + 1), idx, level, mask, vids);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        return value instanceof HashMultiValue mv && index >= 0 && index < mv.size ? (T) mv.getDeep(index) : super.get(index);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -373,19 +716,12 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             while (v instanceof HashMultiValue mv) {
                 if (mv.level == level + 1 || (id & INDEX_MASKS[mv.level - 1]) == mv.index) {
                     if (mv.level == NR_OF_PARTS) {
-                        for (i = 0; i < mv.values.length; i++) {
-                            v = mv.values[i];
-                            if (key.apply(v).equals(find)) {
-                                return index + i;
-                            }
-                        }
-                        return -1;
+                        i = mv.find(key, find);
+                        return i >= 0 ? index + i : -1;
                     } else {
                         it = getIt(mv.mask, (id & PART_MASKS[mv.level]) >>> PART_SHIFTS[mv.level]);
                         if (it >= 0) {
-                            for (i = 0; i < it; i++) {
-                                index += size(mv.values[i]);
-                            }
+                            index += mv.offsets()[it];
                             level = mv.level;
                             v = mv.values[it];
                         } else {
@@ -410,13 +746,8 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             while (v instanceof HashMultiValue mv) {
                 if (mv.level == level + 1 || (id & INDEX_MASKS[mv.level - 1]) == mv.index) {
                     if (mv.level == NR_OF_PARTS) {
-                        for (it = 0; it < mv.values.length; it++) {
-                            v = mv.values[it];
-                            if (key.apply(v).equals(find)) {
-                                return (T) v;
-                            }
-                        }
-                        return null;
+                        it = mv.find(key, find);
+                        return it >= 0 ? (T) mv.values[it] : null;
                     } else {
                         it = getIt(mv.mask, (id & PART_MASKS[mv.level]) >>> PART_SHIFTS[mv.level]);
                         if (it >= 0) {
@@ -508,9 +839,9 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     i1 >>>= PART_SHIFTS[lev];
                     long downMask = 1L << i1 | 1L << i2;
                     if (i1 < i2) {
-                        return HashMultiValue.of(val1, val2, idx, lev, downMask);
+                        return HashMultiValue.of(val1, id1, val2, id2, idx, lev, downMask);
                     } else {
-                        return HashMultiValue.of(val2, val1, idx, lev, downMask);
+                        return HashMultiValue.of(val2, id2, val1, id1, idx, lev, downMask);
                     }
                 }
             }
@@ -520,8 +851,9 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static Object setMultiOne(HashMultiValue mv1, Function key1, Function set1, Object val2, Function key2, int id2, Function set2, byte lev, int idx, BiFunction set12, boolean flip) {
         int p2 = id2 & PART_MASKS[lev], i = p2 >>> PART_SHIFTS[lev], it1 = getIt(mv1.mask, i);
-        Object val = it1 >= 0 ? mv1.values[it1] : null;
-        val = set(val, key1, index(val, key1), set1, val2, key2, id2, set2, (byte) (lev + 1), idx | p2, set12, flip);
+        Object old = it1 >= 0 ? mv1.values[it1] : null;
+        int oid = it1 >= 0 ? mv1.id(it1, key1) : 0;
+        Object val = set(old, key1, oid, set1, val2, key2, id2, set2, (byte) (lev + 1), idx | p2, set12, flip);
         if (set1 == nullFunction()) {
             return val;
         } else if (set1 == identity()) {
@@ -530,16 +862,17 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             if (newLength == 1) {
                 return mv1.values[getIt(mv1.mask, Long.numberOfTrailingZeros(downMask))];
             } else {
-                return mv1.set(i, val, it1, downMask, newLength);
+                return mv1.set(i, val, mv1.ids != null ? id(val, old, oid, val2, id2, key1) : 0, it1, downMask, newLength);
             }
         } else {
             Object[] result = null;
+            int[] rids = null;
             int len = 0, hash = 0, size = 0;
             byte depth = 0;
-            long mask = mv1.mask;
+            long mask = mv1.mask, bits = mv1.mask;
             boolean eq = true;
             Object v, e;
-            for (int it = 0; it < mv1.values.length; it++) {
+            for (int it = 0; it < mv1.values.length; it++, bits &= bits - 1) {
                 v = mv1.values[it];
                 e = it == it1 ? val : set1.apply(v);
                 if (e != v) {
@@ -548,13 +881,17 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 if (e != null) {
                     if (result == null) {
                         result = new Object[Long.bitCount(mask)];
+                        rids = CACHE_KEY_HASHES ? new int[result.length] : null;
+                    }
+                    if (rids != null) {
+                        rids[len] = it == it1 ? id(e, old, oid, val2, id2, key1) : id(e, v, mv1.id(it, key1), null, 0, key1);
                     }
                     result[len++] = e;
                     hash += hash(e);
                     size += size(e);
                     depth = max(depth, depth(e));
                 } else {
-                    mask &= ~(1L << i);
+                    mask &= ~Long.lowestOneBit(bits);
                 }
             }
             if (len == 0) {
@@ -565,7 +902,8 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 return mv1;
             } else {
                 result = len == result.length ? result : Arrays.copyOf(result, len);
-                return new HashMultiValue(result, size, hash, (byte) (depth + 1), idx, lev, mask);
+                rids = rids == null || len == rids.length ? rids : Arrays.copyOf(rids, len);
+                return new HashMultiValue(result, size, hash, (byte) (depth + 1), idx, lev, mask, rids);
             }
         }
     }
@@ -585,6 +923,9 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             size += mv2.size;
             hash += mv2.hash;
         }
+        Object[] forked = fork(mv1, key1, set1, mv2, key2, set2, lev, idx, set12, flip);
+        int[] rids = null;
+        int id1, id2;
         Object e, e1, e2;
         for (i = Long.numberOfTrailingZeros(mask); i < Long.SIZE; i += Long.numberOfTrailingZeros(mask >>> i)) {
             i1 = getIt(mv1.mask, i);
@@ -594,8 +935,10 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     l = Math.min(Long.SIZE - i, Math.min(Long.numberOfTrailingZeros(~mv1.mask >>> i), Long.numberOfTrailingZeros(mv2.mask >>> i)));
                     if (result == null) {
                         result = new Object[Long.bitCount(mask)];
+                        rids = CACHE_KEY_HASHES ? new int[result.length] : null;
                     }
                     System.arraycopy(mv1.values, i1, result, len, l);
+                    copy(mv1, i1, rids, len, l, key1);
                     len += l;
                     i += l;
                     eq2 = false;
@@ -609,8 +952,10 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     l = Math.min(Long.SIZE - i, Math.min(Long.numberOfTrailingZeros(~mv2.mask >>> i), Long.numberOfTrailingZeros(mv1.mask >>> i)));
                     if (result == null) {
                         result = new Object[Long.bitCount(mask)];
+                        rids = CACHE_KEY_HASHES ? new int[result.length] : null;
                     }
                     System.arraycopy(mv2.values, i2, result, len, l);
+                    copy(mv2, i2, rids, len, l, key2);
                     len += l;
                     i += l;
                     eq1 = false;
@@ -621,6 +966,8 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             }
             e1 = i1 >= 0 ? mv1.values[i1] : null;
             e2 = i2 >= 0 ? mv2.values[i2] : null;
+            id1 = i1 >= 0 ? mv1.id(i1, key1) : 0;
+            id2 = i2 >= 0 ? mv2.id(i2, key2) : 0;
             if (e1 != null && set1 == identity()) {
                 hash -= hash(e1);
                 size -= size(e1);
@@ -629,7 +976,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 hash -= hash(e2);
                 size -= size(e2);
             }
-            e = set(e1, key1, index(e1, key1), set1, e2, key2, index(e2, key2), set2, (byte) (lev + 1), idx | (i << PART_SHIFTS[lev]), set12, flip);
+            e = forked != null && e1 != null && e2 != null ? forked[i] : set(e1, key1, id1, set1, e2, key2, id2, set2, (byte) (lev + 1), idx | (i << PART_SHIFTS[lev]), set12, flip);
             if (e != e1) {
                 eq1 = false;
             }
@@ -639,6 +986,10 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             if (e != null) {
                 if (result == null) {
                     result = new Object[Long.bitCount(mask)];
+                    rids = CACHE_KEY_HASHES ? new int[result.length] : null;
+                }
+                if (rids != null) {
+                    rids[len] = id(e, e1, id1, e2, id2, key1);
                 }
                 result[len++] = e;
                 hash += hash(e);
@@ -659,13 +1010,79 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             return mv2;
         } else {
             result = len == result.length ? result : Arrays.copyOf(result, len);
+            rids = rids == null || len == rids.length ? rids : Arrays.copyOf(rids, len);
             if (depth < max(mv1.depth, mv2.depth) - 1) {
                 depth = 0;
                 for (i = 0; i < result.length; i++) {
                     depth = max(depth, depth(result[i]));
                 }
             }
-            return new HashMultiValue(result, size, hash, (byte) (depth + 1), idx, lev, mask);
+            return new HashMultiValue(result, size, hash, (byte) (depth + 1), idx, lev, mask, rids);
+        }
+    }
+
+    /**
+     * Computes the sub-tries that both nodes have in common as separate tasks in the current context pool, when
+     * both are big enough. Only done for the stateless merge functions, the result is the same trie as sequentially.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Object[] fork(HashMultiValue mv1, Function key1, Function set1, HashMultiValue mv2, Function key2, Function set2, byte lev, int idx, BiFunction set12, boolean flip) {
+        long common = mv1.mask & mv2.mask;
+        if (Long.bitCount(common) < 2 || Math.min(mv1.size, mv2.size) < PARALLEL_SET_SIZE || (set12 != RETURN_1 && set12 != RETURN_2 && set12 != RETURN_NULL) || !runParallel() || !split(mv1.size + mv2.size)) {
+            return null;
+        }
+        Object[] ctx = ContextThread.getContext();
+        Object[] result = new Object[Long.SIZE];
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[Long.bitCount(common)];
+        int t = 0;
+        for (long m = common; m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
+            int i1 = getIt(mv1.mask, i), i2 = getIt(mv2.mask, i);
+            tasks[t++] = ForkJoinTask.adapt(() -> {
+                Object[] old = ContextThread.setIncrement(ctx);
+                try {
+                    result[i] = set(mv1.values[i1], key1, mv1.id(i1, key1), set1, mv2.values[i2], key2, mv2.id(i2, key2), set2, (byte) (lev + 1), idx | (i << PART_SHIFTS[lev]), set12, flip);
+                } finally {
+                    ContextThread.setDecrement(old);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+        return result;
+    }
+
+    /**
+     * The key hash of {@code e}, the result of setting {@code e1} and {@code e2}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static int id(Object e, Object e1, int id1, Object e2, int id2, Function key) {
+        return e instanceof HashMultiValue ? ((HashMultiValue) e).index : e == e1 ? id1 : e == e2 ? id2 : index(e, key);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void copy(HashMultiValue mv, int from, int[] rids, int to, int length, Function key) {
+        if (rids != null) {
+            if (mv.ids != null) {
+                System.arraycopy(mv.ids, from, rids, to, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    rids[to + i] = mv.id(from + i, key);
+                }
+            }
+        }
+    }
+
+    /**
+     * The class of the keys of {@code val}, an element or a node of equal hashes, if they are sorted.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Class<?> sortedKeys(Object val, Function key) {
+        if (val instanceof HashMultiValue) {
+            HashMultiValue mv = (HashMultiValue) val;
+            return mv.mask == SORTED ? key.apply(mv.values[0]).getClass() : null;
+        } else {
+            Object k = key.apply(val);
+            return k instanceof Comparable ? k.getClass() : null;
         }
     }
 
@@ -677,58 +1094,79 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             Object[] result = null;
             int len = 0, i1, i2;
             boolean eq1 = true, eq2 = true;
-            next1:
-            for (i1 = 0; i1 < len1; i1++) {
-                e1 = get(val1, i1);
-                k1 = key1.apply(e1);
-                for (i2 = 0; i2 < len2; i2++) {
-                    e2 = get(val2, i2);
-                    k2 = key2.apply(e2);
-                    if (k1.equals(k2)) {
+            Class<?> sorted = sortedKeys(val1, key1);
+            if (sorted != null && sorted == sortedKeys(val2, key2)) {
+                for (i1 = 0, i2 = 0; i1 < len1 || i2 < len2;) {
+                    e1 = i1 < len1 ? get(val1, i1) : null;
+                    e2 = i2 < len2 ? get(val2, i2) : null;
+                    k1 = e1 != null ? key1.apply(e1) : null;
+                    k2 = e2 != null ? key2.apply(e2) : null;
+                    int c = k1 == null ? 1 : k2 == null ? -1 : ((Comparable) k1).compareTo(k2);
+                    if (c == 0 && k1.equals(k2)) {
                         e = flip ? set12.apply(e2, e1) : set12.apply(e1, e2);
+                        i1++;
+                        i2++;
                         if (e != e1) {
                             eq1 = false;
                         }
                         if (e != e2) {
                             eq2 = false;
                         }
-                        if (e != null) {
-                            if (result == null) {
-                                result = new Object[len1 + len2];
-                            }
-                            result[len++] = e;
+                    } else if (c <= 0) {
+                        e = set1.apply(e1);
+                        i1++;
+                        if (e != e1) {
+                            eq1 = false;
                         }
-                        continue next1;
+                        eq2 = false;
+                    } else if (set2 != nullFunction()) {
+                        e = set2.apply(e2);
+                        i2++;
+                        eq1 = false;
+                        if (e != e2) {
+                            eq2 = false;
+                        }
+                    } else {
+                        i2++;
+                        continue;
                     }
-                }
-                e = set1.apply(e1);
-                if (e != e1) {
-                    eq1 = false;
-                }
-                eq2 = false;
-                if (e != null) {
-                    if (result == null) {
-                        result = new Object[len1 + len2];
+                    if (e != null) {
+                        if (result == null) {
+                            result = new Object[len1 + len2];
+                        }
+                        result[len++] = e;
                     }
-                    result[len++] = e;
                 }
-            }
-            if (set2 != nullFunction()) {
-                next2:
-                for (i2 = 0; i2 < len2; i2++) {
-                    e2 = get(val2, i2);
-                    k2 = key2.apply(e2);
-                    for (i1 = 0; i1 < len1; i1++) {
-                        k1 = key1.apply(get(val1, i1));
+            } else {
+                next1:
+                for (i1 = 0; i1 < len1; i1++) {
+                    e1 = get(val1, i1);
+                    k1 = key1.apply(e1);
+                    for (i2 = 0; i2 < len2; i2++) {
+                        e2 = get(val2, i2);
+                        k2 = key2.apply(e2);
                         if (k1.equals(k2)) {
-                            continue next2;
+                            e = flip ? set12.apply(e2, e1) : set12.apply(e1, e2);
+                            if (e != e1) {
+                                eq1 = false;
+                            }
+                            if (e != e2) {
+                                eq2 = false;
+                            }
+                            if (e != null) {
+                                if (result == null) {
+                                    result = new Object[len1 + len2];
+                                }
+                                result[len++] = e;
+                            }
+                            continue next1;
                         }
                     }
-                    e = set2.apply(e2);
-                    eq1 = false;
-                    if (e != e2) {
-                        eq2 = false;
+                    e = set1.apply(e1);
+                    if (e != e1) {
+                        eq1 = false;
                     }
+                    eq2 = false;
                     if (e != null) {
                         if (result == null) {
                             result = new Object[len1 + len2];
@@ -736,6 +1174,30 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                         result[len++] = e;
                     }
                 }
+                if (set2 != nullFunction()) {
+                    next2:
+                    for (i2 = 0; i2 < len2; i2++) {
+                        e2 = get(val2, i2);
+                        k2 = key2.apply(e2);
+                        for (i1 = 0; i1 < len1; i1++) {
+                            k1 = key1.apply(get(val1, i1));
+                            if (k1.equals(k2)) {
+                                continue next2;
+                            }
+                        }
+                        e = set2.apply(e2);
+                        eq1 = false;
+                        if (e != e2) {
+                            eq2 = false;
+                        }
+                        if (e != null) {
+                            if (result == null) {
+                                result = new Object[len1 + len2];
+                            }
+                            result[len++] = e;
+                        }
+                    }
+                }
             }
             if (len == 0) {
                 return null;
@@ -751,7 +1213,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     System.err.println("WARNING: " + len + " non equal objects with equal hashcode " + //
                             StringUtil.toString(Arrays.copyOf(result, EQUAL_HASHCODE_WARNING_LEVEL)));
                 }
-                return new HashMultiValue(result, len, len * idx, (byte) 2, idx, NR_OF_PARTS, 0);
+                return HashMultiValue.equalHashes(result, idx, key1);
             }
         } else {
             val1 = set1.apply(val1);
@@ -761,7 +1223,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             } else if (val2 == null) {
                 return val1;
             } else {
-                return HashMultiValue.of(val1, val2, idx);
+                return HashMultiValue.of(val1, val2, idx, key1);
             }
         }
     }
@@ -873,6 +1335,216 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
         }
     }
 
+    /**
+     * The elements of this collection and {@code other} that differ, as pairs of which one side is null when the key
+     * is only in one of them. The tries are walked lazily and nodes they share are skipped, so the cost depends on
+     * the number of changes rather than on the size of the collections.
+     */
+    @SuppressWarnings("rawtypes")
+    protected final Spliterator<Object[]> diffSpliterator(HashCollectionImpl other) {
+        return new Differ(key(), value, other.key(), other.value, false);
+    }
+
+    /**
+     * The number of keys of which the elements in this collection and {@code other} differ, without creating them.
+     */
+    @SuppressWarnings("rawtypes")
+    protected final int countDiff(HashCollectionImpl other) {
+        Differ differ = new Differ(key(), value, other.key(), other.value, true);
+        differ.forEachRemaining(d -> {
+        });
+        return differ.count;
+    }
+
+    /**
+     * An equal collection whose nodes and internable elements are shared with all other interned collections they are
+     * equal to, as far as the bounded {@link InternPool} still holds them.
+     */
+    @SuppressWarnings("unchecked")
+    protected final <C extends HashCollectionImpl<T>> C internCollection() {
+        return (C) INTERN_POOL.intern(create(intern(value)));
+    }
+
+    private static Object intern(Object v) {
+        if (v instanceof HashMultiValue) {
+            HashMultiValue mv = (HashMultiValue) v;
+            if (INTERN_POOL.isPooled(mv)) {
+                return mv;
+            }
+            for (int i = 0; i < mv.values.length; i++) {
+                Object c = intern(mv.values[i]);
+                if (c != mv.values[i]) {
+                    mv.values[i] = c;
+                }
+            }
+            return INTERN_POOL.intern(mv);
+        } else if (v instanceof Internable && !(v instanceof ContainingCollection) && ((Internable) v).isInternable()) {
+            return INTERN_POOL.intern(v);
+        } else {
+            return v;
+        }
+    }
+
+    private static final class Differ implements Spliterator<Object[]> {
+        private static final int  DIFF_CHARACTERISTICS = Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+        @SuppressWarnings("rawtypes")
+        private final Function    key1;
+        @SuppressWarnings("rawtypes")
+        private final Function    key2;
+        private final boolean     changes;
+        private final boolean     counting;
+        private final long        total;
+        private Object[]          vals1                = new Object[64];
+        private Object[]          vals2                = new Object[64];
+        private int[]             ids1                 = new int[64];
+        private int[]             ids2                 = new int[64];
+        private int               top;
+        private Object[][]        found                = new Object[8][];
+        private int               nrFound;
+        private int               count;
+
+        @SuppressWarnings("rawtypes")
+        private Differ(Function key1, Object val1, Function key2, Object val2, boolean counting) {
+            this.key1 = key1;
+            this.key2 = key2;
+            this.changes = key1 != identity() || key2 != identity();
+            this.counting = counting;
+            this.total = (long) size(val1) + size(val2);
+            push(val1, index(val1, key1), val2, index(val2, key2));
+        }
+
+        private void push(Object v1, int id1, Object v2, int id2) {
+            if (top == vals1.length) {
+                vals1 = Arrays.copyOf(vals1, top * 2);
+                vals2 = Arrays.copyOf(vals2, top * 2);
+                ids1 = Arrays.copyOf(ids1, top * 2);
+                ids2 = Arrays.copyOf(ids2, top * 2);
+            }
+            vals1[top] = v1;
+            vals2[top] = v2;
+            ids1[top] = id1;
+            ids2[top++] = id2;
+        }
+
+        private void found(Object e1, Object e2) {
+            if (counting) {
+                count++;
+            } else {
+                if (nrFound == found.length) {
+                    found = Arrays.copyOf(found, nrFound * 2);
+                }
+                found[nrFound++] = new Object[]{e1, e2};
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object[]> action) {
+            while (nrFound == 0) {
+                if (top == 0) {
+                    return false;
+                }
+                top--;
+                Object v1 = vals1[top], v2 = vals2[top];
+                vals1[top] = null;
+                vals2[top] = null;
+                step(v1, ids1[top], v2, ids2[top]);
+            }
+            action.accept(found[--nrFound]);
+            found[nrFound] = null;
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void step(Object v1, int id1, Object v2, int id2) {
+            if (v1 == v2) {
+                return;
+            } else if (v1 == null || v2 == null) {
+                Object v = v1 != null ? v1 : v2;
+                if (counting) {
+                    count += size(v);
+                } else if (v instanceof HashMultiValue mv) {
+                    for (int i = mv.values.length - 1; i >= 0; i--) {
+                        push(v1 != null ? mv.values[i] : null, 0, v2 != null ? mv.values[i] : null, 0);
+                    }
+                } else {
+                    found(v1, v2);
+                }
+                return;
+            }
+            byte l1 = level(v1), l2 = level(v2), l = min(l1, l2);
+            if (l > 0 && (id1 & INDEX_MASKS[l - 1]) != (id2 & INDEX_MASKS[l - 1])) {
+                push(v1, id1, null, 0);
+                push(null, 0, v2, id2);
+            } else if (l == NR_OF_PARTS) {
+                Object[] es1 = v1 instanceof HashMultiValue mv1 ? mv1.values : new Object[]{v1};
+                Object[] es2 = v2 instanceof HashMultiValue mv2 ? mv2.values : new Object[]{v2};
+                boolean[] matched = new boolean[es2.length];
+                next:
+                for (Object e1 : es1) {
+                    Object k1 = key1.apply(e1);
+                    for (int i = 0; i < es2.length; i++) {
+                        if (!matched[i] && k1.equals(key2.apply(es2[i]))) {
+                            matched[i] = true;
+                            if (changes && !Objects.equals(e1, es2[i])) {
+                                found(e1, es2[i]);
+                            }
+                            continue next;
+                        }
+                    }
+                    found(e1, null);
+                }
+                for (int i = 0; i < es2.length; i++) {
+                    if (!matched[i]) {
+                        found(null, es2[i]);
+                    }
+                }
+            } else if (l1 == l2) {
+                HashMultiValue mv1 = (HashMultiValue) v1, mv2 = (HashMultiValue) v2;
+                for (long mask = mv1.mask | mv2.mask; mask != 0;) {
+                    int i = Long.SIZE - 1 - Long.numberOfLeadingZeros(mask), it1 = getIt(mv1.mask, i), it2 = getIt(mv2.mask, i);
+                    if (it1 < 0 || it2 < 0 || mv1.values[it1] != mv2.values[it2]) {
+                        push(it1 >= 0 ? mv1.values[it1] : null, it1 >= 0 ? mv1.id(it1, key1) : 0, it2 >= 0 ? mv2.values[it2] : null, it2 >= 0 ? mv2.id(it2, key2) : 0);
+                    }
+                    mask &= ~(1L << i);
+                }
+            } else if (l1 < l2) {
+                HashMultiValue mv1 = (HashMultiValue) v1;
+                int it = getIt(mv1.mask, (id2 & PART_MASKS[l1]) >>> PART_SHIFTS[l1]);
+                for (int i = mv1.values.length - 1; i >= 0; i--) {
+                    push(mv1.values[i], mv1.id(i, key1), i == it ? v2 : null, id2);
+                }
+                if (it < 0) {
+                    push(null, 0, v2, id2);
+                }
+            } else {
+                HashMultiValue mv2 = (HashMultiValue) v2;
+                int it = getIt(mv2.mask, (id1 & PART_MASKS[l2]) >>> PART_SHIFTS[l2]);
+                for (int i = mv2.values.length - 1; i >= 0; i--) {
+                    push(i == it ? v1 : null, id1, mv2.values[i], mv2.id(i, key2));
+                }
+                if (it < 0) {
+                    push(v1, id1, null, 0);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Object[]> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return total;
+        }
+
+        @Override
+        public int characteristics() {
+            return DIFF_CHARACTERISTICS;
+        }
+    }
+
     @Override
     public ContainingCollection<T> addUnique(T e) {
         return add(e);
@@ -999,7 +1671,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
 
         private Object visitUnequalHashes(BiFunction<? super Object[], Integer, Object> visitor, byte level, int index, int len, byte dep) {
             Object result = null, val;
-            int resultIdx = -1, prev = 0, init = -1, it, length;
+            int resultIdx = -1, resultId = 0, prev = 0, init = -1, it, length;
             long downMask, mask = 0;
             for (it = 0; it < len; it++) {
                 if (keep[dep][it]) {
@@ -1009,6 +1681,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                         prev = length;
                         init = it;
                         resultIdx = (ids[dep][it] & PART_MASKS[level]) >>> PART_SHIFTS[level];
+                        resultId = ids[dep][it];
                         result = val;
                     }
                 }
@@ -1031,7 +1704,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                     prev = getIt(masks[dep][it], idx);
                     if (prev >= 0) {
                         values[dep + 1][it] = get(values[dep][it], level, prev);
-                        ids[dep + 1][it] = values[dep + 1][it] == values[dep][it] ? ids[dep][it] : index(values[dep + 1][it], keys[dep][it]);
+                        ids[dep + 1][it] = values[dep + 1][it] == values[dep][it] ? ids[dep][it] : ((HashMultiValue) values[dep][it]).id(prev, keys[dep][it]);
                         maxLevel = min(level(values[dep + 1][it]), maxLevel);
                     } else {
                         values[dep + 1][it] = null;
@@ -1041,26 +1714,31 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                 val = visit(visitor, maxLevel, level, index, len, (byte) (dep + 1));
                 if (result == null) {
                     resultIdx = idx;
+                    resultId = CACHE_KEY_HASHES ? id(val, len, (byte) (dep + 1)) : 0;
                     result = val;
                 } else if (result instanceof HashMultiValue && ((HashMultiValue) result).level == level && index == ((HashMultiValue) result).index) {
-                    downMask = val == null ? (((HashMultiValue) result).mask & ~(1L << idx)) : (((HashMultiValue) result).mask | 1L << idx);
+                    HashMultiValue mv = (HashMultiValue) result;
+                    downMask = val == null ? (mv.mask & ~(1L << idx)) : (mv.mask | 1L << idx);
                     // use 'maxlevel' as new length
                     maxLevel = (byte) Long.bitCount(downMask);
                     if (maxLevel == 1) {
                         resultIdx = Long.numberOfTrailingZeros(downMask);
-                        result = ((HashMultiValue) result).values[getIt(((HashMultiValue) result).mask, resultIdx)];
+                        resultId = CACHE_KEY_HASHES ? mv.id(getIt(mv.mask, resultIdx), keys[dep][0]) : 0;
+                        result = mv.values[getIt(mv.mask, resultIdx)];
                     } else {
                         resultIdx = -1;
-                        result = ((HashMultiValue) result).set(idx, val, getIt(((HashMultiValue) result).mask, idx), downMask, maxLevel);
+                        result = mv.set(idx, val, mv.ids != null ? id(val, len, (byte) (dep + 1)) : 0, getIt(mv.mask, idx), downMask, maxLevel);
                     }
                 } else if (idx == resultIdx) {
+                    resultId = CACHE_KEY_HASHES ? id(val, len, (byte) (dep + 1)) : 0;
                     result = val;
                 } else if (val != null) {
+                    int valId = CACHE_KEY_HASHES ? id(val, len, (byte) (dep + 1)) : 0;
                     downMask = 1L << resultIdx | 1L << idx;
                     if (resultIdx < idx) {
-                        result = HashMultiValue.of(result, val, index, level, downMask);
+                        result = HashMultiValue.of(result, resultId, val, valId, index, level, downMask);
                     } else {
-                        result = HashMultiValue.of(val, result, index, level, downMask);
+                        result = HashMultiValue.of(val, valId, result, resultId, index, level, downMask);
                     }
                     resultIdx = -1;
                 }
@@ -1117,7 +1795,7 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
                         } else if (!(result instanceof HashMultiValue) && keys[dep][0].apply(result).equals(key)) {
                             result = obj;
                         } else if (obj != null) {
-                            result = HashMultiValue.of(result, obj, index);
+                            result = HashMultiValue.of(result, obj, index, keys[dep][0]);
                         }
                     }
                 }
@@ -1125,6 +1803,21 @@ public abstract class HashCollectionImpl<T> extends TreeCollectionImpl<T> {
             return result;
         }
 
+        /**
+         * The key hash of {@code val}, one of the values at {@code dep} or a new element.
+         */
+        private int id(Object val, int len, byte dep) {
+            if (val instanceof HashMultiValue) {
+                return ((HashMultiValue) val).index;
+            }
+            for (int it = 0; it < len; it++) {
+                if (values[dep][it] == val) {
+                    return ids[dep][it];
+                }
+            }
+            return val == null ? 0 : index(val, keys[dep][0]);
+        }
+
         private int equalKeys(int len, byte dep) {
             Object prev = null;
             int l = 0, i, ii;
@@ -0,0 +1,406 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * The partitioned hash trie of {@link HashCollectionImpl} specialized for unboxed int keys. The hash of an int key is
+ * the key itself, so two keys never collide and the trie never needs equal-hash buckets. Keys (and, for maps, the
+ * values) are stored inline in the node, sub nodes in a separate array, both ordered by their position in the node.
+ * The structure is canonical: a sub node exists if and only if it holds at least two keys.
+ */
+final class IntHashTrie {
+
+    private static final byte     NR_OF_PARTS = HashCollectionImpl.NR_OF_PARTS;
+    private static final int[]    PART_MASKS  = HashCollectionImpl.PART_MASKS;
+    private static final int[]    PART_SHIFTS = HashCollectionImpl.PART_SHIFTS;
+
+    private static final int[]    NO_KEYS     = new int[0];
+    private static final Object[] NO_VALUES   = new Object[0];
+    private static final Node[]   NO_NODES    = new Node[0];
+
+    private IntHashTrie() {
+    }
+
+    static final class Node {
+        final long     dataMask;
+        final long     nodeMask;
+        final int[]    keys;
+        final Object[] values;
+        final Node[]   nodes;
+        final int      size;
+        final int      hash;
+
+        private Node(long dataMask, long nodeMask, int[] keys, Object[] values, Node[] nodes, int size, int hash) {
+            this.dataMask = dataMask;
+            this.nodeMask = nodeMask;
+            this.keys = keys;
+            this.values = values;
+            this.nodes = nodes;
+            this.size = size;
+            this.hash = hash;
+        }
+
+        private boolean isMap() {
+            return values != null;
+        }
+
+        private boolean equals(Node other) {
+            if (this == other) {
+                return true;
+            } else if (size != other.size || hash != other.hash || dataMask != other.dataMask || nodeMask != other.nodeMask || //
+                    !Arrays.equals(keys, other.keys) || !Arrays.equals(values, other.values)) {
+                return false;
+            }
+            for (int i = 0; i < nodes.length; i++) {
+                if (!nodes[i].equals(other.nodes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Iterates over the keys (and values) of a trie in the order of their position, i.e. in unsigned order of the keys.
+     */
+    static final class Cursor {
+        private final Node[] stack = new Node[NR_OF_PARTS];
+        private final long[] rest  = new long[NR_OF_PARTS];
+        private int          depth = -1;
+        int                  key;
+        Object               value;
+
+        Cursor(Node root) {
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        private void push(Node node) {
+            stack[++depth] = node;
+            rest[depth] = node.dataMask | node.nodeMask;
+        }
+
+        boolean next() {
+            while (depth >= 0) {
+                long r = rest[depth];
+                if (r == 0) {
+                    depth--;
+                } else {
+                    long bit = Long.lowestOneBit(r);
+                    rest[depth] = r ^ bit;
+                    Node node = stack[depth];
+                    if ((node.dataMask & bit) != 0) {
+                        int i = pos(node.dataMask, bit);
+                        key = node.keys[i];
+                        value = node.values != null ? node.values[i] : null;
+                        return true;
+                    } else {
+                        push(node.nodes[pos(node.nodeMask, bit)]);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static long bit(int key, int level) {
+        return 1L << ((key & PART_MASKS[level]) >>> PART_SHIFTS[level]);
+    }
+
+    private static int pos(long mask, long bit) {
+        return Long.bitCount(mask & (bit - 1));
+    }
+
+    private static int hash(int key, Object value, boolean map) {
+        return map ? key ^ Objects.hashCode(value) : key;
+    }
+
+    static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    static int hash(Node node) {
+        return node == null ? 0 : node.hash;
+    }
+
+    static boolean equals(Node a, Node b) {
+        return a == null ? b == null : b != null && a.equals(b);
+    }
+
+    static boolean contains(Node node, int key) {
+        for (int level = 0; node != null; level++) {
+            long bit = bit(key, level);
+            if ((node.dataMask & bit) != 0) {
+                return node.keys[pos(node.dataMask, bit)] == key;
+            }
+            node = (node.nodeMask & bit) != 0 ? node.nodes[pos(node.nodeMask, bit)] : null;
+        }
+        return false;
+    }
+
+    static Object get(Node node, int key) {
+        for (int level = 0; node != null; level++) {
+            long bit = bit(key, level);
+            if ((node.dataMask & bit) != 0) {
+                int i = pos(node.dataMask, bit);
+                return node.keys[i] == key ? node.values[i] : null;
+            }
+            node = (node.nodeMask & bit) != 0 ? node.nodes[pos(node.nodeMask, bit)] : null;
+        }
+        return null;
+    }
+
+    static Node add(Node root, int key) {
+        return root == null ? single(key, null, false, 0) : put(root, key, null, false, 0);
+    }
+
+    static Node put(Node root, int key, Object value) {
+        return root == null ? single(key, value, true, 0) : put(root, key, value, true, 0);
+    }
+
+    private static Node single(int key, Object value, boolean map, int level) {
+        return new Node(bit(key, level), 0L, new int[]{key}, map ? new Object[]{value} : null, NO_NODES, 1, hash(key, value, map));
+    }
+
+    private static Node put(Node node, int key, Object value, boolean map, int level) {
+        long bit = bit(key, level);
+        if ((node.dataMask & bit) != 0) {
+            int i = pos(node.dataMask, bit);
+            int k = node.keys[i];
+            if (k == key) {
+                if (!map || Objects.equals(node.values[i], value)) {
+                    return node;
+                }
+                Object[] values = node.values.clone();
+                values[i] = value;
+                return new Node(node.dataMask, node.nodeMask, node.keys, values, node.nodes, node.size, //
+                        node.hash - hash(k, node.values[i], true) + hash(key, value, true));
+            }
+            Node sub = pair(k, map ? node.values[i] : null, key, value, map, level + 1);
+            return new Node(node.dataMask ^ bit, node.nodeMask | bit, remove(node.keys, i), map ? remove(node.values, i) : null, //
+                    insert(node.nodes, pos(node.nodeMask, bit), sub), node.size + 1, node.hash + hash(key, value, map));
+        } else if ((node.nodeMask & bit) != 0) {
+            int i = pos(node.nodeMask, bit);
+            Node sub = node.nodes[i];
+            Node put = put(sub, key, value, map, level + 1);
+            if (put == sub) {
+                return node;
+            }
+            Node[] nodes = node.nodes.clone();
+            nodes[i] = put;
+            return new Node(node.dataMask, node.nodeMask, node.keys, node.values, nodes, node.size - sub.size + put.size, node.hash - sub.hash + put.hash);
+        } else {
+            int i = pos(node.dataMask, bit);
+            return new Node(node.dataMask | bit, node.nodeMask, insert(node.keys, i, key), map ? insert(node.values, i, value) : null, //
+                    node.nodes, node.size + 1, node.hash + hash(key, value, map));
+        }
+    }
+
+    private static Node pair(int k1, Object v1, int k2, Object v2, boolean map, int level) {
+        long b1 = bit(k1, level);
+        long b2 = bit(k2, level);
+        int hash = hash(k1, v1, map) + hash(k2, v2, map);
+        if (b1 == b2) {
+            return new Node(0L, b1, NO_KEYS, map ? NO_VALUES : null, new Node[]{pair(k1, v1, k2, v2, map, level + 1)}, 2, hash);
+        } else if (Long.compareUnsigned(b1, b2) < 0) {
+            return new Node(b1 | b2, 0L, new int[]{k1, k2}, map ? new Object[]{v1, v2} : null, NO_NODES, 2, hash);
+        } else {
+            return new Node(b1 | b2, 0L, new int[]{k2, k1}, map ? new Object[]{v2, v1} : null, NO_NODES, 2, hash);
+        }
+    }
+
+    static Node remove(Node root, int key) {
+        return root == null ? null : remove(root, key, 0);
+    }
+
+    private static Node remove(Node node, int key, int level) {
+        long bit = bit(key, level);
+        if ((node.dataMask & bit) != 0) {
+            int i = pos(node.dataMask, bit);
+            if (node.keys[i] != key) {
+                return node;
+            } else if (node.size == 1) {
+                return null;
+            }
+            return new Node(node.dataMask ^ bit, node.nodeMask, remove(node.keys, i), node.isMap() ? remove(node.values, i) : null, //
+                    node.nodes, node.size - 1, node.hash - hash(key, node.isMap() ? node.values[i] : null, node.isMap()));
+        } else if ((node.nodeMask & bit) != 0) {
+            int i = pos(node.nodeMask, bit);
+            Node sub = node.nodes[i];
+            Node rem = remove(sub, key, level + 1);
+            if (rem == sub) {
+                return node;
+            } else if (rem.size == 1) {
+                // inline the remaining key to keep the trie canonical
+                int d = pos(node.dataMask, bit);
+                return new Node(node.dataMask | bit, node.nodeMask ^ bit, insert(node.keys, d, rem.keys[0]), //
+                        node.isMap() ? insert(node.values, d, rem.values[0]) : null, remove(node.nodes, i), node.size - 1, node.hash - sub.hash + rem.hash);
+            }
+            Node[] nodes = node.nodes.clone();
+            nodes[i] = rem;
+            return new Node(node.dataMask, node.nodeMask, node.keys, node.values, nodes, node.size - 1, node.hash - sub.hash + rem.hash);
+        } else {
+            return node;
+        }
+    }
+
+    /**
+     * Builds a trie of keys (and values when not null) that are distinct and sorted in unsigned order, in one pass and
+     * without any garbage.
+     */
+    static Node build(int[] keys, Object[] values, int from, int to) {
+        return from == to ? null : build(keys, values, from, to, 0);
+    }
+
+    private static Node build(int[] keys, Object[] values, int from, int to, int level) {
+        boolean map = values != null;
+        long dataMask = 0L;
+        long nodeMask = 0L;
+        int nrOfKeys = 0;
+        int nrOfNodes = 0;
+        for (int i = from; i < to;) {
+            long bit = bit(keys[i], level);
+            int e = i + 1;
+            while (e < to && bit(keys[e], level) == bit) {
+                e++;
+            }
+            if (e - i == 1) {
+                dataMask |= bit;
+                nrOfKeys++;
+            } else {
+                nodeMask |= bit;
+                nrOfNodes++;
+            }
+            i = e;
+        }
+        int[] ks = nrOfKeys == 0 ? NO_KEYS : new int[nrOfKeys];
+        Object[] vs = !map ? null : nrOfKeys == 0 ? NO_VALUES : new Object[nrOfKeys];
+        Node[] ns = nrOfNodes == 0 ? NO_NODES : new Node[nrOfNodes];
+        int hash = 0;
+        for (int i = from, k = 0, n = 0; i < to;) {
+            long bit = bit(keys[i], level);
+            int e = i + 1;
+            while (e < to && bit(keys[e], level) == bit) {
+                e++;
+            }
+            if (e - i == 1) {
+                if (map) {
+                    vs[k] = values[i];
+                }
+                ks[k++] = keys[i];
+                hash += hash(keys[i], map ? values[i] : null, map);
+            } else {
+                Node sub = build(keys, values, i, e, level + 1);
+                ns[n++] = sub;
+                hash += sub.hash;
+            }
+            i = e;
+        }
+        return new Node(dataMask, nodeMask, ks, vs, ns, to - from, hash);
+    }
+
+    /**
+     * Sorts the keys in unsigned order and removes duplicates, returns the number of distinct keys.
+     */
+    static int sortDistinct(int[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] ^= Integer.MIN_VALUE;
+        }
+        Arrays.sort(keys);
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (n == 0 || keys[i] != keys[n - 1]) {
+                keys[n++] = keys[i];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            keys[i] ^= Integer.MIN_VALUE;
+        }
+        return n;
+    }
+
+    /**
+     * The key set of a map trie, which has exactly the same shape.
+     */
+    static Node keys(Node node) {
+        if (node == null || !node.isMap()) {
+            return node;
+        }
+        Node[] nodes = node.nodes.length == 0 ? NO_NODES : new Node[node.nodes.length];
+        int hash = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = keys(node.nodes[i]);
+            hash += nodes[i].hash;
+        }
+        for (int key : node.keys) {
+            hash += key;
+        }
+        return new Node(node.dataMask, node.nodeMask, node.keys, null, nodes, node.size, hash);
+    }
+
+    static Node filter(Node root, IntPredicate predicate) {
+        Node result = root;
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            if (!predicate.test(cursor.key)) {
+                result = remove(result, cursor.key);
+            }
+        }
+        return result;
+    }
+
+    private static int[] insert(int[] a, int i, int e) {
+        int[] r = new int[a.length + 1];
+        System.arraycopy(a, 0, r, 0, i);
+        r[i] = e;
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        return r;
+    }
+
+    private static int[] remove(int[] a, int i) {
+        if (a.length == 1) {
+            return NO_KEYS;
+        }
+        int[] r = new int[a.length - 1];
+        System.arraycopy(a, 0, r, 0, i);
+        System.arraycopy(a, i + 1, r, i, r.length - i);
+        return r;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T[] insert(T[] a, int i, T e) {
+        T[] r = Arrays.copyOf(a, a.length + 1);
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        r[i] = e;
+        return r;
+    }
+
+    static <T> T[] remove(T[] a, int i) {
+        T[] r = Arrays.copyOf(a, a.length - 1);
+        System.arraycopy(a, i + 1, r, i, r.length - i);
+        return r;
+    }
+}
@@ -0,0 +1,320 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.modelingvalue.collections.IntList;
+import org.modelingvalue.collections.List;
+
+public final class IntListImpl implements IntList {
+
+    @Serial
+    private static final long   serialVersionUID = 4265107334826457381L;
+
+    public static final IntList EMPTY            = new IntListImpl((Object) null);
+
+    private static final int[]  NO_ELEMENTS      = new int[0];
+
+    transient Object            root;
+    private transient int       hash;
+
+    public IntListImpl(int[] es) {
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    IntListImpl(Object root) {
+        this.root = root;
+    }
+
+    private IntList create(Object root) {
+        return root == this.root ? this : root == null ? EMPTY : new IntListImpl(root);
+    }
+
+    private static Object root(IntList list) {
+        return ((IntListImpl) list).root;
+    }
+
+    private int check(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size());
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return PrimitiveListTree.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public int get(int index) {
+        return PrimitiveListTree.getInt(root, check(index));
+    }
+
+    @Override
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public IntList append(int e) {
+        return create(PrimitiveListTree.concat(root, new int[]{e}));
+    }
+
+    @Override
+    public IntList prepend(int e) {
+        return create(PrimitiveListTree.concat(new int[]{e}, root));
+    }
+
+    @Override
+    public IntList insert(int position, int e) {
+        return create(PrimitiveListTree.insert(root, position, new int[]{e}));
+    }
+
+    @Override
+    public IntList replace(int position, int e) {
+        return get(position) == e ? this : create(PrimitiveListTree.set(root, position, (leaf, i) -> ((int[]) leaf)[i] = e));
+    }
+
+    @Override
+    public IntList appendList(IntList list) {
+        return create(PrimitiveListTree.concat(root, root(list)));
+    }
+
+    @Override
+    public IntList insertList(int position, IntList list) {
+        return create(PrimitiveListTree.insert(root, position, root(list)));
+    }
+
+    @Override
+    public IntList sublist(int begin, int end) {
+        return create(PrimitiveListTree.slice(root, begin, end));
+    }
+
+    @Override
+    public IntList removeList(int begin, int end) {
+        return create(PrimitiveListTree.remove(root, begin, end));
+    }
+
+    @Override
+    public int firstIndexOf(int e) {
+        Elements cursor = new Elements(root, 0, size());
+        while (cursor.advance()) {
+            int[] leaf = (int[]) cursor.leaf;
+            for (int i = cursor.index - cursor.base; i < leaf.length; i++) {
+                if (leaf[i] == e) {
+                    return cursor.base + i;
+                }
+            }
+            cursor.index = cursor.limit;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(int e) {
+        return firstIndexOf(e) >= 0;
+    }
+
+    @Override
+    public int binarySearch(int key) {
+        int lo = 0, hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int e = PrimitiveListTree.getInt(root, mid);
+            if (e < key) {
+                lo = mid + 1;
+            } else if (e > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -lo - 1;
+    }
+
+    @Override
+    public long sum() {
+        return stream().asLongStream().sum();
+    }
+
+    @Override
+    public OptionalInt min() {
+        return stream().min();
+    }
+
+    @Override
+    public OptionalInt max() {
+        return stream().max();
+    }
+
+    @Override
+    public IntList clear() {
+        return EMPTY;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        new Elements(root, 0, size()).forEachRemaining(action);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(new Elements(root, 0, size()));
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(new Elements(root, 0, size()), false);
+    }
+
+    @Override
+    public int[] toArray() {
+        return (int[]) PrimitiveListTree.toArray(root, NO_ELEMENTS);
+    }
+
+    @Override
+    public List<Integer> toList() {
+        return List.of(stream().boxed().toArray(Integer[]::new));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            Elements cursor = new Elements(root, 0, size());
+            while (cursor.advance()) {
+                for (int e : (int[]) cursor.leaf) {
+                    h = 31 * h + Integer.hashCode(e);
+                }
+                cursor.index = cursor.limit;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (!(obj instanceof IntListImpl) || ((IntListImpl) obj).size() != size() || ((IntListImpl) obj).hashCode() != hashCode()) {
+            return false;
+        }
+        PrimitiveIterator.OfInt a = iterator(), b = ((IntListImpl) obj).iterator();
+        while (a.hasNext()) {
+            if (a.nextInt() != b.nextInt()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IntList[");
+        PrimitiveIterator.OfInt it = iterator();
+        for (boolean first = true; it.hasNext(); first = false) {
+            sb.append(first ? "" : ",").append(it.nextInt());
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            s.writeInt(it.nextInt());
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int[] es = new int[s.readInt()];
+        for (int i = 0; i < es.length; i++) {
+            es[i] = s.readInt();
+        }
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    private static final class Elements extends PrimitiveListTree.Cursor implements Spliterator.OfInt {
+
+        private Elements(Object root, int index, int end) {
+            super(root, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(((int[]) leaf)[index++ - base]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (advance()) {
+                int[] es = (int[]) leaf;
+                for (int to = Math.min(limit, end) - base, i = index - base; i < to; i++) {
+                    action.accept(es[i]);
+                }
+                index = Math.min(limit, end);
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int from = index, mid = split();
+            return mid < 0 ? null : new Elements(root, from, mid);
+        }
+    }
+}
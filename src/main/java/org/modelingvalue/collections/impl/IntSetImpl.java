@@ -0,0 +1,241 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.modelingvalue.collections.IntSet;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.impl.IntHashTrie.Cursor;
+import org.modelingvalue.collections.impl.IntHashTrie.Node;
+
+public final class IntSetImpl implements IntSet {
+
+    @Serial
+    private static final long  serialVersionUID = 1531567712809236085L;
+
+    public static final IntSet EMPTY            = new IntSetImpl((Node) null);
+
+    static final int           CHARACTERISTICS  = Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED;
+
+    transient Node             root;
+
+    public IntSetImpl(int[] es) {
+        int[] keys = es.clone();
+        root = IntHashTrie.build(keys, null, 0, IntHashTrie.sortDistinct(keys));
+    }
+
+    IntSetImpl(Node root) {
+        this.root = root;
+    }
+
+    private IntSet create(Node root) {
+        return root == this.root ? this : root == null ? EMPTY : new IntSetImpl(root);
+    }
+
+    @Override
+    public int size() {
+        return IntHashTrie.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean contains(int e) {
+        return IntHashTrie.contains(root, e);
+    }
+
+    @Override
+    public boolean containsAll(IntSet c) {
+        if (c.size() > size()) {
+            return false;
+        }
+        Cursor cursor = new Cursor(((IntSetImpl) c).root);
+        while (cursor.next()) {
+            if (!IntHashTrie.contains(root, cursor.key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public IntSet add(int e) {
+        return create(IntHashTrie.add(root, e));
+    }
+
+    @Override
+    public IntSet remove(int e) {
+        return create(IntHashTrie.remove(root, e));
+    }
+
+    @Override
+    public IntSet addAll(IntSet c) {
+        Node other = ((IntSetImpl) c).root;
+        if (IntHashTrie.size(other) > size()) {
+            return ((IntSetImpl) c).addAll(this);
+        }
+        Node result = root;
+        Cursor cursor = new Cursor(other);
+        while (cursor.next()) {
+            result = IntHashTrie.add(result, cursor.key);
+        }
+        return create(result);
+    }
+
+    @Override
+    public IntSet removeAll(IntSet c) {
+        if (c.size() < size()) {
+            Node result = root;
+            Cursor cursor = new Cursor(((IntSetImpl) c).root);
+            while (cursor.next()) {
+                result = IntHashTrie.remove(result, cursor.key);
+            }
+            return create(result);
+        } else {
+            return filter(e -> !c.contains(e));
+        }
+    }
+
+    @Override
+    public IntSet retainAll(IntSet c) {
+        return c.size() < size() ? create(IntHashTrie.filter(((IntSetImpl) c).root, this::contains)) : filter(c::contains);
+    }
+
+    @Override
+    public IntSet filter(IntPredicate predicate) {
+        return create(IntHashTrie.filter(root, predicate));
+    }
+
+    @Override
+    public IntSet clear() {
+        return EMPTY;
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            action.accept(cursor.key);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final Cursor cursor = new Cursor(root);
+            private boolean      next   = cursor.next();
+
+            @Override
+            public boolean hasNext() {
+                return next;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!next) {
+                    throw new NoSuchElementException();
+                }
+                int key = cursor.key;
+                next = cursor.next();
+                return key;
+            }
+        };
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size(), CHARACTERISTICS), false);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] result = new int[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.key;
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Integer> toSet() {
+        Integer[] result = new Integer[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.key;
+        }
+        return Set.of(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return IntHashTrie.hash(root);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || (obj instanceof IntSetImpl && IntHashTrie.equals(root, ((IntSetImpl) obj).root));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IntSet[");
+        Cursor cursor = new Cursor(root);
+        for (boolean first = true; cursor.next(); first = false) {
+            sb.append(first ? "" : ",").append(cursor.key);
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            s.writeInt(cursor.key);
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        int[] keys = new int[s.readInt()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = s.readInt();
+        }
+        // written in trie order, so sorted and distinct
+        root = IntHashTrie.build(keys, null, 0, keys.length);
+    }
+}
@@ -34,6 +34,7 @@ import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.ContainingCollection;
 import org.modelingvalue.collections.List;
 import org.modelingvalue.collections.StreamCollection;
+import org.modelingvalue.collections.TransientList;
 import org.modelingvalue.collections.mutable.MutableList;
 import org.modelingvalue.collections.util.Deserializer;
 import org.modelingvalue.collections.util.Pair;
@@ -171,10 +172,7 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
             int size = 0;
             for (Object e : values) {
                 int s = size(e);
-                for (int i = 0; i < s; i++) {
-                    hash *= 31;
-                }
-                hash += hash(e);
+                hash = hash * pow31(s) + hash(e);
                 size += s;
                 len += length(e);
                 depth = max(depth, depth(e));
@@ -212,10 +210,121 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
             return new ListMultivalue(values, size, hash, (byte) (depth + 1));
         }
 
+        private transient volatile int[] offsets;
+
         private ListMultivalue(Object[] values, int size, int hash, byte depth) {
             super(values, size, hash, depth);
         }
 
+        /**
+         * The number of elements before each child. Computed on first use, so that positional lookups can binary search
+         * the children instead of summing their sizes.
+         */
+        private int[] offsets() {
+            int[] o = offsets;
+            if (o == null) {
+                o = new int[values.length];
+                for (int i = 1; i < o.length; i++) {
+                    o[i] = o[i - 1] + size(values[i - 1]);
+                }
+                offsets = o;
+            }
+            return o;
+        }
+
+        /**
+         * The last child whose offset is not greater than {@code idx}.
+         */
+        private static int child(int[] o, int idx) {
+            int lo = 0, hi = o.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (o[mid] <= idx) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * The element at position {@code idx} of this node.
+         */
+        private Object getDeep(int idx) {
+            ListMultivalue mv = this;
+            while (true) {
+                int[] o = mv.offsets();
+                int it = child(o, idx);
+                idx -= o[it];
+                Object v = mv.values[it];
+                if (v instanceof ListMultivalue) {
+                    mv = (ListMultivalue) v;
+                } else if (idx == 0 && v != null) {
+                    return v;
+                } else {
+                    throw new IndexOutOfBoundsException();
+                }
+            }
+        }
+
+        /**
+         * Builds a balanced tree of the given elements in one pass, instead of inserting them one by one.
+         */
+        private static Object build(Object[] es, int from, int to) {
+            int len = to - from;
+            if (len <= 1) {
+                return len == 0 ? null : es[from];
+            } else if (len <= MULTI_MAX_LENGTH) {
+                Object[] values = Arrays.copyOfRange(es, from, to, Object[].class);
+                int hash = 0;
+                for (Object e : values) {
+                    hash = hash * 31 + e.hashCode();
+                }
+                return new ListMultivalue(values, len, hash, (byte) 2);
+            } else {
+                long cap = MULTI_MAX_LENGTH;
+                while (cap * MULTI_MAX_LENGTH < len) {
+                    cap *= MULTI_MAX_LENGTH;
+                }
+                Object[] values = new Object[(int) ((len + cap - 1) / cap)];
+                int hash = 0;
+                byte depth = 0;
+                for (int i = 0, start = from; i < values.length; i++) {
+                    int end = from + (int) ((long) len * (i + 1) / values.length);
+                    Object v = build(es, start, end);
+                    hash = hash * pow31(end - start) + hash(v);
+                    depth = max(depth, depth(v));
+                    values[i] = v;
+                    start = end;
+                }
+                return new ListMultivalue(values, len, hash, (byte) (depth + 1));
+            }
+        }
+
+        private static Object restore(Object[] values) {
+            int size = 0;
+            int hash = 0;
+            byte depth = 0;
+            for (Object v : values) {
+                int s = size(v);
+                hash = hash * pow31(s) + hash(v);
+                size += s;
+                depth = max(depth, depth(v));
+            }
+            return new ListMultivalue(values, size, hash, (byte) (depth + 1));
+        }
+
+        private static int pow31(int n) {
+            int result = 1;
+            for (int p = 31; n > 0; n >>= 1, p *= p) {
+                if ((n & 1) != 0) {
+                    result *= p;
+                }
+            }
+            return result;
+        }
+
         private Object insert(Object inserted, int idx) {
             Object[] result = null;
             int oldLen = 0;
@@ -289,21 +398,126 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
         }
 
         private boolean equalsWithStop(Object other, int min, boolean[] stop) {
+            if (sequential(size)) {
+                int pos = min;
+                for (Object val : values) {
+                    if (stop[0] || !equalsWithStop(val, other, pos, stop)) {
+                        return false;
+                    }
+                    pos += size(val);
+                }
+                return true;
+            }
             int[] len = new int[values.length];
             for (int i = 0; i < values.length; i++) {
                 len[i] = size(values[i]) + prev(len, i);
             }
-            return getIntStream(0, values.length, stop, size).allMatch(i -> {
-                if (!stop[0]) {
-                    Object val = values[i];
-                    int pos = min + prev(len, i);
-                    if (val instanceof ListMultivalue ? ((ListMultivalue) val).equalsWithStop(other, pos, stop) : val.equals(TreeCollectionImpl.getDeep(other, pos))) {
-                        return true;
-                    }
-                    stop[0] = true;
-                }
+            return getIntStream(0, values.length, stop, size).allMatch(i -> !stop[0] && equalsWithStop(values[i], other, min + prev(len, i), stop));
+        }
+
+        private static boolean equalsWithStop(Object val, Object other, int pos, boolean[] stop) {
+            if (val instanceof ListMultivalue ? ((ListMultivalue) val).equalsWithStop(other, pos, stop) : val.equals(TreeCollectionImpl.getDeep(other, pos))) {
+                return true;
+            }
+            stop[0] = true;
+            return false;
+        }
+
+        /**
+         * Appends or prepends a single element. The leaf at that end of the root is used as a buffer: it takes elements
+         * until it is full and only then is pushed into its neighbour, so that most calls copy the root and one leaf
+         * instead of the whole spine.
+         */
+        private static Object add(Object v, Object e, boolean front) {
+            if (e == null) {
+                return v;
+            } else if (!(v instanceof ListMultivalue)) {
+                return v == null ? e : front ? createPair(e, v) : createPair(v, e);
+            }
+            ListMultivalue mv = (ListMultivalue) v;
+            if (mv.depth == 2) {
+                return mv.values.length < MULTI_MAX_LENGTH ? mv.add(e, hash(e), 1, (byte) 1, front) : pair(mv, e, front);
+            }
+            Object buf = mv.values[front ? 0 : mv.values.length - 1];
+            if (!(buf instanceof ListMultivalue)) {
+                return mv.replace(front ? createPair(e, buf) : createPair(buf, e), hash(e), 1, front);
+            }
+            ListMultivalue leaf = (ListMultivalue) buf;
+            if (leaf.depth == 2 && leaf.values.length < MULTI_MAX_LENGTH) {
+                return mv.replace(leaf.add(e, hash(e), 1, (byte) 1, front), hash(e), 1, front);
+            } else if (leaf.depth == 2 && mv.values.length > 1) {
+                int n = front ? 1 : mv.values.length - 2;
+                Object[] result = mv.values.clone();
+                result[n] = push(result[n], leaf, front);
+                result[front ? 0 : mv.values.length - 1] = e;
+                return new ListMultivalue(result, mv.size + 1, mv.hash(hash(e), 1, front), max(mv.depth, (byte) (depth(result[n]) + 1)));
+            } else if (mv.values.length < MULTI_MAX_LENGTH) {
+                return mv.add(e, hash(e), 1, (byte) 1, front);
+            } else {
+                return pair(mv, e, front);
+            }
+        }
+
+        /**
+         * Adds a full leaf at one end of {@code v}, filling incomplete subtrees at that end before growing a level.
+         */
+        private static ListMultivalue push(Object v, ListMultivalue leaf, boolean front) {
+            if (!(v instanceof ListMultivalue) || ((ListMultivalue) v).depth == 2) {
+                return pair(v, leaf, front);
+            }
+            ListMultivalue mv = (ListMultivalue) v;
+            Object end = mv.values[front ? 0 : mv.values.length - 1];
+            if (end instanceof ListMultivalue && (((ListMultivalue) end).depth > 2 ? //
+                    ((ListMultivalue) end).depth < mv.depth - 1 || !((ListMultivalue) end).complete(front) : mv.depth > 3)) {
+                return mv.replace(push(end, leaf, front), leaf.hash, leaf.size, front);
+            } else if (mv.values.length < MULTI_MAX_LENGTH) {
+                return mv.add(leaf, leaf.hash, leaf.size, leaf.depth, front);
+            } else {
+                return pair(mv, leaf, front);
+            }
+        }
+
+        /**
+         * Whether this node is a full tree up to its end.
+         */
+        private boolean complete(boolean front) {
+            if (values.length < MULTI_MAX_LENGTH) {
                 return false;
-            });
+            } else if (depth == 2) {
+                return true;
+            } else {
+                Object end = values[front ? 0 : values.length - 1];
+                return end instanceof ListMultivalue && ((ListMultivalue) end).depth == depth - 1 && ((ListMultivalue) end).complete(front);
+            }
+        }
+
+        private static ListMultivalue pair(Object v, Object added, boolean front) {
+            Object first = front ? added : v;
+            Object last = front ? v : added;
+            return new ListMultivalue(new Object[]{first, last}, size(first) + size(last), hash(first) * pow31(size(last)) + hash(last), (byte) (max(depth(first), depth(last)) + 1));
+        }
+
+        /**
+         * This node with {@code added} as extra child at one end.
+         */
+        private ListMultivalue add(Object added, int addedHash, int addedSize, byte addedDepth, boolean front) {
+            Object[] result = new Object[values.length + 1];
+            System.arraycopy(values, 0, result, front ? 1 : 0, values.length);
+            result[front ? 0 : values.length] = added;
+            return new ListMultivalue(result, size + addedSize, hash(addedHash, addedSize, front), max(depth, (byte) (addedDepth + 1)));
+        }
+
+        /**
+         * This node with the child at one end replaced by {@code child}, which has some elements added at that end.
+         */
+        private ListMultivalue replace(Object child, int addedHash, int addedSize, boolean front) {
+            Object[] result = values.clone();
+            result[front ? 0 : values.length - 1] = child;
+            return new ListMultivalue(result, size + addedSize, hash(addedHash, addedSize, front), max(depth, (byte) (depth(child) + 1)));
+        }
+
+        private int hash(int addedHash, int addedSize, boolean front) {
+            return front ? addedHash * pow31(size) + hash : hash * pow31(addedSize) + addedHash;
         }
 
         private static Object createPair(Object first, Object last) {
@@ -323,12 +537,7 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
 
     public ListImpl(T[] es) {
         if (es.length > MULTI_MAX_LENGTH || arrayContainsNull(es)) {
-            int t = 0;
-            for (int s = 0; s < es.length; s++) {
-                if (es[s] != null) {
-                    value = insert(value, es[s], t++);
-                }
-            }
+            value = build(es, es.length);
         } else {
             value = es.length == 1 ? es[0] : ListMultivalue.of(Arrays.copyOf(es, es.length, Object[].class));
         }
@@ -336,18 +545,45 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
 
     public ListImpl(java.util.Collection<? extends T> coll) {
         if (coll.size() > MULTI_MAX_LENGTH || coll.contains(null)) {
-            int i = 0;
-            for (T e : coll) {
-                if (e != null) {
-                    value = insert(value, e, i++);
-                }
-            }
+            Object[] es = coll.toArray();
+            value = build(es, es.length);
         } else {
             Object[] es = coll.toArray();
             value = es.length == 1 ? es[0] : ListMultivalue.of(es);
         }
     }
 
+    private static Object build(Object[] es, int length) {
+        Object[] compact = new Object[length];
+        int t = 0;
+        for (int s = 0; s < length; s++) {
+            if (es[s] != null) {
+                compact[t++] = es[s];
+            }
+        }
+        return ListMultivalue.build(compact, 0, t);
+    }
+
+    @Override
+    protected Object bulkValue(Object[] es) {
+        return build(es, es.length);
+    }
+
+    /**
+     * Restores a node written by {@link CollectionCodec}.
+     */
+    static Object restore(Object[] values) {
+        return ListMultivalue.restore(values);
+    }
+
+    /**
+     * Appends the first {@code length} elements of the given array, building them in one pass.
+     */
+    ListImpl<T> appendAll(Object[] es, int length) {
+        Object built = build(es, length);
+        return built == null ? this : new ListImpl<>(insert(value, built, size(value)));
+    }
+
     private boolean arrayContainsNull(T[] es) {
         for (int i = 0; i < es.length; i++) {
             if (es[i] == null) {
@@ -361,6 +597,12 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
         this.value = value;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        return value instanceof ListMultivalue mv && index >= 0 && index < mv.size ? (T) mv.getDeep(index) : super.get(index);
+    }
+
     @Override
     public Spliterator<T> spliterator() {
         return new OrderedCollectionSpliterator<>(value, 0, length(value), size(value), false);
@@ -373,12 +615,12 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
 
     @Override
     public List<T> append(T e) {
-        return new ListImpl<>(insert(value, e, size(value)));
+        return new ListImpl<>(ListMultivalue.add(value, e, false));
     }
 
     @Override
     public List<T> prepend(T e) {
-        return new ListImpl<>(insert(value, e, 0));
+        return new ListImpl<>(ListMultivalue.add(value, e, true));
     }
 
     @Override
@@ -486,13 +728,40 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
 
     @Override
     public int firstIndexOf(Object element) {
-        int i = 0;
-        for (var o : this) {
-            if (o.equals(element))
-                return i;
-            i++;
+        return value == null ? -1 : firstIndexOf(value, element);
+    }
+
+    private static int firstIndexOf(Object v, Object element) {
+        if (v instanceof ListMultivalue) {
+            int pos = 0;
+            for (Object o : ((ListMultivalue) v).values) {
+                int i = firstIndexOf(o, element);
+                if (i >= 0) {
+                    return pos + i;
+                }
+                pos += size(o);
+            }
+            return -1;
+        } else {
+            return v.equals(element) ? 0 : -1;
+        }
+    }
+
+    private static int lastIndexOf(Object v, Object element) {
+        if (v instanceof ListMultivalue) {
+            Object[] values = ((ListMultivalue) v).values;
+            int pos = ((ListMultivalue) v).size;
+            for (int ii = values.length - 1; ii >= 0; ii--) {
+                pos -= size(values[ii]);
+                int i = lastIndexOf(values[ii], element);
+                if (i >= 0) {
+                    return pos + i;
+                }
+            }
+            return -1;
+        } else {
+            return v.equals(element) ? 0 : -1;
         }
-        return -1;
     }
 
     @Override
@@ -527,7 +796,7 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
 
     @Override
     public int lastIndexOf(Object element) {
-        return lastIndexOf(0, size(), element);
+        return value == null ? -1 : lastIndexOf(value, element);
     }
 
     @Override
@@ -931,6 +1200,11 @@ public class ListImpl<T> extends TreeCollectionImpl<T> implements List<T> {
         return MutableList.concurrent(this);
     }
 
+    @Override
+    public TransientList<T> transientCopy() {
+        return new TransientListImpl<>(this);
+    }
+
     @Override
     public int index(Object e) {
         return firstIndexOf(e);
@@ -0,0 +1,431 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * The partitioned hash trie of {@link HashCollectionImpl} specialized for unboxed long keys. The trie is partitioned
+ * on {@link Long#hashCode(long)}, keys with an equal hash end up in a bucket node at level {@code NR_OF_PARTS} in which
+ * they are kept sorted. Otherwise the layout is that of {@link IntHashTrie}.
+ */
+final class LongHashTrie {
+
+    private static final byte     NR_OF_PARTS = HashCollectionImpl.NR_OF_PARTS;
+    private static final int[]    PART_MASKS  = HashCollectionImpl.PART_MASKS;
+    private static final int[]    PART_SHIFTS = HashCollectionImpl.PART_SHIFTS;
+
+    private static final long[]   NO_KEYS     = new long[0];
+    private static final Object[] NO_VALUES   = new Object[0];
+    private static final Node[]   NO_NODES    = new Node[0];
+
+    private LongHashTrie() {
+    }
+
+    static final class Node {
+        final long     dataMask;
+        final long     nodeMask;
+        final long[]   keys;
+        final Object[] values;
+        final Node[]   nodes;
+        final int      size;
+        final int      hash;
+
+        private Node(long dataMask, long nodeMask, long[] keys, Object[] values, Node[] nodes, int size, int hash) {
+            this.dataMask = dataMask;
+            this.nodeMask = nodeMask;
+            this.keys = keys;
+            this.values = values;
+            this.nodes = nodes;
+            this.size = size;
+            this.hash = hash;
+        }
+
+        private boolean isMap() {
+            return values != null;
+        }
+
+        private boolean equals(Node other) {
+            if (this == other) {
+                return true;
+            } else if (size != other.size || hash != other.hash || dataMask != other.dataMask || nodeMask != other.nodeMask || //
+                    !Arrays.equals(keys, other.keys) || !Arrays.equals(values, other.values)) {
+                return false;
+            }
+            for (int i = 0; i < nodes.length; i++) {
+                if (!nodes[i].equals(other.nodes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Iterates over the keys (and values) of a trie in the order of their position.
+     */
+    static final class Cursor {
+        private final Node[] stack = new Node[NR_OF_PARTS + 1];
+        private final long[] rest  = new long[NR_OF_PARTS + 1];
+        private int          depth = -1;
+        long                 key;
+        Object               value;
+
+        Cursor(Node root) {
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        private void push(Node node) {
+            stack[++depth] = node;
+            // in an equal hash bucket rest is the index of the next key
+            rest[depth] = depth == NR_OF_PARTS ? 0L : node.dataMask | node.nodeMask;
+        }
+
+        boolean next() {
+            while (depth >= 0) {
+                Node node = stack[depth];
+                long r = rest[depth];
+                if (depth == NR_OF_PARTS) {
+                    if (r < node.keys.length) {
+                        rest[depth] = r + 1;
+                        set(node, (int) r);
+                        return true;
+                    }
+                    depth--;
+                } else if (r == 0) {
+                    depth--;
+                } else {
+                    long bit = Long.lowestOneBit(r);
+                    rest[depth] = r ^ bit;
+                    if ((node.dataMask & bit) != 0) {
+                        set(node, pos(node.dataMask, bit));
+                        return true;
+                    } else {
+                        push(node.nodes[pos(node.nodeMask, bit)]);
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void set(Node node, int i) {
+            key = node.keys[i];
+            value = node.values != null ? node.values[i] : null;
+        }
+    }
+
+    private static long bit(long key, int level) {
+        return 1L << ((Long.hashCode(key) & PART_MASKS[level]) >>> PART_SHIFTS[level]);
+    }
+
+    private static int pos(long mask, long bit) {
+        return Long.bitCount(mask & (bit - 1));
+    }
+
+    private static int hash(long key, Object value, boolean map) {
+        return map ? Long.hashCode(key) ^ Objects.hashCode(value) : Long.hashCode(key);
+    }
+
+    static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    static int hash(Node node) {
+        return node == null ? 0 : node.hash;
+    }
+
+    static boolean equals(Node a, Node b) {
+        return a == null ? b == null : b != null && a.equals(b);
+    }
+
+    private static int find(Node node, long key, int level) {
+        for (; level < NR_OF_PARTS; level++) {
+            long bit = bit(key, level);
+            if ((node.dataMask & bit) != 0) {
+                int i = pos(node.dataMask, bit);
+                return node.keys[i] == key ? i : -1;
+            } else if ((node.nodeMask & bit) == 0) {
+                return -1;
+            }
+            node = node.nodes[pos(node.nodeMask, bit)];
+        }
+        return Arrays.binarySearch(node.keys, key);
+    }
+
+    static boolean contains(Node node, long key) {
+        return node != null && find(node, key, 0) >= 0;
+    }
+
+    static Object get(Node node, long key) {
+        for (int level = 0; node != null; level++) {
+            if (level == NR_OF_PARTS) {
+                int i = Arrays.binarySearch(node.keys, key);
+                return i >= 0 ? node.values[i] : null;
+            }
+            long bit = bit(key, level);
+            if ((node.dataMask & bit) != 0) {
+                int i = pos(node.dataMask, bit);
+                return node.keys[i] == key ? node.values[i] : null;
+            }
+            node = (node.nodeMask & bit) != 0 ? node.nodes[pos(node.nodeMask, bit)] : null;
+        }
+        return null;
+    }
+
+    static Node add(Node root, long key) {
+        return root == null ? single(key, null, false, 0) : put(root, key, null, false, 0);
+    }
+
+    static Node put(Node root, long key, Object value) {
+        return root == null ? single(key, value, true, 0) : put(root, key, value, true, 0);
+    }
+
+    private static Node single(long key, Object value, boolean map, int level) {
+        return new Node(bit(key, level), 0L, new long[]{key}, map ? new Object[]{value} : null, NO_NODES, 1, hash(key, value, map));
+    }
+
+    private static Node put(Node node, long key, Object value, boolean map, int level) {
+        if (level == NR_OF_PARTS) {
+            return putEqualHash(node, key, value, map);
+        }
+        long bit = bit(key, level);
+        if ((node.dataMask & bit) != 0) {
+            int i = pos(node.dataMask, bit);
+            long k = node.keys[i];
+            if (k == key) {
+                if (!map || Objects.equals(node.values[i], value)) {
+                    return node;
+                }
+                Object[] values = node.values.clone();
+                values[i] = value;
+                return new Node(node.dataMask, node.nodeMask, node.keys, values, node.nodes, node.size, //
+                        node.hash - hash(k, node.values[i], true) + hash(key, value, true));
+            }
+            Node sub = pair(k, map ? node.values[i] : null, key, value, map, level + 1);
+            return new Node(node.dataMask ^ bit, node.nodeMask | bit, remove(node.keys, i), map ? IntHashTrie.remove(node.values, i) : null, //
+                    IntHashTrie.insert(node.nodes, pos(node.nodeMask, bit), sub), node.size + 1, node.hash + hash(key, value, map));
+        } else if ((node.nodeMask & bit) != 0) {
+            int i = pos(node.nodeMask, bit);
+            Node sub = node.nodes[i];
+            Node put = put(sub, key, value, map, level + 1);
+            if (put == sub) {
+                return node;
+            }
+            Node[] nodes = node.nodes.clone();
+            nodes[i] = put;
+            return new Node(node.dataMask, node.nodeMask, node.keys, node.values, nodes, node.size - sub.size + put.size, node.hash - sub.hash + put.hash);
+        } else {
+            int i = pos(node.dataMask, bit);
+            return new Node(node.dataMask | bit, node.nodeMask, insert(node.keys, i, key), map ? IntHashTrie.insert(node.values, i, value) : null, //
+                    node.nodes, node.size + 1, node.hash + hash(key, value, map));
+        }
+    }
+
+    private static Node putEqualHash(Node node, long key, Object value, boolean map) {
+        int i = Arrays.binarySearch(node.keys, key);
+        if (i >= 0) {
+            if (!map || Objects.equals(node.values[i], value)) {
+                return node;
+            }
+            Object[] values = node.values.clone();
+            values[i] = value;
+            return new Node(0L, 0L, node.keys, values, NO_NODES, node.size, node.hash - hash(key, node.values[i], true) + hash(key, value, true));
+        }
+        i = -i - 1;
+        return new Node(0L, 0L, insert(node.keys, i, key), map ? IntHashTrie.insert(node.values, i, value) : null, NO_NODES, //
+                node.size + 1, node.hash + hash(key, value, map));
+    }
+
+    private static Node pair(long k1, Object v1, long k2, Object v2, boolean map, int level) {
+        int hash = hash(k1, v1, map) + hash(k2, v2, map);
+        if (level == NR_OF_PARTS) {
+            return k1 < k2 ? new Node(0L, 0L, new long[]{k1, k2}, map ? new Object[]{v1, v2} : null, NO_NODES, 2, hash) : //
+                    new Node(0L, 0L, new long[]{k2, k1}, map ? new Object[]{v2, v1} : null, NO_NODES, 2, hash);
+        }
+        long b1 = bit(k1, level);
+        long b2 = bit(k2, level);
+        if (b1 == b2) {
+            return new Node(0L, b1, NO_KEYS, map ? NO_VALUES : null, new Node[]{pair(k1, v1, k2, v2, map, level + 1)}, 2, hash);
+        } else if (Long.compareUnsigned(b1, b2) < 0) {
+            return new Node(b1 | b2, 0L, new long[]{k1, k2}, map ? new Object[]{v1, v2} : null, NO_NODES, 2, hash);
+        } else {
+            return new Node(b1 | b2, 0L, new long[]{k2, k1}, map ? new Object[]{v2, v1} : null, NO_NODES, 2, hash);
+        }
+    }
+
+    static Node remove(Node root, long key) {
+        return root == null ? null : remove(root, key, 0);
+    }
+
+    private static Node remove(Node node, long key, int level) {
+        if (level == NR_OF_PARTS) {
+            int i = Arrays.binarySearch(node.keys, key);
+            return i < 0 ? node : removeData(node, i, 0L);
+        }
+        long bit = bit(key, level);
+        if ((node.dataMask & bit) != 0) {
+            int i = pos(node.dataMask, bit);
+            if (node.keys[i] != key) {
+                return node;
+            } else if (node.size == 1) {
+                return null;
+            }
+            return removeData(node, i, bit);
+        } else if ((node.nodeMask & bit) != 0) {
+            int i = pos(node.nodeMask, bit);
+            Node sub = node.nodes[i];
+            Node rem = remove(sub, key, level + 1);
+            if (rem == sub) {
+                return node;
+            } else if (rem.size == 1) {
+                // inline the remaining key to keep the trie canonical
+                int d = pos(node.dataMask, bit);
+                return new Node(node.dataMask | bit, node.nodeMask ^ bit, insert(node.keys, d, rem.keys[0]), //
+                        node.isMap() ? IntHashTrie.insert(node.values, d, rem.values[0]) : null, IntHashTrie.remove(node.nodes, i), node.size - 1, node.hash - sub.hash + rem.hash);
+            }
+            Node[] nodes = node.nodes.clone();
+            nodes[i] = rem;
+            return new Node(node.dataMask, node.nodeMask, node.keys, node.values, nodes, node.size - 1, node.hash - sub.hash + rem.hash);
+        } else {
+            return node;
+        }
+    }
+
+    private static Node removeData(Node node, int i, long bit) {
+        boolean map = node.isMap();
+        return new Node(node.dataMask ^ bit, node.nodeMask, remove(node.keys, i), map ? IntHashTrie.remove(node.values, i) : null, //
+                node.nodes, node.size - 1, node.hash - hash(node.keys[i], map ? node.values[i] : null, map));
+    }
+
+    /**
+     * Builds a trie of keys (and values when not null) that are distinct and in trie order, as produced by a
+     * {@link Cursor}, in one pass and without any garbage.
+     */
+    static Node build(long[] keys, Object[] values, int from, int to) {
+        return from == to ? null : build(keys, values, from, to, 0);
+    }
+
+    private static Node build(long[] keys, Object[] values, int from, int to, int level) {
+        boolean map = values != null;
+        if (level == NR_OF_PARTS) {
+            int hash = 0;
+            for (int i = from; i < to; i++) {
+                hash += hash(keys[i], map ? values[i] : null, map);
+            }
+            return new Node(0L, 0L, Arrays.copyOfRange(keys, from, to), map ? Arrays.copyOfRange(values, from, to) : null, NO_NODES, to - from, hash);
+        }
+        long dataMask = 0L;
+        long nodeMask = 0L;
+        int nrOfKeys = 0;
+        int nrOfNodes = 0;
+        for (int i = from; i < to;) {
+            long bit = bit(keys[i], level);
+            int e = i + 1;
+            while (e < to && bit(keys[e], level) == bit) {
+                e++;
+            }
+            if (e - i == 1) {
+                dataMask |= bit;
+                nrOfKeys++;
+            } else {
+                nodeMask |= bit;
+                nrOfNodes++;
+            }
+            i = e;
+        }
+        long[] ks = nrOfKeys == 0 ? NO_KEYS : new long[nrOfKeys];
+        Object[] vs = !map ? null : nrOfKeys == 0 ? NO_VALUES : new Object[nrOfKeys];
+        Node[] ns = nrOfNodes == 0 ? NO_NODES : new Node[nrOfNodes];
+        int hash = 0;
+        for (int i = from, k = 0, n = 0; i < to;) {
+            long bit = bit(keys[i], level);
+            int e = i + 1;
+            while (e < to && bit(keys[e], level) == bit) {
+                e++;
+            }
+            if (e - i == 1) {
+                if (map) {
+                    vs[k] = values[i];
+                }
+                ks[k++] = keys[i];
+                hash += hash(keys[i], map ? values[i] : null, map);
+            } else {
+                Node sub = build(keys, values, i, e, level + 1);
+                ns[n++] = sub;
+                hash += sub.hash;
+            }
+            i = e;
+        }
+        return new Node(dataMask, nodeMask, ks, vs, ns, to - from, hash);
+    }
+
+    /**
+     * The key set of a map trie, which has exactly the same shape.
+     */
+    static Node keys(Node node) {
+        if (node == null || !node.isMap()) {
+            return node;
+        }
+        Node[] nodes = node.nodes.length == 0 ? NO_NODES : new Node[node.nodes.length];
+        int hash = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = keys(node.nodes[i]);
+            hash += nodes[i].hash;
+        }
+        for (long key : node.keys) {
+            hash += Long.hashCode(key);
+        }
+        return new Node(node.dataMask, node.nodeMask, node.keys, null, nodes, node.size, hash);
+    }
+
+    static Node filter(Node root, LongPredicate predicate) {
+        Node result = root;
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            if (!predicate.test(cursor.key)) {
+                result = remove(result, cursor.key);
+            }
+        }
+        return result;
+    }
+
+    private static long[] insert(long[] a, int i, long e) {
+        long[] r = new long[a.length + 1];
+        System.arraycopy(a, 0, r, 0, i);
+        r[i] = e;
+        System.arraycopy(a, i, r, i + 1, a.length - i);
+        return r;
+    }
+
+    private static long[] remove(long[] a, int i) {
+        if (a.length == 1) {
+            return NO_KEYS;
+        }
+        long[] r = new long[a.length - 1];
+        System.arraycopy(a, 0, r, 0, i);
+        System.arraycopy(a, i + 1, r, i, r.length - i);
+        return r;
+    }
+}
@@ -0,0 +1,320 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.modelingvalue.collections.LongList;
+import org.modelingvalue.collections.List;
+
+public final class LongListImpl implements LongList {
+
+    @Serial
+    private static final long    serialVersionUID = -2718553216920488071L;
+
+    public static final LongList EMPTY            = new LongListImpl((Object) null);
+
+    private static final long[]  NO_ELEMENTS      = new long[0];
+
+    transient Object             root;
+    private transient int        hash;
+
+    public LongListImpl(long[] es) {
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    LongListImpl(Object root) {
+        this.root = root;
+    }
+
+    private LongList create(Object root) {
+        return root == this.root ? this : root == null ? EMPTY : new LongListImpl(root);
+    }
+
+    private static Object root(LongList list) {
+        return ((LongListImpl) list).root;
+    }
+
+    private int check(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size());
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return PrimitiveListTree.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public long get(int index) {
+        return PrimitiveListTree.getLong(root, check(index));
+    }
+
+    @Override
+    public long first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public long last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public LongList append(long e) {
+        return create(PrimitiveListTree.concat(root, new long[]{e}));
+    }
+
+    @Override
+    public LongList prepend(long e) {
+        return create(PrimitiveListTree.concat(new long[]{e}, root));
+    }
+
+    @Override
+    public LongList insert(int position, long e) {
+        return create(PrimitiveListTree.insert(root, position, new long[]{e}));
+    }
+
+    @Override
+    public LongList replace(int position, long e) {
+        return get(position) == e ? this : create(PrimitiveListTree.set(root, position, (leaf, i) -> ((long[]) leaf)[i] = e));
+    }
+
+    @Override
+    public LongList appendList(LongList list) {
+        return create(PrimitiveListTree.concat(root, root(list)));
+    }
+
+    @Override
+    public LongList insertList(int position, LongList list) {
+        return create(PrimitiveListTree.insert(root, position, root(list)));
+    }
+
+    @Override
+    public LongList sublist(int begin, int end) {
+        return create(PrimitiveListTree.slice(root, begin, end));
+    }
+
+    @Override
+    public LongList removeList(int begin, int end) {
+        return create(PrimitiveListTree.remove(root, begin, end));
+    }
+
+    @Override
+    public int firstIndexOf(long e) {
+        Elements cursor = new Elements(root, 0, size());
+        while (cursor.advance()) {
+            long[] leaf = (long[]) cursor.leaf;
+            for (int i = cursor.index - cursor.base; i < leaf.length; i++) {
+                if (leaf[i] == e) {
+                    return cursor.base + i;
+                }
+            }
+            cursor.index = cursor.limit;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(long e) {
+        return firstIndexOf(e) >= 0;
+    }
+
+    @Override
+    public int binarySearch(long key) {
+        int lo = 0, hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long e = PrimitiveListTree.getLong(root, mid);
+            if (e < key) {
+                lo = mid + 1;
+            } else if (e > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -lo - 1;
+    }
+
+    @Override
+    public long sum() {
+        return stream().sum();
+    }
+
+    @Override
+    public OptionalLong min() {
+        return stream().min();
+    }
+
+    @Override
+    public OptionalLong max() {
+        return stream().max();
+    }
+
+    @Override
+    public LongList clear() {
+        return EMPTY;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        new Elements(root, 0, size()).forEachRemaining(action);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return Spliterators.iterator(new Elements(root, 0, size()));
+    }
+
+    @Override
+    public LongStream stream() {
+        return StreamSupport.longStream(new Elements(root, 0, size()), false);
+    }
+
+    @Override
+    public long[] toArray() {
+        return (long[]) PrimitiveListTree.toArray(root, NO_ELEMENTS);
+    }
+
+    @Override
+    public List<Long> toList() {
+        return List.of(stream().boxed().toArray(Long[]::new));
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            Elements cursor = new Elements(root, 0, size());
+            while (cursor.advance()) {
+                for (long e : (long[]) cursor.leaf) {
+                    h = 31 * h + Long.hashCode(e);
+                }
+                cursor.index = cursor.limit;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (!(obj instanceof LongListImpl) || ((LongListImpl) obj).size() != size() || ((LongListImpl) obj).hashCode() != hashCode()) {
+            return false;
+        }
+        PrimitiveIterator.OfLong a = iterator(), b = ((LongListImpl) obj).iterator();
+        while (a.hasNext()) {
+            if (a.nextLong() != b.nextLong()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LongList[");
+        PrimitiveIterator.OfLong it = iterator();
+        for (boolean first = true; it.hasNext(); first = false) {
+            sb.append(first ? "" : ",").append(it.nextLong());
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        PrimitiveIterator.OfLong it = iterator();
+        while (it.hasNext()) {
+            s.writeLong(it.nextLong());
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        long[] es = new long[s.readInt()];
+        for (int i = 0; i < es.length; i++) {
+            es[i] = s.readLong();
+        }
+        root = PrimitiveListTree.build(es, es.length);
+    }
+
+    private static final class Elements extends PrimitiveListTree.Cursor implements Spliterator.OfLong {
+
+        private Elements(Object root, int index, int end) {
+            super(root, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(((long[]) leaf)[index++ - base]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (advance()) {
+                long[] es = (long[]) leaf;
+                for (int to = Math.min(limit, end) - base, i = index - base; i < to; i++) {
+                    action.accept(es[i]);
+                }
+                index = Math.min(limit, end);
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int from = index, mid = split();
+            return mid < 0 ? null : new Elements(root, from, mid);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.function.LongPredicate;
+
+import org.modelingvalue.collections.Collection;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.LongMap;
+import org.modelingvalue.collections.LongSet;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.impl.LongHashTrie.Cursor;
+import org.modelingvalue.collections.impl.LongHashTrie.Node;
+import org.modelingvalue.collections.util.StringUtil;
+
+public final class LongMapImpl<V> implements LongMap<V> {
+
+    @Serial
+    private static final long  serialVersionUID = 8758367353700934788L;
+
+    @SuppressWarnings("rawtypes")
+    public static final LongMap EMPTY            = new LongMapImpl((Node) null);
+
+    private transient Node     root;
+
+    private LongMapImpl(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private LongMap<V> create(Node root) {
+        return root == this.root ? this : root == null ? EMPTY : new LongMapImpl<>(root);
+    }
+
+    @Override
+    public int size() {
+        return LongHashTrie.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return LongHashTrie.contains(root, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(long key) {
+        return (V) LongHashTrie.get(root, key);
+    }
+
+    @Override
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null || containsKey(key) ? value : defaultValue;
+    }
+
+    @Override
+    public LongMap<V> put(long key, V value) {
+        return create(LongHashTrie.put(root, key, value));
+    }
+
+    @Override
+    public LongMap<V> removeKey(long key) {
+        return create(LongHashTrie.remove(root, key));
+    }
+
+    @Override
+    public LongMap<V> putAll(LongMap<? extends V> c) {
+        Node result = root;
+        Cursor cursor = new Cursor(((LongMapImpl<?>) c).root);
+        while (cursor.next()) {
+            result = LongHashTrie.put(result, cursor.key, cursor.value);
+        }
+        return create(result);
+    }
+
+    @Override
+    public LongMap<V> removeAllKey(LongSet c) {
+        if (c.size() < size()) {
+            Node result = root;
+            Cursor cursor = new Cursor(((LongSetImpl) c).root);
+            while (cursor.next()) {
+                result = LongHashTrie.remove(result, cursor.key);
+            }
+            return create(result);
+        } else {
+            return filter(k -> !c.contains(k));
+        }
+    }
+
+    @Override
+    public LongMap<V> filter(LongPredicate keyPredicate) {
+        return create(LongHashTrie.filter(root, keyPredicate));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public LongMap<V> clear() {
+        return EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(EntryConsumer<? super V> action) {
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            action.accept(cursor.key, (V) cursor.value);
+        }
+    }
+
+    @Override
+    public LongSet keys() {
+        return root == null ? LongSet.of() : new LongSetImpl(LongHashTrie.keys(root));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<V> values() {
+        Object[] result = new Object[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.value;
+        }
+        return Collection.of((V[]) result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<Long, V> toMap() {
+        Entry<Long, V>[] result = new Entry[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = Entry.of(cursor.key, (V) cursor.value);
+        }
+        return Map.of(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return LongHashTrie.hash(root);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || (obj instanceof LongMapImpl && LongHashTrie.equals(root, ((LongMapImpl<?>) obj).root));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LongMap[");
+        Cursor cursor = new Cursor(root);
+        for (boolean first = true; cursor.next(); first = false) {
+            sb.append(first ? "" : ",").append(cursor.key).append('=').append(StringUtil.toString(cursor.value));
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            s.writeLong(cursor.key);
+            s.writeObject(cursor.value);
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        long[] keys = new long[s.readInt()];
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = s.readLong();
+            values[i] = s.readObject();
+        }
+        // written in trie order, so distinct and in the order the trie is built in
+        root = LongHashTrie.build(keys, values, 0, keys.length);
+    }
+}
@@ -0,0 +1,243 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.modelingvalue.collections.LongSet;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.impl.LongHashTrie.Cursor;
+import org.modelingvalue.collections.impl.LongHashTrie.Node;
+
+public final class LongSetImpl implements LongSet {
+
+    @Serial
+    private static final long  serialVersionUID = 5081323715324723418L;
+
+    public static final LongSet EMPTY            = new LongSetImpl((Node) null);
+
+    private static final int   CHARACTERISTICS  = IntSetImpl.CHARACTERISTICS;
+
+    transient Node             root;
+
+    public LongSetImpl(long[] es) {
+        Node root = null;
+        for (long e : es) {
+            root = LongHashTrie.add(root, e);
+        }
+        this.root = root;
+    }
+
+    LongSetImpl(Node root) {
+        this.root = root;
+    }
+
+    private LongSet create(Node root) {
+        return root == this.root ? this : root == null ? EMPTY : new LongSetImpl(root);
+    }
+
+    @Override
+    public int size() {
+        return LongHashTrie.size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean contains(long e) {
+        return LongHashTrie.contains(root, e);
+    }
+
+    @Override
+    public boolean containsAll(LongSet c) {
+        if (c.size() > size()) {
+            return false;
+        }
+        Cursor cursor = new Cursor(((LongSetImpl) c).root);
+        while (cursor.next()) {
+            if (!LongHashTrie.contains(root, cursor.key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public LongSet add(long e) {
+        return create(LongHashTrie.add(root, e));
+    }
+
+    @Override
+    public LongSet remove(long e) {
+        return create(LongHashTrie.remove(root, e));
+    }
+
+    @Override
+    public LongSet addAll(LongSet c) {
+        Node other = ((LongSetImpl) c).root;
+        if (LongHashTrie.size(other) > size()) {
+            return ((LongSetImpl) c).addAll(this);
+        }
+        Node result = root;
+        Cursor cursor = new Cursor(other);
+        while (cursor.next()) {
+            result = LongHashTrie.add(result, cursor.key);
+        }
+        return create(result);
+    }
+
+    @Override
+    public LongSet removeAll(LongSet c) {
+        if (c.size() < size()) {
+            Node result = root;
+            Cursor cursor = new Cursor(((LongSetImpl) c).root);
+            while (cursor.next()) {
+                result = LongHashTrie.remove(result, cursor.key);
+            }
+            return create(result);
+        } else {
+            return filter(e -> !c.contains(e));
+        }
+    }
+
+    @Override
+    public LongSet retainAll(LongSet c) {
+        return c.size() < size() ? create(LongHashTrie.filter(((LongSetImpl) c).root, this::contains)) : filter(c::contains);
+    }
+
+    @Override
+    public LongSet filter(LongPredicate predicate) {
+        return create(LongHashTrie.filter(root, predicate));
+    }
+
+    @Override
+    public LongSet clear() {
+        return EMPTY;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            action.accept(cursor.key);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private final Cursor cursor = new Cursor(root);
+            private boolean      next   = cursor.next();
+
+            @Override
+            public boolean hasNext() {
+                return next;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!next) {
+                    throw new NoSuchElementException();
+                }
+                long key = cursor.key;
+                next = cursor.next();
+                return key;
+            }
+        };
+    }
+
+    @Override
+    public LongStream stream() {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size(), CHARACTERISTICS), false);
+    }
+
+    @Override
+    public long[] toArray() {
+        long[] result = new long[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.key;
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Long> toSet() {
+        Long[] result = new Long[size()];
+        Cursor cursor = new Cursor(root);
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.key;
+        }
+        return Set.of(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return LongHashTrie.hash(root);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj == this || (obj instanceof LongSetImpl && LongHashTrie.equals(root, ((LongSetImpl) obj).root));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LongSet[");
+        Cursor cursor = new Cursor(root);
+        for (boolean first = true; cursor.next(); first = false) {
+            sb.append(first ? "" : ",").append(cursor.key);
+        }
+        return sb.append(']').toString();
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        s.writeInt(size());
+        Cursor cursor = new Cursor(root);
+        while (cursor.next()) {
+            s.writeLong(cursor.key);
+        }
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        long[] keys = new long[s.readInt()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = s.readLong();
+        }
+        // written in trie order, so distinct and in the order the trie is built in
+        root = LongHashTrie.build(keys, null, 0, keys.length);
+    }
+}
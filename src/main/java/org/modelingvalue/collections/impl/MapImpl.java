@@ -35,6 +35,7 @@ import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.Entry;
 import org.modelingvalue.collections.Map;
 import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.TransientMap;
 import org.modelingvalue.collections.mutable.MutableMap;
 import org.modelingvalue.collections.util.ArrayUtil;
 import org.modelingvalue.collections.util.Deserializer;
@@ -319,19 +320,25 @@ public class MapImpl<K, V> extends HashCollectionImpl<Entry<K, V>> implements Ma
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Collection<Entry<K, Pair<V, V>>> diff(Map<K, V> toCompare) {
-        return compare(toCompare).flatMap(a -> {
-            if (a[0] == null) {
-                return a[1].map(e -> Entry.of(e.getKey(), Pair.of(null, a[1].get(e.getKey()))));
-            } else if (a[1] == null) {
-                return a[0].map(e -> Entry.of(e.getKey(), Pair.of(a[0].get(e.getKey()), null)));
-            } else {
-                return a[0].toKeys().asSet().addAll(a[1].toKeys()).map(k -> Entry.of(k, Pair.of(a[0].get(k), a[1].get(k))));
-            }
+        return new StreamCollectionImpl<>(diffSpliterator((MapImpl<K, V>) toCompare), false).map(a -> {
+            Entry<K, V> e0 = (Entry<K, V>) a[0], e1 = (Entry<K, V>) a[1];
+            return Entry.of(e0 != null ? e0.getKey() : e1.getKey(), Pair.of(e0 != null ? e0.getValue() : null, e1 != null ? e1.getValue() : null));
         });
     }
 
+    @Override
+    public int diffCount(Map<K, V> toCompare) {
+        return countDiff((MapImpl<K, V>) toCompare);
+    }
+
+    @Override
+    public Map<K, V> intern() {
+        return internCollection();
+    }
+
     @Override
     public Collection<K> toKeys() {
         return map(Entry::getKey);
@@ -435,4 +442,9 @@ public class MapImpl<K, V> extends HashCollectionImpl<Entry<K, V>> implements Ma
         return MutableMap.concurrent(this);
     }
 
+    @Override
+    public TransientMap<K, V> transientCopy() {
+        return new TransientMapImpl<>(this);
+    }
+
 }
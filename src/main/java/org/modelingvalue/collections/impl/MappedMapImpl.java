@@ -0,0 +1,406 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.MappedMap;
+import org.modelingvalue.collections.util.WrappedIOException;
+
+/**
+ * The file starts with a header holding the root of the latest version, followed by records. A record is either
+ * an entry, holding the hash code of its key and its {@link CollectionCodec} encoding, or a trie node, holding its level,
+ * mask and the offsets of its children. Records never cross the boundary of a mapped segment.
+ */
+public final class MappedMapImpl<K, V> implements MappedMap<K, V> {
+
+    private static final int  MAGIC        = 0x4D56474D;
+    private static final int  FORMAT       = 1;
+    private static final int  SEGMENT_SIZE = Integer.getInteger("MAPPED_SEGMENT_SIZE", 1 << 30);
+    private static final int  FLUSH_SIZE   = 1 << 24;
+    private static final int  HEADER_SIZE  = 32;
+    private static final int  ROOT         = 16;
+    private static final byte NODE         = 1;
+    private static final byte ENTRY        = 2;
+    private static final int  NODE_SIZE    = 14;
+    private static final int  ENTRY_SIZE   = 9;
+    private static final long NONE         = -1L;
+
+    public static <K, V> MappedMapImpl<K, V> create(Path path, Map<K, V> map) throws IOException {
+        FileChannel channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT).putInt(HashCollectionImpl.PART_SIZE).putInt(0).putLong(NONE).putInt(0).putInt(0).flip();
+        channel.write(header, 0);
+        return new MappedMapImpl<K, V>(new Store(channel, HashCollectionImpl.PART_SIZE), NONE, 0).append(map);
+    }
+
+    public static <K, V> MappedMapImpl<K, V> open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, READ, WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != FORMAT) {
+            channel.close();
+            throw new IOException(path + " is not a mapped map file");
+        }
+        int partSize = header.getInt();
+        header.getInt();
+        long root = header.getLong();
+        int size = header.getInt();
+        return new MappedMapImpl<>(new Store(channel, partSize), root, size);
+    }
+
+    private final Store        store;
+    private final long         root;
+    private final int          size;
+    private volatile Map<K, V> map;
+
+    private MappedMapImpl(Store store, long root, int size) {
+        this.store = store;
+        this.root = root;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return getEntry(key) != null;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = getEntry(key);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    private Entry<K, V> getEntry(K key) {
+        if (!store.direct) {
+            return asMap().getEntry(key);
+        }
+        int id = key.hashCode();
+        long offset = root;
+        while (offset != NONE) {
+            if (store.byteAt(offset) == ENTRY) {
+                return store.intAt(offset + 1) == id ? matching(offset, key) : null;
+            }
+            byte level = store.byteAt(offset + 1);
+            int n = store.intAt(offset + 10);
+            if (level == HashCollectionImpl.NR_OF_PARTS) {
+                for (int i = 0; i < n; i++) {
+                    long child = store.longAt(offset + NODE_SIZE + 8L * i);
+                    Entry<K, V> entry = store.intAt(child + 1) == id ? matching(child, key) : null;
+                    if (entry != null) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+            long mask = store.longAt(offset + 2);
+            int part = (id & HashCollectionImpl.PART_MASKS[level]) >>> HashCollectionImpl.PART_SHIFTS[level];
+            if ((mask & 1L << part) == 0) {
+                return null;
+            }
+            offset = store.longAt(offset + NODE_SIZE + 8L * Long.bitCount(mask & ((1L << part) - 1)));
+        }
+        return null;
+    }
+
+    private Entry<K, V> matching(long offset, K key) {
+        Entry<K, V> entry = store.entry(offset);
+        return key.equals(entry.getKey()) ? entry : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<K, V> asMap() {
+        Map<K, V> result = map;
+        if (result == null) {
+            MapImpl<K, V> empty = (MapImpl<K, V>) Map.<K, V> of();
+            result = root == NONE ? empty : empty.create(store.load(root, empty.key()));
+            map = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MappedMapImpl<K, V> append(Map<K, V> map) throws IOException {
+        MapImpl<K, V> impl = (MapImpl<K, V>) map;
+        long newRoot = store.append(root, impl.value, impl.key(), map.size());
+        MappedMapImpl<K, V> result = new MappedMapImpl<>(store, newRoot, map.size());
+        result.map = map;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        store.channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedMap(" + size + ")";
+    }
+
+    private static final class Loaded extends WeakReference<Object> {
+        private final long offset;
+
+        private Loaded(Object value, long offset, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.offset = offset;
+        }
+    }
+
+    private static final class Store {
+        private final FileChannel            channel;
+        private final boolean                direct;
+        private final HashMap<Long, Loaded>  loaded  = new HashMap<>();
+        private final ReferenceQueue<Object> cleared = new ReferenceQueue<>();
+        private volatile MappedByteBuffer[]  segments;
+        private long                         end;
+        private ByteBuffer                   out;
+        private long                         start;
+
+        private Store(FileChannel channel, int partSize) throws IOException {
+            this.channel = channel;
+            this.direct = partSize == HashCollectionImpl.PART_SIZE;
+            this.end = channel.size();
+            map();
+        }
+
+        private void map() throws IOException {
+            MappedByteBuffer[] old = segments;
+            MappedByteBuffer[] result = new MappedByteBuffer[(int) ((end + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < result.length; i++) {
+                long from = (long) i * SEGMENT_SIZE;
+                long length = Math.min(SEGMENT_SIZE, end - from);
+                result[i] = old != null && i < old.length && old[i].capacity() == length ? old[i] : channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+            }
+            segments = result;
+        }
+
+        private ByteBuffer segment(long offset) {
+            return segments[(int) (offset / SEGMENT_SIZE)];
+        }
+
+        private byte byteAt(long offset) {
+            return segment(offset).get((int) (offset % SEGMENT_SIZE));
+        }
+
+        private int intAt(long offset) {
+            return segment(offset).getInt((int) (offset % SEGMENT_SIZE));
+        }
+
+        private long longAt(long offset) {
+            return segment(offset).getLong((int) (offset % SEGMENT_SIZE));
+        }
+
+        private ByteBuffer bytesAt(long offset, int length) {
+            return segment(offset).slice((int) (offset % SEGMENT_SIZE), length);
+        }
+
+        private <K, V> Entry<K, V> entry(long offset) {
+            return CollectionCodec.DEFAULT.decode(bytesAt(offset + ENTRY_SIZE, intAt(offset + 5)));
+        }
+
+        @SuppressWarnings("rawtypes")
+        private synchronized Object load(long offset, Function key) {
+            Loaded ref = loaded.get(offset);
+            Object value = ref != null ? ref.get() : null;
+            if (value == null) {
+                if (byteAt(offset) == ENTRY) {
+                    value = entry(offset);
+                } else {
+                    byte level = byteAt(offset + 1);
+                    Object[] values = new Object[intAt(offset + 10)];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = load(longAt(offset + NODE_SIZE + 8L * i), key);
+                    }
+                    value = HashCollectionImpl.restore(values, level, key);
+                }
+                remember(offset, value);
+            }
+            return value;
+        }
+
+        /**
+         * Remembers that {@code value} is stored at {@code offset}, and forgets the offsets of the values that have been
+         * garbage collected, so that this administration does not grow with the file.
+         */
+        private void remember(long offset, Object value) {
+            for (Reference<?> ref = cleared.poll(); ref != null; ref = cleared.poll()) {
+                loaded.remove(((Loaded) ref).offset, ref);
+            }
+            loaded.put(offset, new Loaded(value, offset, cleared));
+        }
+
+        /**
+         * Writes the records of the new version and forces them to disk before the header points to them, so that after a
+         * crash the root never refers to records that were not written.
+         */
+        @SuppressWarnings("rawtypes")
+        private synchronized long append(long root, Object value, Function key, int size) throws IOException {
+            start = end;
+            out = ByteBuffer.allocate(1024);
+            long newRoot;
+            try {
+                newRoot = value == null ? NONE : write(value, root, key);
+                flush();
+            } catch (WrappedIOException e) {
+                e.throwOriginal();
+                throw e;
+            } finally {
+                out = null;
+            }
+            end = start;
+            channel.force(false);
+            ByteBuffer header = ByteBuffer.allocate(12);
+            header.putLong(newRoot).putInt(size).flip();
+            channel.write(header, ROOT);
+            channel.force(false);
+            map();
+            return newRoot;
+        }
+
+        /**
+         * Writes the records of the value that are not equal to the candidate at the same place in the trie of the file.
+         */
+        @SuppressWarnings("rawtypes")
+        private long write(Object value, long candidate, Function key) {
+            Loaded ref = candidate != NONE ? loaded.get(candidate) : null;
+            if (ref != null && ref.get() == value) {
+                return candidate;
+            }
+            long offset;
+            if (value instanceof TreeCollectionImpl.MultiValue) {
+                offset = writeNode(((TreeCollectionImpl.MultiValue) value).values, HashCollectionImpl.level(value), candidate, key);
+            } else {
+                offset = writeEntry(value, candidate, key);
+            }
+            remember(offset, value);
+            return offset;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private long writeNode(Object[] values, byte level, long candidate, Function key) {
+            boolean sameLevel = candidate != NONE && byteAt(candidate) == NODE && byteAt(candidate + 1) == level;
+            long candidateMask = sameLevel ? longAt(candidate + 2) : 0;
+            int candidateLength = sameLevel ? intAt(candidate + 10) : 0;
+            boolean same = sameLevel && candidateLength == values.length;
+            long mask = 0;
+            long[] children = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                long childCandidate = NONE;
+                if (level < HashCollectionImpl.NR_OF_PARTS) {
+                    int part = (HashCollectionImpl.index(values[i], key) & HashCollectionImpl.PART_MASKS[level]) >>> HashCollectionImpl.PART_SHIFTS[level];
+                    mask |= 1L << part;
+                    if ((candidateMask & 1L << part) != 0) {
+                        childCandidate = longAt(candidate + NODE_SIZE + 8L * Long.bitCount(candidateMask & ((1L << part) - 1)));
+                    }
+                } else if (i < candidateLength) {
+                    childCandidate = longAt(candidate + NODE_SIZE + 8L * i);
+                }
+                children[i] = write(values[i], childCandidate, key);
+                same &= children[i] == childCandidate;
+            }
+            if (same && mask == candidateMask) {
+                return candidate;
+            }
+            long offset = reserve(NODE_SIZE + 8 * values.length);
+            out.put(NODE).put(level).putLong(mask).putInt(values.length);
+            for (long child : children) {
+                out.putLong(child);
+            }
+            return offset;
+        }
+
+        @SuppressWarnings("rawtypes")
+        private long writeEntry(Object entry, long candidate, Function key) {
+            ByteBuffer bytes = CollectionCodec.DEFAULT.encode(entry);
+            int hash = HashCollectionImpl.index(entry, key);
+            int length = bytes.remaining();
+            if (candidate != NONE && byteAt(candidate) == ENTRY && intAt(candidate + 1) == hash && intAt(candidate + 5) == length && bytesAt(candidate + ENTRY_SIZE, length).equals(bytes)) {
+                return candidate;
+            }
+            long offset = reserve(ENTRY_SIZE + length);
+            out.put(ENTRY).putInt(hash).putInt(length).put(bytes);
+            return offset;
+        }
+
+        private void flush() {
+            out.flip();
+            try {
+                while (out.hasRemaining()) {
+                    start += channel.write(out, start);
+                }
+            } catch (IOException e) {
+                throw new WrappedIOException(e);
+            }
+            out.clear();
+        }
+
+        /**
+         * Makes room for a record at the end of the output, moving it to the next segment if it would cross a boundary.
+         */
+        private long reserve(int length) {
+            if (length > SEGMENT_SIZE) {
+                throw new IllegalArgumentException("record of " + length + " bytes does not fit in a segment of " + SEGMENT_SIZE + " bytes");
+            }
+            if (out.position() >= FLUSH_SIZE) {
+                flush();
+            }
+            long offset = start + out.position();
+            int rest = (int) (offset % SEGMENT_SIZE);
+            int padding = rest + length > SEGMENT_SIZE ? SEGMENT_SIZE - rest : 0;
+            if (out.remaining() < padding + length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + padding + length));
+                out.flip();
+                out = larger.put(out);
+            }
+            out.position(out.position() + padding);
+            return offset + padding;
+        }
+    }
+}
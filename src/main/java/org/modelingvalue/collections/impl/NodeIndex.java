@@ -0,0 +1,98 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Numbers the nodes of a frozen graph 0..size-1, with an open addressing table from node to number. The table depends
+ * on hash codes, so it is not serialized but rebuilt when read.
+ */
+final class NodeIndex<N> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2610794187352108321L;
+
+    private final Object[]    nodes;
+    transient private int[]   slots;
+
+    NodeIndex(Object[] nodes) {
+        this.nodes = nodes;
+        this.slots = slots(nodes);
+    }
+
+    private static int[] slots(Object[] nodes) {
+        int[] slots = new int[Integer.highestOneBit(Math.max(1, nodes.length) * 2 - 1) << 1];
+        int mask = slots.length - 1;
+        for (int i = 0; i < nodes.length; i++) {
+            int s = spread(nodes[i].hashCode()) & mask;
+            while (slots[s] != 0) {
+                s = (s + 1) & mask;
+            }
+            slots[s] = i + 1;
+        }
+        return slots;
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int size() {
+        return nodes.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    N node(int index) {
+        return (N) nodes[index];
+    }
+
+    /**
+     * The number of {@code node}, or -1 if it is not indexed.
+     */
+    int index(Object node) {
+        if (node == null) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        for (int s = spread(node.hashCode()) & mask; slots[s] != 0; s = (s + 1) & mask) {
+            int i = slots[s] - 1;
+            if (node.equals(nodes[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        slots = slots(nodes);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(nodes);
+    }
+}
@@ -0,0 +1,346 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+
+/**
+ * The tree behind {@link IntListImpl}, {@link LongListImpl} and {@link DoubleListImpl}. Leaves are unboxed arrays of at
+ * most {@link #MAX_LENGTH} elements, branches hold at most that many children together with their cumulative sizes.
+ * All leaves are at the same depth and every branch has at least two children, so indexing, concatenation and slicing
+ * take a logarithmic number of steps.
+ */
+final class PrimitiveListTree {
+
+    static final int MAX_LENGTH      = Integer.getInteger("PRIMITIVE_LIST_MAX_LENGTH", 32);
+
+    static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    private PrimitiveListTree() {
+    }
+
+    static final class Branch {
+        final Object[] children;
+        final int[]    ends;
+        final int      depth;
+
+        private Branch(Object[] children, int depth) {
+            this.children = children;
+            this.depth = depth;
+            this.ends = new int[children.length];
+            for (int i = 0, end = 0; i < children.length; i++) {
+                end += size(children[i]);
+                ends[i] = end;
+            }
+        }
+
+        int child(int index) {
+            int lo = 0, hi = ends.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ends[mid] <= index) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        int start(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+    }
+
+    /**
+     * Walks the leaves of a range of a tree. {@link #leaf} holds the elements {@link #base} up to {@link #limit}.
+     */
+    abstract static class Cursor {
+        final Object root;
+        int          index;
+        int          end;
+        Object       leaf;
+        int          base;
+        int          limit;
+
+        Cursor(Object root, int index, int end) {
+            this.root = root;
+            this.index = index;
+            this.end = end;
+        }
+
+        /**
+         * Makes {@link #leaf} hold {@link #index}. False if the range is done.
+         */
+        final boolean advance() {
+            if (index >= end) {
+                return false;
+            } else if (leaf == null || index >= limit) {
+                Object node = root;
+                int i = index;
+                while (node instanceof Branch b) {
+                    int c = b.child(i);
+                    i -= b.start(c);
+                    node = b.children[c];
+                }
+                leaf = node;
+                base = index - i;
+                limit = base + length(node);
+            }
+            return true;
+        }
+
+        /**
+         * Gives the second half of the range to this cursor and returns its start, or -1 if the range is too small.
+         */
+        final int split() {
+            if (end - index < 2 * MAX_LENGTH) {
+                return -1;
+            }
+            int mid = (index + end) >>> 1;
+            index = mid;
+            leaf = null;
+            return mid;
+        }
+
+        public final long estimateSize() {
+            return end - index;
+        }
+
+        public final int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    /**
+     * Sets an element of a copied leaf.
+     */
+    @FunctionalInterface
+    interface Setter {
+        void set(Object leaf, int index);
+    }
+
+    static int size(Object node) {
+        return node == null ? 0 : node instanceof Branch b ? b.ends[b.ends.length - 1] : length(node);
+    }
+
+    private static int depth(Object node) {
+        return node instanceof Branch b ? b.depth : 0;
+    }
+
+    static int length(Object leaf) {
+        return leaf instanceof int[] a ? a.length : leaf instanceof long[] a ? a.length : ((double[]) leaf).length;
+    }
+
+    private static Object leaf(Object like, int length) {
+        return like instanceof int[] ? new int[length] : like instanceof long[] ? new long[length] : new double[length];
+    }
+
+    static int getInt(Object node, int index) {
+        while (node instanceof Branch b) {
+            int c = b.child(index);
+            index -= b.start(c);
+            node = b.children[c];
+        }
+        return ((int[]) node)[index];
+    }
+
+    static long getLong(Object node, int index) {
+        while (node instanceof Branch b) {
+            int c = b.child(index);
+            index -= b.start(c);
+            node = b.children[c];
+        }
+        return ((long[]) node)[index];
+    }
+
+    static double getDouble(Object node, int index) {
+        while (node instanceof Branch b) {
+            int c = b.child(index);
+            index -= b.start(c);
+            node = b.children[c];
+        }
+        return ((double[]) node)[index];
+    }
+
+    /**
+     * Builds a balanced tree of the first {@code length} elements of an int[], long[] or double[].
+     */
+    static Object build(Object array, int length) {
+        if (length == 0) {
+            return null;
+        }
+        int n = (length + MAX_LENGTH - 1) / MAX_LENGTH;
+        Object[] nodes = new Object[n];
+        for (int i = 0; i < n; i++) {
+            int from = (int) ((long) length * i / n), to = (int) ((long) length * (i + 1) / n);
+            nodes[i] = leaf(array, to - from);
+            System.arraycopy(array, from, nodes[i], 0, to - from);
+        }
+        for (int depth = 1; n > 1; depth++) {
+            int m = (n + MAX_LENGTH - 1) / MAX_LENGTH;
+            Object[] up = new Object[m];
+            for (int i = 0; i < m; i++) {
+                up[i] = new Branch(Arrays.copyOfRange(nodes, (int) ((long) n * i / m), (int) ((long) n * (i + 1) / m)), depth);
+            }
+            nodes = up;
+            n = m;
+        }
+        return nodes[0];
+    }
+
+    /**
+     * The elements of {@code node} as one int[], long[] or double[].
+     */
+    static Object toArray(Object node, Object empty) {
+        Object result = leaf(empty, size(node));
+        copy(node, result, 0);
+        return result;
+    }
+
+    private static int copy(Object node, Object array, int pos) {
+        if (node instanceof Branch b) {
+            for (Object child : b.children) {
+                pos = copy(child, array, pos);
+            }
+            return pos;
+        } else if (node != null) {
+            int length = length(node);
+            System.arraycopy(node, 0, array, pos, length);
+            return pos + length;
+        } else {
+            return pos;
+        }
+    }
+
+    static Object concat(Object a, Object b) {
+        return a == null ? b : b == null ? a : join(a, b);
+    }
+
+    /**
+     * The concatenation of two trees, as deep as the deepest of them or one level deeper.
+     */
+    private static Object join(Object a, Object b) {
+        int da = depth(a), db = depth(b);
+        if (da > db) {
+            Branch x = (Branch) a;
+            return withEnd(x, join(x.children[x.children.length - 1], b), false);
+        } else if (da < db) {
+            Branch y = (Branch) b;
+            return withEnd(y, join(a, y.children[0]), true);
+        } else if (da == 0) {
+            int la = length(a), lb = length(b);
+            if (la + lb > MAX_LENGTH) {
+                return new Branch(new Object[]{a, b}, 1);
+            }
+            Object leaf = leaf(a, la + lb);
+            System.arraycopy(a, 0, leaf, 0, la);
+            System.arraycopy(b, 0, leaf, la, lb);
+            return leaf;
+        } else {
+            Object[] ca = ((Branch) a).children, cb = ((Branch) b).children;
+            if (ca.length + cb.length > MAX_LENGTH) {
+                return new Branch(new Object[]{a, b}, da + 1);
+            }
+            Object[] children = Arrays.copyOf(ca, ca.length + cb.length);
+            System.arraycopy(cb, 0, children, ca.length, cb.length);
+            return new Branch(children, da);
+        }
+    }
+
+    /**
+     * {@code x} with its first or last child replaced by {@code child}, which is as deep as that child or one deeper.
+     */
+    private static Object withEnd(Branch x, Object child, boolean front) {
+        Object[] children;
+        if (depth(child) < x.depth) {
+            children = x.children.clone();
+            children[front ? 0 : children.length - 1] = child;
+            return new Branch(children, x.depth);
+        }
+        Object[] cc = ((Branch) child).children;
+        children = new Object[x.children.length - 1 + cc.length];
+        if (front) {
+            System.arraycopy(cc, 0, children, 0, cc.length);
+            System.arraycopy(x.children, 1, children, cc.length, x.children.length - 1);
+        } else {
+            System.arraycopy(x.children, 0, children, 0, x.children.length - 1);
+            System.arraycopy(cc, 0, children, x.children.length - 1, cc.length);
+        }
+        if (children.length <= MAX_LENGTH) {
+            return new Branch(children, x.depth);
+        }
+        int half = children.length / 2;
+        return new Branch(new Object[]{new Branch(Arrays.copyOf(children, half), x.depth), new Branch(Arrays.copyOfRange(children, half, children.length), x.depth)}, x.depth + 1);
+    }
+
+    static Object slice(Object node, int from, int to) {
+        if (from < 0 || to > size(node) || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + " to " + to + " of " + size(node));
+        } else if (from == to) {
+            return null;
+        } else if (from == 0 && to == size(node)) {
+            return node;
+        } else if (node instanceof Branch b) {
+            int cf = b.child(from), ct = b.child(to - 1), sf = b.start(cf), st = b.start(ct);
+            if (cf == ct) {
+                return slice(b.children[cf], from - sf, to - sf);
+            }
+            Object first = slice(b.children[cf], from - sf, b.ends[cf] - sf);
+            Object last = slice(b.children[ct], 0, to - st);
+            Object middle = ct - cf > 2 ? new Branch(Arrays.copyOfRange(b.children, cf + 1, ct), b.depth) : ct - cf == 2 ? b.children[cf + 1] : null;
+            return concat(concat(first, middle), last);
+        } else {
+            Object leaf = leaf(node, to - from);
+            System.arraycopy(node, from, leaf, 0, to - from);
+            return leaf;
+        }
+    }
+
+    /**
+     * A copy of {@code node} with the element at {@code index} changed by {@code setter}.
+     */
+    static Object set(Object node, int index, Setter setter) {
+        if (node instanceof Branch b) {
+            int c = b.child(index);
+            Object[] children = b.children.clone();
+            children[c] = set(children[c], index - b.start(c), setter);
+            return new Branch(children, b.depth);
+        } else {
+            Object leaf = leaf(node, length(node));
+            System.arraycopy(node, 0, leaf, 0, length(node));
+            setter.set(leaf, index);
+            return leaf;
+        }
+    }
+
+    static Object insert(Object node, int index, Object inserted) {
+        if (index < 0 || index > size(node)) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size(node));
+        }
+        return concat(concat(slice(node, 0, index), inserted), slice(node, index, size(node)));
+    }
+
+    static Object remove(Object node, int from, int to) {
+        return concat(slice(node, 0, from), slice(node, to, size(node)));
+    }
+}
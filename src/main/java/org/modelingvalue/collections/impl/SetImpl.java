@@ -29,8 +29,10 @@ import java.util.function.Function;
 
 import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.TransientSet;
 import org.modelingvalue.collections.mutable.MutableSet;
 import org.modelingvalue.collections.util.Deserializer;
+import org.modelingvalue.collections.util.Pair;
 import org.modelingvalue.collections.util.Serializer;
 
 public class SetImpl<T> extends HashCollectionImpl<T> implements Set<T> {
@@ -153,6 +155,22 @@ public class SetImpl<T> extends HashCollectionImpl<T> implements Set<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<Pair<T, T>> diff(Set<T> other) {
+        return new StreamCollectionImpl<>(diffSpliterator((SetImpl<T>) other), false).map(a -> Pair.of((T) a[0], (T) a[1]));
+    }
+
+    @Override
+    public int diffCount(Set<T> other) {
+        return countDiff((SetImpl<T>) other);
+    }
+
+    @Override
+    public Set<T> intern() {
+        return internCollection();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected SetImpl<T> create(Object val) {
@@ -220,4 +238,9 @@ public class SetImpl<T> extends HashCollectionImpl<T> implements Set<T> {
         return MutableSet.concurrent(this);
     }
 
+    @Override
+    public TransientSet<T> transientCopy() {
+        return new TransientSetImpl<>(this);
+    }
+
 }
@@ -0,0 +1,725 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Collection;
+import org.modelingvalue.collections.ContainingCollection;
+import org.modelingvalue.collections.StreamCollection;
+
+/**
+ * The base of {@link SortedSetImpl} and {@link SortedMapImpl}. The elements are kept in the order of their keys in a
+ * persistent B-tree. Leaves hold at most {@link #MAX_LENGTH} elements, branches hold at most that many children
+ * together with their cumulative sizes, and all leaves are at the same depth. Lookup, rank, select, insertion, removal
+ * and slicing by key range therefore take a logarithmic number of steps.
+ */
+public abstract class SortedCollectionImpl<T> extends TreeCollectionImpl<T> {
+
+    private static final long          serialVersionUID = -3021957781460313850L;
+    private static final int           MAX_LENGTH       = Integer.getInteger("SORTED_MULTI_MAX_LENGTH", 32);
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected static final Comparator  NATURAL          = Comparator.naturalOrder();
+
+    protected final Comparator<Object> comparator;
+
+    @SuppressWarnings("unchecked")
+    protected SortedCollectionImpl(Comparator<?> comparator, Object value) {
+        this.comparator = comparator != null ? (Comparator<Object>) comparator : NATURAL;
+        this.value = value;
+    }
+
+    protected abstract Function<T, Object> key();
+
+    private static final class SortedCollectionSpliterator<T> extends CollectionSpliterator<T> {
+
+        private static final int        SORTED_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | CHARACTERISTICS;
+
+        private final Comparator<? super T> comparator;
+
+        private SortedCollectionSpliterator(Object value, int min, int max, int size, boolean reverse, Comparator<? super T> comparator) {
+            super(value, min, max, size, reverse);
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Spliterator<T> split(Object value, int min, int max, int size, boolean reverse) {
+            return new SortedCollectionSpliterator<>(value, min, max, size, reverse, comparator);
+        }
+
+        @Override
+        public int characteristics() {
+            return comparator != null ? SORTED_CHARACTERISTICS : SORTED_CHARACTERISTICS & ~Spliterator.SORTED;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (comparator == null) {
+                throw new IllegalStateException();
+            }
+            return comparator == NATURAL ? null : comparator;
+        }
+    }
+
+    protected static final class SortedMultiValue extends MultiValue {
+
+        private static final long serialVersionUID = 4829307358310766219L;
+
+        private final int[]       ends;
+        private final Object      first;
+
+        private SortedMultiValue(Object[] values, int size, int hash, byte depth, int[] ends, Object first) {
+            super(values, size, hash, depth);
+            this.ends = ends;
+            this.first = first;
+        }
+
+        private static SortedMultiValue leaf(Object[] values) {
+            int hash = 0;
+            for (Object v : values) {
+                hash += v.hashCode();
+            }
+            return new SortedMultiValue(values, values.length, hash, (byte) 2, null, values[0]);
+        }
+
+        private static SortedMultiValue branch(Object[] children) {
+            int[] ends = new int[children.length];
+            int size = 0, hash = 0;
+            for (int i = 0; i < children.length; i++) {
+                SortedMultiValue child = (SortedMultiValue) children[i];
+                size += child.size;
+                hash += child.hash;
+                ends[i] = size;
+            }
+            SortedMultiValue first = (SortedMultiValue) children[0];
+            return new SortedMultiValue(children, size, hash, (byte) (first.depth + 1), ends, first.first);
+        }
+
+        private boolean isLeaf() {
+            return ends == null;
+        }
+
+        private int child(int index) {
+            int lo = 0, hi = ends.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ends[mid] <= index) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private int start(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+
+        /**
+         * The last child whose first key is not greater than {@code k}, or the first child if there is none.
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private int child(Function key, Comparator<Object> comparator, Object k) {
+            int lo = 0, hi = values.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (comparator.compare(key.apply(((SortedMultiValue) values[mid]).first), k) <= 0) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * The index of the element with key {@code k} in this leaf, or {@code -(insertion point) - 1}.
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private int search(Function key, Comparator<Object> comparator, Object k) {
+            int lo = 0, hi = values.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = comparator.compare(key.apply(values[mid]), k);
+                if (c < 0) {
+                    lo = mid + 1;
+                } else if (c > 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -lo - 1;
+        }
+
+        @Override
+        protected boolean equalsWithStop(Object obj, boolean[] stop) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SortedMultiValue other) || size != other.size || hash != other.hash) {
+                return false;
+            }
+            Cursor a = new Cursor(this), b = new Cursor(other);
+            while (a.advance() && b.advance()) {
+                if (stop[0]) {
+                    return false;
+                } else if (a.atLeafStart() && b.atLeafStart() && a.leaf == b.leaf) {
+                    a.skipLeaf();
+                    b.skipLeaf();
+                } else if (!Objects.equals(a.next(), b.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Walks the elements of a tree in key order, one leaf at a time.
+     */
+    private static final class Cursor {
+        private final SortedMultiValue root;
+        private int                    index;
+        private SortedMultiValue       leaf;
+        private int                    base;
+
+        private Cursor(SortedMultiValue root) {
+            this.root = root;
+        }
+
+        private boolean advance() {
+            if (root == null || index >= root.size) {
+                return false;
+            } else if (leaf == null || index >= base + leaf.values.length) {
+                SortedMultiValue node = root;
+                int i = index;
+                while (!node.isLeaf()) {
+                    int c = node.child(i);
+                    i -= node.start(c);
+                    node = (SortedMultiValue) node.values[c];
+                }
+                leaf = node;
+                base = index - i;
+            }
+            return true;
+        }
+
+        private Object peek() {
+            return leaf.values[index - base];
+        }
+
+        private Object next() {
+            return leaf.values[index++ - base];
+        }
+
+        private boolean atLeafStart() {
+            return index == base;
+        }
+
+        private void skipLeaf() {
+            index = base + leaf.values.length;
+        }
+    }
+
+    /**
+     * Merges two trees in key order and reports the elements that differ, skipping the leaves they share.
+     */
+    private static final class CompareSpliterator implements Spliterator<Object[]> {
+        private static final int           COMPARE_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+        @SuppressWarnings("rawtypes")
+        private final Function             key;
+        private final Comparator<Object>   comparator;
+        private final Cursor               a, b;
+
+        @SuppressWarnings("rawtypes")
+        private CompareSpliterator(Object a, Object b, Function key, Comparator<Object> comparator) {
+            this.a = new Cursor(node(a));
+            this.b = new Cursor(node(b));
+            this.key = key;
+            this.comparator = comparator;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super Object[]> action) {
+            while (true) {
+                boolean ha = a.advance(), hb = b.advance();
+                if (!ha && !hb) {
+                    return false;
+                } else if (ha && hb && a.atLeafStart() && b.atLeafStart() && a.leaf == b.leaf) {
+                    a.skipLeaf();
+                    b.skipLeaf();
+                    continue;
+                }
+                int c = !ha ? 1 : !hb ? -1 : comparator.compare(key.apply(a.peek()), key.apply(b.peek()));
+                if (c < 0) {
+                    action.accept(new Object[]{a.next(), null});
+                    return true;
+                } else if (c > 0) {
+                    action.accept(new Object[]{null, b.next()});
+                    return true;
+                }
+                Object ea = a.next(), eb = b.next();
+                if (!Objects.equals(ea, eb)) {
+                    action.accept(new Object[]{ea, eb});
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Object[]> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return size(a.root) + size(b.root);
+        }
+
+        @Override
+        public int characteristics() {
+            return COMPARE_CHARACTERISTICS;
+        }
+    }
+
+    private static SortedMultiValue node(Object value) {
+        return value == null ? null : value instanceof SortedMultiValue ? (SortedMultiValue) value : SortedMultiValue.leaf(new Object[]{value});
+    }
+
+    private static Object value(SortedMultiValue node) {
+        return node != null && node.size == 1 ? node.first : node;
+    }
+
+    /**
+     * The index of the element with key {@code k}, or {@code -(insertion point) - 1}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static int rank(SortedMultiValue node, Function key, Comparator<Object> comparator, Object k) {
+        if (node == null) {
+            return -1;
+        }
+        int pos = 0;
+        while (!node.isLeaf()) {
+            int c = node.child(key, comparator, k);
+            pos += node.start(c);
+            node = (SortedMultiValue) node.values[c];
+        }
+        int i = node.search(key, comparator, k);
+        return i >= 0 ? pos + i : i - pos;
+    }
+
+    /**
+     * A copy of {@code node} with {@code e} added or replacing the element with the same key, or a pair of nodes if
+     * the copy would hold too many elements or children.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Object insert(SortedMultiValue node, Function key, Comparator<Object> comparator, Object k, Object e) {
+        Object[] values;
+        if (node.isLeaf()) {
+            int i = node.search(key, comparator, k);
+            if (i >= 0) {
+                if (Objects.equals(node.values[i], e)) {
+                    return node;
+                }
+                values = node.values.clone();
+                values[i] = e;
+                return SortedMultiValue.leaf(values);
+            }
+            values = insert(node.values, -i - 1, e);
+        } else {
+            int c = node.child(key, comparator, k);
+            SortedMultiValue child = (SortedMultiValue) node.values[c];
+            Object inserted = insert(child, key, comparator, k, e);
+            if (inserted == child) {
+                return node;
+            } else if (inserted instanceof SortedMultiValue) {
+                values = node.values.clone();
+                values[c] = inserted;
+                return SortedMultiValue.branch(values);
+            }
+            SortedMultiValue[] pair = (SortedMultiValue[]) inserted;
+            values = insert(node.values, c + 1, pair[1]);
+            values[c] = pair[0];
+        }
+        if (values.length <= MAX_LENGTH) {
+            return node.isLeaf() ? SortedMultiValue.leaf(values) : SortedMultiValue.branch(values);
+        }
+        int half = values.length / 2;
+        Object[] left = Arrays.copyOf(values, half), right = Arrays.copyOfRange(values, half, values.length);
+        return node.isLeaf() ? new SortedMultiValue[]{SortedMultiValue.leaf(left), SortedMultiValue.leaf(right)} : //
+                new SortedMultiValue[]{SortedMultiValue.branch(left), SortedMultiValue.branch(right)};
+    }
+
+    private static Object[] insert(Object[] values, int i, Object e) {
+        Object[] result = new Object[values.length + 1];
+        System.arraycopy(values, 0, result, 0, i);
+        result[i] = e;
+        System.arraycopy(values, i, result, i + 1, values.length - i);
+        return result;
+    }
+
+    /**
+     * A copy of {@code node} without the element at {@code index}, or null if that would empty a leaf.
+     */
+    private static SortedMultiValue removeAt(SortedMultiValue node, int index) {
+        if (node.isLeaf()) {
+            if (node.values.length == 1) {
+                return null;
+            }
+            Object[] values = new Object[node.values.length - 1];
+            System.arraycopy(node.values, 0, values, 0, index);
+            System.arraycopy(node.values, index + 1, values, index, values.length - index);
+            return SortedMultiValue.leaf(values);
+        }
+        int c = node.child(index);
+        SortedMultiValue removed = removeAt((SortedMultiValue) node.values[c], index - node.start(c));
+        if (removed == null) {
+            return null;
+        }
+        Object[] values = node.values.clone();
+        values[c] = removed;
+        return SortedMultiValue.branch(values);
+    }
+
+    private static SortedMultiValue concat(SortedMultiValue a, SortedMultiValue b) {
+        return a == null ? b : b == null ? a : join(a, b);
+    }
+
+    /**
+     * The concatenation of two trees, as deep as the deepest of them or one level deeper.
+     */
+    private static SortedMultiValue join(SortedMultiValue a, SortedMultiValue b) {
+        if (a.depth > b.depth) {
+            return withEnd(a, join((SortedMultiValue) a.values[a.values.length - 1], b), false);
+        } else if (a.depth < b.depth) {
+            return withEnd(b, join(a, (SortedMultiValue) b.values[0]), true);
+        } else if (a.values.length + b.values.length > MAX_LENGTH) {
+            return SortedMultiValue.branch(new Object[]{a, b});
+        }
+        Object[] values = Arrays.copyOf(a.values, a.values.length + b.values.length);
+        System.arraycopy(b.values, 0, values, a.values.length, b.values.length);
+        return a.isLeaf() ? SortedMultiValue.leaf(values) : SortedMultiValue.branch(values);
+    }
+
+    /**
+     * {@code x} with its first or last child replaced by {@code child}, which is as deep as that child or one deeper.
+     */
+    private static SortedMultiValue withEnd(SortedMultiValue x, SortedMultiValue child, boolean front) {
+        Object[] values;
+        if (child.depth < x.depth) {
+            values = x.values.clone();
+            values[front ? 0 : values.length - 1] = child;
+            return SortedMultiValue.branch(values);
+        }
+        Object[] cc = child.values;
+        values = new Object[x.values.length - 1 + cc.length];
+        if (front) {
+            System.arraycopy(cc, 0, values, 0, cc.length);
+            System.arraycopy(x.values, 1, values, cc.length, x.values.length - 1);
+        } else {
+            System.arraycopy(x.values, 0, values, 0, x.values.length - 1);
+            System.arraycopy(cc, 0, values, x.values.length - 1, cc.length);
+        }
+        if (values.length <= MAX_LENGTH) {
+            return SortedMultiValue.branch(values);
+        }
+        int half = values.length / 2;
+        return SortedMultiValue.branch(new Object[]{SortedMultiValue.branch(Arrays.copyOf(values, half)), SortedMultiValue.branch(Arrays.copyOfRange(values, half, values.length))});
+    }
+
+    private static SortedMultiValue slice(SortedMultiValue node, int from, int to) {
+        if (from >= to) {
+            return null;
+        } else if (from == 0 && to == node.size) {
+            return node;
+        } else if (node.isLeaf()) {
+            return SortedMultiValue.leaf(Arrays.copyOfRange(node.values, from, to));
+        }
+        int cf = node.child(from), ct = node.child(to - 1), sf = node.start(cf), st = node.start(ct);
+        if (cf == ct) {
+            return slice((SortedMultiValue) node.values[cf], from - sf, to - sf);
+        }
+        SortedMultiValue first = slice((SortedMultiValue) node.values[cf], from - sf, node.ends[cf] - sf);
+        SortedMultiValue last = slice((SortedMultiValue) node.values[ct], 0, to - st);
+        SortedMultiValue middle = ct - cf > 2 ? SortedMultiValue.branch(Arrays.copyOfRange(node.values, cf + 1, ct)) : ct - cf == 2 ? (SortedMultiValue) node.values[cf + 1] : null;
+        return concat(concat(first, middle), last);
+    }
+
+    /**
+     * Builds a balanced tree of the first {@code length} elements of {@code es}, which are sorted and distinct by key.
+     */
+    private static SortedMultiValue build(Object[] es, int length) {
+        if (length == 0) {
+            return null;
+        }
+        int n = (length + MAX_LENGTH - 1) / MAX_LENGTH;
+        Object[] nodes = new Object[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = SortedMultiValue.leaf(Arrays.copyOfRange(es, (int) ((long) length * i / n), (int) ((long) length * (i + 1) / n)));
+        }
+        while (n > 1) {
+            int m = (n + MAX_LENGTH - 1) / MAX_LENGTH;
+            Object[] up = new Object[m];
+            for (int i = 0; i < m; i++) {
+                up[i] = SortedMultiValue.branch(Arrays.copyOfRange(nodes, (int) ((long) n * i / m), (int) ((long) n * (i + 1) / m)));
+            }
+            nodes = up;
+            n = m;
+        }
+        return (SortedMultiValue) nodes[0];
+    }
+
+    /**
+     * Sorts the elements by key and keeps the last of the elements with equal keys.
+     */
+    @Override
+    protected Object bulkValue(Object[] es) {
+        Function<T, Object> key = key();
+        @SuppressWarnings("unchecked")
+        Comparator<Object> order = (x, y) -> comparator.compare(key.apply((T) x), key.apply((T) y));
+        es = es.clone();
+        Arrays.sort(es, order);
+        int n = 0;
+        for (Object e : es) {
+            Objects.requireNonNull(e);
+            if (n > 0 && order.compare(es[n - 1], e) == 0) {
+                es[n - 1] = e;
+            } else {
+                es[n++] = e;
+            }
+        }
+        return value(build(es, n));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size());
+        }
+        Object v = value;
+        while (v instanceof SortedMultiValue node) {
+            if (node.isLeaf()) {
+                return (T) node.values[index];
+            }
+            int c = node.child(index);
+            index -= node.start(c);
+            v = node.values[c];
+        }
+        return (T) v;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SortedCollectionSpliterator<>(value, 0, length(value), size(value), false, comparator);
+    }
+
+    @Override
+    public Spliterator<T> reverseSpliterator() {
+        return new SortedCollectionSpliterator<>(value, 0, length(value), size(value), true, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int index(Object e) {
+        if (e == null) {
+            return -1;
+        }
+        int i = rank(node(value), key(), comparator, key().apply((T) e));
+        return i >= 0 && Objects.equals(get(i), e) ? i : -1;
+    }
+
+    /**
+     * The index of the element with key {@code k}, or {@code -(insertion point) - 1}.
+     */
+    protected int rankOfKey(Object k) {
+        return rank(node(value), key(), comparator, k);
+    }
+
+    /**
+     * The number of elements with a key less than {@code k}, or not greater when {@code inclusive}.
+     */
+    protected int countOfKey(Object k, boolean inclusive) {
+        int i = rankOfKey(k);
+        return i >= 0 ? inclusive ? i + 1 : i : -i - 1;
+    }
+
+    protected T getByKey(Object k) {
+        int i = rankOfKey(k);
+        return i >= 0 ? get(i) : null;
+    }
+
+    protected T floorByKey(Object k, boolean inclusive) {
+        int i = countOfKey(k, inclusive);
+        return i > 0 ? get(i - 1) : null;
+    }
+
+    protected T ceilingByKey(Object k, boolean inclusive) {
+        int i = countOfKey(k, !inclusive);
+        return i < size() ? get(i) : null;
+    }
+
+    protected T first() {
+        return isEmpty() ? null : get(0);
+    }
+
+    protected T last() {
+        return isEmpty() ? null : get(size() - 1);
+    }
+
+    protected Object putValue(T e) {
+        Objects.requireNonNull(e);
+        SortedMultiValue node = node(value);
+        if (node == null) {
+            return e;
+        }
+        Object inserted = insert(node, key(), comparator, key().apply(e), e);
+        if (inserted == node) {
+            return value;
+        } else if (inserted instanceof SortedMultiValue[] pair) {
+            return SortedMultiValue.branch(pair);
+        } else {
+            return inserted;
+        }
+    }
+
+    protected Object removeKeyValue(Object k) {
+        int i = rankOfKey(k);
+        if (i < 0) {
+            return value;
+        }
+        SortedMultiValue node = node(value);
+        SortedMultiValue removed = removeAt(node, i);
+        return value(removed != null ? removed : concat(slice(node, 0, i), slice(node, i + 1, node.size)));
+    }
+
+    protected Object sliceValue(int from, int to) {
+        SortedMultiValue node = node(value);
+        return from <= 0 && to >= size() ? value : value(slice(node, Math.max(from, 0), Math.min(to, size())));
+    }
+
+    /**
+     * The elements with keys from {@code from} up to {@code to}, where a null bound means no bound.
+     */
+    protected Object rangeValue(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        if (from != null && to != null && comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException("from " + from + " greater than to " + to);
+        }
+        return sliceValue(from == null ? 0 : countOfKey(from, !fromInclusive), to == null ? size() : countOfKey(to, toInclusive));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Object addAllValue(Collection<? extends T> c) {
+        if (c.isEmpty()) {
+            return value;
+        } else if (c.size() < size() / 4) {
+            SortedCollectionImpl<T> result = this;
+            for (T e : c) {
+                result = (SortedCollectionImpl<T>) result.create(result.putValue(e));
+            }
+            return result.value;
+        }
+        Object[] mine = toArray(), added = c.toArray();
+        Object[] all = Arrays.copyOf(mine, mine.length + added.length);
+        System.arraycopy(added, 0, all, mine.length, added.length);
+        return bulkValue(all);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected StreamCollection<Object[]> getCompareStream(ContainingCollection<? extends T> toCompare) {
+        Object other;
+        if (toCompare.getClass() == getClass() && ((SortedCollectionImpl<T>) toCompare).comparator.equals(comparator)) {
+            other = ((SortedCollectionImpl<T>) toCompare).value;
+        } else {
+            other = bulkValue(toCompare.toArray());
+        }
+        return new StreamCollectionImpl<>(new CompareSpliterator(value, other, key(), comparator), false);
+    }
+
+    /**
+     * Merges the branches into this base. For every key that differs, the element of the only branch that changed it
+     * wins, and {@code conflict} resolves the elements of the base and all branches when several branches changed it
+     * differently.
+     */
+    @SuppressWarnings("unchecked")
+    protected Object mergeValue(ContainingCollection<T>[] branches, int length, BiFunction<Object[], Integer, Object> conflict) {
+        Object[] result = {value};
+        for (int i = 0; i < length; i++) {
+            SortedCollectionImpl<T> branch = (SortedCollectionImpl<T>) branches[i];
+            if (branch.value != value) {
+                new CompareSpliterator(value, branch.value, key(), comparator).forEachRemaining(d -> {
+                    Object k = key().apply((T) (d[0] != null ? d[0] : d[1]));
+                    Object[] es = new Object[length + 1];
+                    es[0] = d[0];
+                    for (int b = 0; b < length; b++) {
+                        es[b + 1] = ((SortedCollectionImpl<T>) branches[b]).getByKey(k);
+                    }
+                    Object r = es[0];
+                    for (int b = 1; b <= length; b++) {
+                        if (!Objects.equals(es[b], es[0]) && !Objects.equals(es[b], r)) {
+                            if (!Objects.equals(es[0], r)) {
+                                r = conflict.apply(es, length + 1);
+                                break;
+                            } else {
+                                r = es[b];
+                            }
+                        }
+                    }
+                    SortedCollectionImpl<T> current = (SortedCollectionImpl<T>) create(result[0]);
+                    result[0] = r != null ? current.putValue((T) r) : current.removeKeyValue(k);
+                });
+            }
+        }
+        return result[0];
+    }
+
+    @Override
+    public ContainingCollection<T> addUnique(T e) {
+        return add(e);
+    }
+
+    @Override
+    public ContainingCollection<T> addAllUnique(Collection<? extends T> e) {
+        return addAll(e);
+    }
+
+    @Override
+    public ContainingCollection<T> replaceFirst(Object pre, T post) {
+        return replace(pre, post);
+    }
+
+    @Override
+    public boolean contains(Object e) {
+        return index(e) >= 0;
+    }
+
+}
@@ -0,0 +1,282 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Collection;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.SortedMap;
+import org.modelingvalue.collections.util.ArrayUtil;
+import org.modelingvalue.collections.util.Deserializer;
+import org.modelingvalue.collections.util.Mergeables;
+import org.modelingvalue.collections.util.Pair;
+import org.modelingvalue.collections.util.Serializer;
+
+public class SortedMapImpl<K, V> extends SortedCollectionImpl<Entry<K, V>> implements SortedMap<K, V> {
+
+    private static final long                    serialVersionUID = 3389741096207785514L;
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final SortedMap                EMPTY            = new SortedMapImpl(null, (Entry[]) null);
+    @SuppressWarnings("rawtypes")
+    private static final Function<Entry, Object> KEY              = Entry::getKey;
+
+    public SortedMapImpl(Comparator<? super K> comparator, Entry<K, V>[] entries) {
+        super(comparator, null);
+        this.value = entries == null || entries.length == 0 ? null : bulkValue(entries);
+    }
+
+    private SortedMapImpl(Object value, Comparator<Object> comparator) {
+        super(comparator, value);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    protected final Function<Entry<K, V>, Object> key() {
+        return (Function) KEY;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected SortedMapImpl<K, V> create(Object val) {
+        return val != value ? (val == null && comparator == NATURAL ? (SortedMapImpl<K, V>) EMPTY : new SortedMapImpl<>(val, comparator)) : this;
+    }
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public int index(Object e) {
+        return e instanceof Entry ? super.index(e) : -1;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return rankOfKey(key) >= 0;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> e = getByKey(key);
+        return e != null ? e.getValue() : null;
+    }
+
+    @Override
+    public Entry<K, V> getEntry(K key) {
+        return getByKey(key);
+    }
+
+    @Override
+    public SortedMap<K, V> put(K key, V value) {
+        return put(Entry.of(key, value));
+    }
+
+    @Override
+    public SortedMap<K, V> put(Entry<K, V> entry) {
+        return create(putValue(entry));
+    }
+
+    @Override
+    public SortedMap<K, V> removeKey(K key) {
+        return create(removeKeyValue(key));
+    }
+
+    @Override
+    public Entry<K, V> firstEntry() {
+        return first();
+    }
+
+    @Override
+    public Entry<K, V> lastEntry() {
+        return last();
+    }
+
+    @Override
+    public Entry<K, V> floorEntry(K key) {
+        return floorByKey(key, true);
+    }
+
+    @Override
+    public Entry<K, V> ceilingEntry(K key) {
+        return ceilingByKey(key, true);
+    }
+
+    @Override
+    public Entry<K, V> lowerEntry(K key) {
+        return floorByKey(key, false);
+    }
+
+    @Override
+    public Entry<K, V> higherEntry(K key) {
+        return ceilingByKey(key, false);
+    }
+
+    @Override
+    public int rank(K key) {
+        return countOfKey(key, false);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        return create(rangeValue(Objects.requireNonNull(from), fromInclusive, Objects.requireNonNull(to), toInclusive));
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K to, boolean inclusive) {
+        return create(rangeValue(null, false, Objects.requireNonNull(to), inclusive));
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K from, boolean inclusive) {
+        return create(rangeValue(Objects.requireNonNull(from), inclusive, null, false));
+    }
+
+    @Override
+    public Collection<K> toKeys() {
+        return map(Entry::getKey);
+    }
+
+    @Override
+    public Collection<V> toValues() {
+        return map(Entry::getValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<Entry<K, Pair<V, V>>> diff(SortedMap<K, V> other) {
+        return getCompareStream(other).map(a -> {
+            Entry<K, V> e0 = (Entry<K, V>) a[0], e1 = (Entry<K, V>) a[1];
+            return Entry.of(e0 != null ? e0.getKey() : e1.getKey(), Pair.of(e0 != null ? e0.getValue() : null, e1 != null ? e1.getValue() : null));
+        });
+    }
+
+    @Override
+    public SortedMap<K, V> add(Entry<K, V> e) {
+        return put(e);
+    }
+
+    @Override
+    public SortedMap<K, V> addAll(Collection<? extends Entry<K, V>> es) {
+        return create(addAllValue(es));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SortedMap<K, V> remove(Object e) {
+        return contains(e) ? removeKey(((Entry<K, V>) e).getKey()) : this;
+    }
+
+    @Override
+    public SortedMap<K, V> removeAll(Collection<?> es) {
+        SortedMap<K, V> result = this;
+        for (Object e : es) {
+            result = result.remove(e);
+        }
+        return result;
+    }
+
+    @Override
+    public SortedMap<K, V> replace(Object pre, Entry<K, V> post) {
+        return contains(pre) ? remove(pre).put(post) : this;
+    }
+
+    @Override
+    public SortedMap<K, V> clear() {
+        return create(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SortedMap<K, V> merge(SortedMap<K, V>[] branches, int length) {
+        return create(mergeValue(branches, length, (es, l) -> {
+            K key = null;
+            for (Object e : es) {
+                if (e != null) {
+                    key = ((Entry<K, V>) e).getKey();
+                    break;
+                }
+            }
+            V v = es[0] != null ? ((Entry<K, V>) es[0]).getValue() : null;
+            V[] vs = null;
+            for (int i = 1; i < l; i++) {
+                if (es[i] != null) {
+                    vs = ArrayUtil.set(vs, i - 1, ((Entry<K, V>) es[i]).getValue(), l - 1);
+                }
+            }
+            V result = Mergeables.merge(v, vs, l - 1);
+            if (result == null) {
+                return null;
+            }
+            for (int i = 0; i < l; i++) {
+                if (es[i] != null && Objects.equals(result, ((Entry<K, V>) es[i]).getValue())) {
+                    return es[i];
+                }
+            }
+            return Entry.of(key, result);
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SortedMap<K, V> getMerger() {
+        return clear();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Class<SortedMap> getMeetClass() {
+        return SortedMap.class;
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        Serializer.wrap(s, this::javaSerialize);
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        Deserializer.wrap(s, this::javaDeserialize);
+    }
+
+    @SuppressWarnings("unused")
+    private void serialize(Serializer s) {
+        s.writeObject(comparator == NATURAL ? null : comparator);
+        s.writeInt(size());
+        for (Entry<K, V> e : this) {
+            s.writeObject(e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "unused", "rawtypes"})
+    private static <K, V> SortedMapImpl<K, V> deserialize(Deserializer s) {
+        Comparator<? super K> comparator = s.readObject();
+        Entry[] entries = s.readArray(new Entry[]{});
+        return entries.length == 0 && comparator == null ? (SortedMapImpl<K, V>) EMPTY : new SortedMapImpl<>(comparator, entries);
+    }
+
+}
@@ -0,0 +1,210 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Collection;
+import org.modelingvalue.collections.SortedSet;
+import org.modelingvalue.collections.util.Deserializer;
+import org.modelingvalue.collections.util.Serializer;
+
+public class SortedSetImpl<T> extends SortedCollectionImpl<T> implements SortedSet<T> {
+
+    private static final long serialVersionUID = -6128406357920738461L;
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final SortedSet EMPTY            = new SortedSetImpl(null, (Object[]) null);
+
+    public SortedSetImpl(Comparator<? super T> comparator, Object[] es) {
+        super(comparator, null);
+        this.value = es == null || es.length == 0 ? null : bulkValue(es);
+    }
+
+    private SortedSetImpl(Object value, Comparator<Object> comparator) {
+        super(comparator, value);
+    }
+
+    @Override
+    protected final Function<T, Object> key() {
+        return identity();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected SortedSetImpl<T> create(Object val) {
+        return val != value ? (val == null && comparator == NATURAL ? (SortedSetImpl<T>) EMPTY : new SortedSetImpl<>(val, comparator)) : this;
+    }
+
+    @Override
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public T first() {
+        return super.first();
+    }
+
+    @Override
+    public T last() {
+        return super.last();
+    }
+
+    @Override
+    public T floor(T e) {
+        return floorByKey(e, true);
+    }
+
+    @Override
+    public T ceiling(T e) {
+        return ceilingByKey(e, true);
+    }
+
+    @Override
+    public T lower(T e) {
+        return floorByKey(e, false);
+    }
+
+    @Override
+    public T higher(T e) {
+        return ceilingByKey(e, false);
+    }
+
+    @Override
+    public int rank(T e) {
+        return countOfKey(e, false);
+    }
+
+    @Override
+    public SortedSet<T> subSet(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        return create(rangeValue(Objects.requireNonNull(from), fromInclusive, Objects.requireNonNull(to), toInclusive));
+    }
+
+    @Override
+    public SortedSet<T> headSet(T to, boolean inclusive) {
+        return create(rangeValue(null, false, Objects.requireNonNull(to), inclusive));
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T from, boolean inclusive) {
+        return create(rangeValue(Objects.requireNonNull(from), inclusive, null, false));
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return c.allMatch(this::contains);
+    }
+
+    @Override
+    public SortedSet<T> add(T e) {
+        return create(putValue(e));
+    }
+
+    @Override
+    public SortedSet<T> addAll(Collection<? extends T> c) {
+        return create(addAllValue(c));
+    }
+
+    @Override
+    public SortedSet<T> remove(Object e) {
+        return contains(e) ? create(removeKeyValue(e)) : this;
+    }
+
+    @Override
+    public SortedSet<T> removeAll(Collection<?> c) {
+        SortedSet<T> result = this;
+        for (Object e : c) {
+            result = result.remove(e);
+        }
+        return result;
+    }
+
+    @Override
+    public SortedSet<T> retainAll(Collection<?> c) {
+        return removeAll(e -> !c.contains(e));
+    }
+
+    @Override
+    public SortedSet<T> replace(Object pre, T post) {
+        return contains(pre) ? remove(pre).add(post) : this;
+    }
+
+    @Override
+    public SortedSet<T> clear() {
+        return create(null);
+    }
+
+    @Override
+    public SortedSet<T> merge(SortedSet<T>[] branches, int length) {
+        return create(mergeValue(branches, length, (es, l) -> {
+            for (int i = 1; i < l; i++) {
+                if (!Objects.equals(es[i], es[0])) {
+                    return es[i];
+                }
+            }
+            return es[0];
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SortedSet<T> getMerger() {
+        return clear();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Class<SortedSet> getMeetClass() {
+        return SortedSet.class;
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+        s.defaultWriteObject();
+        Serializer.wrap(s, this::javaSerialize);
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+        s.defaultReadObject();
+        Deserializer.wrap(s, this::javaDeserialize);
+    }
+
+    @SuppressWarnings("unused")
+    private void serialize(Serializer s) {
+        s.writeObject(comparator == NATURAL ? null : comparator);
+        s.writeInt(size());
+        for (T e : this) {
+            s.writeObject(e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "unused"})
+    private static <T> SortedSetImpl<T> deserialize(Deserializer s) {
+        Comparator<? super T> comparator = s.readObject();
+        T[] elements = (T[]) s.readArray(new Object[]{});
+        return elements.length == 0 && comparator == null ? (SortedSetImpl<T>) EMPTY : new SortedSetImpl<>(comparator, elements);
+    }
+
+}
@@ -0,0 +1,410 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.QualifiedSet;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.SortedMap;
+import org.modelingvalue.collections.Vertex;
+import org.modelingvalue.collections.util.Pair;
+
+/**
+ * The strongly connected components of a graph, each with a rank that is lower than the ranks of the components it
+ * has edges to. A graph derives its components from those of the graph it was edited from: an added edge against the
+ * ranks reorders, or merges, only the components ranked between its ends, and a removed edge or node within a
+ * component only runs Tarjan's algorithm on the nodes of that component.
+ */
+final class StrongComponents<N> {
+
+    private static final long              GAP                   = 1L << 20;
+    private static final int               INCREMENTAL_MIN_LIMIT = Integer.getInteger("SCC_INCREMENTAL_MIN_LIMIT", 64);
+
+    private final Map<N, Long>             ranks;
+    private final Map<N, Set<N>>           components;
+    private final SortedMap<Long, N>       byRank;
+    private final long                     next;
+
+    private StrongComponents(Map<N, Long> ranks, Map<N, Set<N>> components, SortedMap<Long, N> byRank, long next) {
+        this.ranks = ranks;
+        this.components = components;
+        this.byRank = byRank;
+        this.next = next;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <N> StrongComponents<N> of(QualifiedSet<N, Vertex<N>> vertices) {
+        java.util.List<java.util.List<N>> sccs = tarjan(vertices.map(Vertex::node), n -> vertices.get(n).outs().iterator());
+        int k = sccs.size();
+        Entry<N, Long>[] re = new Entry[vertices.size()];
+        Entry<Long, N>[] be = new Entry[k];
+        java.util.List<Entry<N, Set<N>>> ce = new ArrayList<>();
+        int i = 0;
+        for (int c = 0; c < k; c++) {
+            java.util.List<N> scc = sccs.get(c);
+            Long rank = (k - c) * GAP;
+            be[c] = Entry.of(rank, scc.get(0));
+            for (N n : scc) {
+                re[i++] = Entry.of(n, rank);
+            }
+            if (scc.size() > 1 || vertices.get(scc.get(0)).outs().contains(scc.get(0))) {
+                Set<N> s = Set.of(scc);
+                for (N n : scc) {
+                    ce.add(Entry.of(n, s));
+                }
+            }
+        }
+        return new StrongComponents<>(Map.of(re), Map.of(ce.toArray(new Entry[0])), SortedMap.of(be), (k + 1) * GAP);
+    }
+
+    boolean isAcyclic() {
+        return components.isEmpty();
+    }
+
+    Set<N> component(N node) {
+        Set<N> c = components.get(node);
+        return c != null ? c : ranks.containsKey(node) ? Set.of(node) : Set.of();
+    }
+
+    /**
+     * The components of the graph with the vertices {@code post}, edited from the graph of these components with
+     * vertices {@code pre}, or null if the edit changed too many vertices to be worth following.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    StrongComponents<N> next(QualifiedSet<N, Vertex<N>> pre, QualifiedSet<N, Vertex<N>> post) {
+        if (pre.isEmpty()) {
+            return null;
+        }
+        int limit = Math.max(INCREMENTAL_MIN_LIMIT, post.size() >> 3);
+        Spliterator<Object[]> diff = ((HashCollectionImpl) pre).diffSpliterator((HashCollectionImpl) post);
+        Update<N> update = new Update<>(this, post);
+        Object[][] changed = new Object[1][];
+        for (int count = 0; diff.tryAdvance(d -> changed[0] = d); count++) {
+            if (count >= limit) {
+                return null;
+            }
+            Vertex<N> was = (Vertex<N>) changed[0][0], is = (Vertex<N>) changed[0][1];
+            if (is == null) {
+                update.removeNode(was.node());
+            } else if (was == null) {
+                update.addNode(is.node());
+                for (N o : is.outs()) {
+                    update.added.add(Pair.of(is.node(), o));
+                }
+            } else {
+                for (N o : is.outs().removeAll(was.outs())) {
+                    update.added.add(Pair.of(is.node(), o));
+                }
+                for (N o : was.outs().removeAll(is.outs())) {
+                    update.removeEdge(is.node(), o);
+                }
+            }
+        }
+        return update.apply();
+    }
+
+    /**
+     * The strongly connected components of {@code nodes}, components that others have edges to first.
+     */
+    @SuppressWarnings("unchecked")
+    private static <N> java.util.List<java.util.List<N>> tarjan(Iterable<N> nodes, Function<N, Iterator<N>> outs) {
+        java.util.List<java.util.List<N>> sccs = new ArrayList<>();
+        HashMap<N, int[]> info = new HashMap<>();
+        ArrayDeque<N> stack = new ArrayDeque<>();
+        ArrayDeque<Object[]> calls = new ArrayDeque<>();
+        int index = 0;
+        for (N root : nodes) {
+            if (!info.containsKey(root)) {
+                info.put(root, new int[]{index, index, 1});
+                index++;
+                stack.push(root);
+                calls.push(new Object[]{root, outs.apply(root)});
+                while (!calls.isEmpty()) {
+                    Object[] call = calls.peek();
+                    N n = (N) call[0];
+                    Iterator<N> it = (Iterator<N>) call[1];
+                    int[] ni = info.get(n);
+                    if (it.hasNext()) {
+                        N m = it.next();
+                        int[] mi = info.get(m);
+                        if (mi == null) {
+                            info.put(m, new int[]{index, index, 1});
+                            index++;
+                            stack.push(m);
+                            calls.push(new Object[]{m, outs.apply(m)});
+                        } else if (mi[2] == 1) {
+                            ni[1] = Math.min(ni[1], mi[0]);
+                        }
+                    } else {
+                        calls.pop();
+                        if (ni[1] == ni[0]) {
+                            java.util.List<N> scc = new ArrayList<>();
+                            N m;
+                            do {
+                                m = stack.pop();
+                                info.get(m)[2] = 0;
+                                scc.add(m);
+                            } while (m != n);
+                            sccs.add(scc);
+                        }
+                        if (!calls.isEmpty()) {
+                            int[] pi = info.get((N) calls.peek()[0]);
+                            pi[1] = Math.min(pi[1], ni[1]);
+                        }
+                    }
+                }
+            }
+        }
+        return sccs;
+    }
+
+    private static final class Update<N> {
+        private final StrongComponents<N>         base;
+        private final QualifiedSet<N, Vertex<N>>  post;
+        private final HashMap<N, Long>            ranks   = new HashMap<>();
+        private final HashMap<N, Set<N>>          comps   = new HashMap<>();
+        private final HashMap<Long, N>            reps    = new HashMap<>();
+        private final java.util.Set<Set<N>>       dirty   = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final HashSet<N>                  removed = new HashSet<>();
+        private final java.util.List<Pair<N, N>>  added   = new ArrayList<>();
+        private final HashSet<Pair<N, N>>         pending = new HashSet<>();
+        private final ArrayDeque<N>               stack   = new ArrayDeque<>();
+        private long                              next;
+
+        private Update(StrongComponents<N> base, QualifiedSet<N, Vertex<N>> post) {
+            this.base = base;
+            this.post = post;
+            this.next = base.next;
+        }
+
+        private long rank(N n) {
+            Long r = ranks.get(n);
+            return r != null ? r : base.ranks.get(n);
+        }
+
+        private Set<N> comp(N n) {
+            return comps.containsKey(n) ? comps.get(n) : base.components.get(n);
+        }
+
+        private void addNode(N n) {
+            ranks.put(n, next);
+            reps.put(next, n);
+            next += GAP;
+        }
+
+        private void removeNode(N n) {
+            removed.add(n);
+            Set<N> c = comp(n);
+            if (c != null) {
+                dirty.add(c);
+            }
+        }
+
+        private void removeEdge(N from, N to) {
+            Set<N> c = comp(from);
+            if (c != null && (from.equals(to) ? c.size() == 1 : c == comp(to))) {
+                dirty.add(c);
+            }
+        }
+
+        private StrongComponents<N> apply() {
+            pending.addAll(added);
+            for (Set<N> c : dirty) {
+                if (!split(c)) {
+                    return null;
+                }
+            }
+            for (N n : removed) {
+                if (base.components.get(n) == null) {
+                    reps.put(base.ranks.get(n), null);
+                }
+            }
+            for (Pair<N, N> edge : added) {
+                pending.remove(edge);
+                insert(edge.a(), edge.b());
+            }
+            Map<N, Long> rs = base.ranks;
+            for (N n : removed) {
+                rs = rs.removeKey(n);
+            }
+            for (java.util.Map.Entry<N, Long> e : ranks.entrySet()) {
+                rs = rs.put(e.getKey(), e.getValue());
+            }
+            Map<N, Set<N>> cs = base.components;
+            for (java.util.Map.Entry<N, Set<N>> e : comps.entrySet()) {
+                cs = e.getValue() == null ? cs.removeKey(e.getKey()) : cs.put(e.getKey(), e.getValue());
+            }
+            SortedMap<Long, N> br = base.byRank;
+            for (java.util.Map.Entry<Long, N> e : reps.entrySet()) {
+                br = e.getValue() == null ? br.removeKey(e.getKey()) : br.put(e.getKey(), e.getValue());
+            }
+            return new StrongComponents<>(rs, cs, br, next);
+        }
+
+        /**
+         * Replaces component {@code c}, that lost nodes or edges, by the components of what remains of it, ranked in
+         * the room between its rank and the next. Returns false if there is not enough room.
+         */
+        private boolean split(Set<N> c) {
+            long r = base.ranks.get(c.get(0));
+            Entry<Long, N> higher = base.byRank.higherEntry(r);
+            long hi = higher != null ? higher.getKey() : base.next;
+            reps.put(r, null);
+            java.util.List<N> nodes = new ArrayList<>();
+            for (N n : c) {
+                comps.put(n, null);
+                if (!removed.contains(n)) {
+                    nodes.add(n);
+                }
+            }
+            java.util.List<java.util.List<N>> sccs = tarjan(nodes, n -> post.get(n).outs().filter(m -> c.contains(m) && !pending.contains(Pair.of(n, m))).iterator());
+            int k = sccs.size();
+            long step = k > 0 ? (hi - r) / k : 0;
+            if (k > 0 && step == 0) {
+                return false;
+            }
+            for (int i = 0; i < k; i++) {
+                java.util.List<N> scc = sccs.get(k - 1 - i);
+                rank(scc, r + i * step);
+                N first = scc.get(0);
+                if (scc.size() > 1 || (post.get(first).outs().contains(first) && !pending.contains(Pair.of(first, first)))) {
+                    Set<N> s = Set.of(scc);
+                    for (N n : scc) {
+                        comps.put(n, s);
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Adds edge {@code from -> to}, searching only the edges added before it. If it goes against the ranks, the
+         * components that reach {@code from} are ranked before the ones reachable from {@code to}, and the components
+         * on a cycle through the new edge become one.
+         */
+        private void insert(N from, N to) {
+            if (from.equals(to)) {
+                if (comp(from) == null) {
+                    comps.put(from, Set.of(from));
+                }
+                return;
+            }
+            long ub = rank(from), lb = rank(to);
+            if (ub <= lb) {
+                return;
+            }
+            HashSet<N> forward = search(to, ub, true);
+            HashSet<N> backward = search(from, lb, false);
+            TreeMap<Long, java.util.List<N>> fcs = byRank(forward);
+            TreeMap<Long, java.util.List<N>> bcs = byRank(backward);
+            TreeSet<Long> ranked = new TreeSet<>(fcs.keySet());
+            ranked.addAll(bcs.keySet());
+            java.util.List<Long> pool = new ArrayList<>(ranked);
+            java.util.List<java.util.List<N>> before = new ArrayList<>(), after = new ArrayList<>();
+            java.util.List<N> merged = new ArrayList<>();
+            if (forward.contains(from)) {
+                for (N n : forward) {
+                    if (backward.contains(n)) {
+                        merged.add(n);
+                    }
+                }
+                Set<N> s = Set.of(merged);
+                for (N n : merged) {
+                    comps.put(n, s);
+                }
+            }
+            for (java.util.List<N> scc : bcs.values()) {
+                if (!forward.contains(scc.get(0))) {
+                    before.add(scc);
+                }
+            }
+            for (java.util.List<N> scc : fcs.values()) {
+                if (!backward.contains(scc.get(0))) {
+                    after.add(scc);
+                }
+            }
+            for (Long p : pool) {
+                reps.put(p, null);
+            }
+            // components before only move down and components after only move up, so edges from outside stay ordered
+            for (int i = 0; i < before.size(); i++) {
+                rank(before.get(i), pool.get(i));
+            }
+            if (!merged.isEmpty()) {
+                rank(merged, pool.get(before.size()));
+            }
+            for (int i = 0, o = pool.size() - after.size(); i < after.size(); i++) {
+                rank(after.get(i), pool.get(o + i));
+            }
+        }
+
+        private void rank(java.util.List<N> scc, Long rank) {
+            reps.put(rank, scc.get(0));
+            for (N n : scc) {
+                ranks.put(n, rank);
+            }
+        }
+
+        private TreeMap<Long, java.util.List<N>> byRank(HashSet<N> nodes) {
+            TreeMap<Long, java.util.List<N>> map = new TreeMap<>();
+            for (N n : nodes) {
+                map.computeIfAbsent(rank(n), r -> new ArrayList<>()).add(n);
+            }
+            return map;
+        }
+
+        /**
+         * The nodes reachable from {@code start} with a rank up to (forward) or down to (backward) {@code bound}.
+         */
+        private HashSet<N> search(N start, long bound, boolean forward) {
+            HashSet<N> found = new HashSet<>();
+            found.add(start);
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                N n = stack.pop();
+                Vertex<N> v = post.get(n);
+                for (N m : forward ? v.outs() : v.ins()) {
+                    if (!found.contains(m) && !pending.contains(forward ? Pair.of(n, m) : Pair.of(m, n))) {
+                        long r = rank(m);
+                        if (forward ? r <= bound : r >= bound) {
+                            found.add(m);
+                            stack.push(m);
+                        }
+                    }
+                }
+            }
+            return found;
+        }
+    }
+
+}
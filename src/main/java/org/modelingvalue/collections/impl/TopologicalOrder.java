@@ -0,0 +1,248 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Spliterator;
+
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.QualifiedSet;
+import org.modelingvalue.collections.SortedMap;
+import org.modelingvalue.collections.Vertex;
+import org.modelingvalue.collections.util.Pair;
+
+/**
+ * The topological order of the nodes of a graph, kept as a rank per node. A graph derives its order from the order of
+ * the graph it was edited from, reordering only the nodes between the ends of each added edge that goes backwards
+ * (Pearce and Kelly, "A dynamic topological sort algorithm for directed acyclic graphs").
+ */
+final class TopologicalOrder<N> {
+
+    private static final int    INCREMENTAL_MIN_LIMIT = Integer.getInteger("TOPOLOGICAL_INCREMENTAL_MIN_LIMIT", 64);
+
+    private final Map<N, Integer>       ranks;
+    private final SortedMap<Integer, N> nodes;
+    private final int                   next;
+    private final boolean               acyclic;
+    private volatile List<N>            list;
+    private volatile List<N>            invList;
+
+    private TopologicalOrder(Map<N, Integer> ranks, SortedMap<Integer, N> nodes, int next, boolean acyclic, List<N> list) {
+        this.ranks = ranks;
+        this.nodes = nodes;
+        this.next = next;
+        this.acyclic = acyclic;
+        this.list = list;
+    }
+
+    /**
+     * The order of the given topologically sorted nodes. Whether the graph is acyclic is checked if it is not known.
+     */
+    @SuppressWarnings("unchecked")
+    static <N> TopologicalOrder<N> of(QualifiedSet<N, Vertex<N>> vertices, List<N> sorted, boolean knownAcyclic) {
+        int size = sorted.size();
+        Entry<N, Integer>[] re = new Entry[size];
+        Entry<Integer, N>[] ne = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            N n = sorted.get(i);
+            re[i] = Entry.of(n, i);
+            ne[i] = Entry.of(i, n);
+        }
+        Map<N, Integer> ranks = Map.of(re);
+        boolean acyclic = knownAcyclic || vertices.allMatch(v -> {
+            int r = ranks.get(v.node());
+            return v.outs().allMatch(o -> ranks.get(o) > r);
+        });
+        return new TopologicalOrder<>(ranks, SortedMap.of(ne), size, acyclic, sorted);
+    }
+
+    boolean isAcyclic() {
+        return acyclic;
+    }
+
+    List<N> list() {
+        List<N> l = list;
+        if (l == null) {
+            list = l = nodes.toValues().asList();
+        }
+        return l;
+    }
+
+    List<N> invList() {
+        List<N> l = invList;
+        if (l == null) {
+            invList = l = list().reverse().asList();
+        }
+        return l;
+    }
+
+    int index(N node) {
+        Integer r = ranks.get(node);
+        return r != null ? nodes.rank(r) : -1;
+    }
+
+    /**
+     * The order of the graph with the vertices {@code post}, edited from the graph of this order with vertices
+     * {@code pre}, or null if the edit added a cycle or changed too many vertices to be worth following.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TopologicalOrder<N> next(QualifiedSet<N, Vertex<N>> pre, QualifiedSet<N, Vertex<N>> post) {
+        if (!acyclic || pre.isEmpty()) {
+            return null;
+        }
+        int limit = Math.max(INCREMENTAL_MIN_LIMIT, post.size() >> 3);
+        Spliterator<Object[]> diff = ((HashCollectionImpl) pre).diffSpliterator((HashCollectionImpl) post);
+        Map<N, Integer> rs = ranks;
+        SortedMap<Integer, N> ns = nodes;
+        int nx = next;
+        java.util.List<Pair<N, N>> added = new ArrayList<>();
+        Object[][] changed = new Object[1][];
+        for (int count = 0; diff.tryAdvance(d -> changed[0] = d); count++) {
+            if (count >= limit) {
+                return null;
+            }
+            Vertex<N> was = (Vertex<N>) changed[0][0], is = (Vertex<N>) changed[0][1];
+            if (is == null) {
+                N n = was.node();
+                ns = ns.removeKey(rs.get(n));
+                rs = rs.removeKey(n);
+            } else {
+                N n = is.node();
+                if (was == null) {
+                    rs = rs.put(n, nx);
+                    ns = ns.put(nx, n);
+                    nx++;
+                }
+                for (N o : was == null ? is.outs() : is.outs().removeAll(was.outs())) {
+                    added.add(Pair.of(n, o));
+                }
+            }
+        }
+        if (!added.isEmpty()) {
+            Reorder<N> reorder = new Reorder<>(post, rs, added);
+            for (Pair<N, N> edge : added) {
+                if (!reorder.add(edge.a(), edge.b())) {
+                    return null;
+                }
+            }
+            for (N n : reorder.moved.keySet()) {
+                ns = ns.removeKey(rs.get(n));
+            }
+            for (java.util.Map.Entry<N, Integer> e : reorder.moved.entrySet()) {
+                rs = rs.put(e.getKey(), e.getValue());
+                ns = ns.put(e.getValue(), e.getKey());
+            }
+        }
+        return rs == ranks ? this : new TopologicalOrder<>(rs, ns, nx, true, null);
+    }
+
+    private static final class Reorder<N> {
+        private final QualifiedSet<N, Vertex<N>> vertices;
+        private final Map<N, Integer>            ranks;
+        private final HashMap<N, Integer>        moved   = new HashMap<>();
+        private final HashSet<Pair<N, N>>        pending;
+        private final ArrayDeque<N>              stack   = new ArrayDeque<>();
+
+        private Reorder(QualifiedSet<N, Vertex<N>> vertices, Map<N, Integer> ranks, java.util.List<Pair<N, N>> added) {
+            this.vertices = vertices;
+            this.ranks = ranks;
+            this.pending = new HashSet<>(added);
+        }
+
+        private int rank(N n) {
+            Integer r = moved.get(n);
+            return r != null ? r : ranks.get(n);
+        }
+
+        /**
+         * Adds edge {@code from -> to} to the order, searching only the edges added before it. Returns false if it
+         * closes a cycle.
+         */
+        private boolean add(N from, N to) {
+            pending.remove(Pair.of(from, to));
+            int ub = rank(from), lb = rank(to);
+            if (lb > ub) {
+                return true;
+            }
+            java.util.List<N> forward = search(to, ub, from, true);
+            if (forward == null) {
+                return false;
+            }
+            java.util.List<N> backward = search(from, lb, null, false);
+            Comparator<N> byRank = Comparator.comparingInt(this::rank);
+            forward.sort(byRank);
+            backward.sort(byRank);
+            int[] pool = new int[forward.size() + backward.size()];
+            int i = 0;
+            for (N n : backward) {
+                pool[i++] = rank(n);
+            }
+            for (N n : forward) {
+                pool[i++] = rank(n);
+            }
+            Arrays.sort(pool);
+            i = 0;
+            for (N n : backward) {
+                moved.put(n, pool[i++]);
+            }
+            for (N n : forward) {
+                moved.put(n, pool[i++]);
+            }
+            return true;
+        }
+
+        /**
+         * The nodes reachable from {@code start} with a rank up to (forward) or down to (backward) {@code bound}, or
+         * null if {@code stop} is among them.
+         */
+        private java.util.List<N> search(N start, int bound, N stop, boolean forward) {
+            java.util.List<N> found = new ArrayList<>();
+            HashSet<N> seen = new HashSet<>();
+            seen.add(start);
+            stack.push(start);
+            while (!stack.isEmpty()) {
+                N n = stack.pop();
+                found.add(n);
+                Vertex<N> v = vertices.get(n);
+                for (N m : forward ? v.outs() : v.ins()) {
+                    if (!pending.contains(forward ? Pair.of(n, m) : Pair.of(m, n))) {
+                        if (m.equals(stop)) {
+                            stack.clear();
+                            return null;
+                        }
+                        int r = rank(m);
+                        if ((forward ? r < bound : r > bound) && seen.add(m)) {
+                            stack.push(m);
+                        }
+                    }
+                }
+            }
+            return found;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.modelingvalue.collections.Dag;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.ContextPool;
+import org.modelingvalue.collections.util.ContextThread;
+
+/**
+ * Runs an action for every node of a dag in a {@link ContextPool}, each node as soon as all its predecessors are done.
+ * Ready nodes are forked into the pool, so idle workers steal them, but never more than {@link #WINDOW} at a time; the
+ * rest waits in a backlog that is drained again after every finished node and after every node added to it.
+ */
+final class TopologicalScheduler<N, A> {
+
+    static final int                                  WINDOW   = Integer.getInteger("TOPOLOGICAL_WINDOW", 4 * ContextThread.POOL_SIZE);
+
+    private static final Object                       NULL     = new Object();
+
+    private final Dag<N>                              dag;
+    private final ContextPool                         pool;
+    private final BiFunction<N, Map<N, A>, A>         action;
+    private final Object[]                            context  = ContextThread.getContext();
+    private final ConcurrentHashMap<N, Object>        results  = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<N, AtomicInteger> waiting  = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<N>            backlog  = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger                       inFlight = new AtomicInteger();
+    private final AtomicInteger                       todo;
+    private final CompletableFuture<Void>             done     = new CompletableFuture<>();
+
+    TopologicalScheduler(Dag<N> dag, ContextPool pool, BiFunction<N, Map<N, A>, A> action) {
+        this.dag = dag;
+        this.pool = pool;
+        this.action = action;
+        this.todo = new AtomicInteger(dag.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<N, A> run() {
+        if (dag.isEmpty()) {
+            return Map.of();
+        }
+        for (N node : dag.begin()) {
+            ready(node);
+        }
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        Entry<N, A>[] entries = new Entry[results.size()];
+        int i = 0;
+        for (java.util.Map.Entry<N, Object> e : results.entrySet()) {
+            entries[i++] = Entry.of(e.getKey(), value(e.getValue()));
+        }
+        return Map.of(entries);
+    }
+
+    private void ready(N node) {
+        if (inFlight.incrementAndGet() <= WINDOW) {
+            pool.execute(() -> execute(node));
+        } else {
+            inFlight.decrementAndGet();
+            backlog.add(node);
+            drain();
+        }
+    }
+
+    private void drain() {
+        while (inFlight.get() < WINDOW && !backlog.isEmpty()) {
+            if (inFlight.incrementAndGet() <= WINDOW) {
+                N next = backlog.poll();
+                if (next != null) {
+                    pool.execute(() -> execute(next));
+                    continue;
+                }
+            }
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void execute(N node) {
+        Object[] old = ContextThread.setIncrement(context);
+        try {
+            if (!done.isDone()) {
+                Set<N> ins = dag.ins(node);
+                Entry<N, A>[] preds = new Entry[ins.size()];
+                int i = 0;
+                for (N in : ins) {
+                    preds[i++] = Entry.of(in, value(results.get(in)));
+                }
+                A result = action.apply(node, Map.of(preds));
+                results.put(node, result != null ? result : NULL);
+                for (N out : dag.outs(node)) {
+                    if (waiting.computeIfAbsent(out, o -> new AtomicInteger(dag.ins(o).size())).decrementAndGet() == 0) {
+                        ready(out);
+                    }
+                }
+                if (todo.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            }
+        } catch (Throwable t) {
+            done.completeExceptionally(t);
+        } finally {
+            ContextThread.setDecrement(old);
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A value(Object result) {
+        return result == NULL ? null : (A) result;
+    }
+
+}
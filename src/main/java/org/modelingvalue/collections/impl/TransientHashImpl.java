@@ -0,0 +1,102 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects the pending changes of a transient hash collection, at most one per key, until they are merged in bulk.
+ * Reads are answered from the pending changes and the collection merged so far, so reading never forces a merge.
+ */
+abstract class TransientHashImpl {
+
+    static final Object REMOVED = new Object() {
+        @Override
+        public String toString() {
+            return "REMOVED";
+        }
+    };
+
+    private final HashMap<Object, Object> pending = new HashMap<>();
+    private int                           delta;
+    private boolean                       counted;
+
+    /**
+     * Makes {@code change} (an element or {@link #REMOVED}) the pending change of {@code key}.
+     */
+    protected void change(Object key, Object change) {
+        if (pending.size() >= TransientImpl.MAX_BUFFER_SIZE && !pending.containsKey(key)) {
+            flush();
+        }
+        Object pre = pending.put(key, change);
+        if (counted) {
+            delta += (change != REMOVED ? 1 : 0) - (pre != null ? pre != REMOVED ? 1 : 0 : merged(key) ? 1 : 0);
+        }
+    }
+
+    /**
+     * The pending change of {@code key}: an element, {@link #REMOVED}, or {@code null} if the key is unchanged.
+     */
+    protected Object pending(Object key) {
+        return pending.get(key);
+    }
+
+    /**
+     * The size after the pending changes, given the size of the collection merged so far. The difference is counted on
+     * the first call and then kept up to date with every change, until the next merge.
+     */
+    protected int size(int merged) {
+        if (!counted) {
+            delta = 0;
+            for (Map.Entry<Object, Object> e : pending.entrySet()) {
+                delta += (e.getValue() != REMOVED ? 1 : 0) - (merged(e.getKey()) ? 1 : 0);
+            }
+            counted = true;
+        }
+        return merged + delta;
+    }
+
+    protected void flush() {
+        if (!pending.isEmpty()) {
+            Object[] puts = new Object[pending.size()];
+            Object[] removes = new Object[pending.size()];
+            int p = 0, r = 0;
+            for (Map.Entry<Object, Object> e : pending.entrySet()) {
+                if (e.getValue() == REMOVED) {
+                    removes[r++] = e.getKey();
+                } else {
+                    puts[p++] = e.getValue();
+                }
+            }
+            pending.clear();
+            counted = false;
+            merge(puts, p, removes, r);
+        }
+    }
+
+    /**
+     * Whether {@code key} is in the collection merged so far.
+     */
+    protected abstract boolean merged(Object key);
+
+    protected abstract void merge(Object[] puts, int nrOfPuts, Object[] removes, int nrOfRemoves);
+}
@@ -0,0 +1,55 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import java.util.Arrays;
+
+/**
+ * Collects the elements appended to a transient list until they are merged in bulk, at most
+ * {@link #MAX_BUFFER_SIZE} at a time.
+ */
+abstract class TransientImpl {
+
+    private static final int MIN_BUFFER_SIZE = Integer.getInteger("TRANSIENT_MIN_BUFFER_SIZE", 32);
+    static final int         MAX_BUFFER_SIZE = Integer.getInteger("TRANSIENT_MAX_BUFFER_SIZE", 4096);
+
+    protected Object[]       buffer          = new Object[0];
+    protected int            buffered;
+
+    protected void buffer(Object e) {
+        if (buffered == MAX_BUFFER_SIZE) {
+            flush();
+        }
+        if (buffered == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(MIN_BUFFER_SIZE, buffered * 2));
+        }
+        buffer[buffered++] = e;
+    }
+
+    protected void flush() {
+        if (buffered > 0) {
+            merge();
+            Arrays.fill(buffer, 0, buffered, null);
+            buffered = 0;
+        }
+    }
+
+    protected abstract void merge();
+}
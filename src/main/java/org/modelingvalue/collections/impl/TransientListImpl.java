@@ -0,0 +1,79 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.TransientList;
+
+public final class TransientListImpl<T> extends TransientImpl implements TransientList<T> {
+
+    private ListImpl<T> list;
+
+    public TransientListImpl(ListImpl<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public TransientList<T> append(T e) {
+        if (e != null) {
+            buffer(e);
+        }
+        return this;
+    }
+
+    @Override
+    public TransientList<T> appendAll(Iterable<? extends T> es) {
+        for (T e : es) {
+            append(e);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        int size = list.size();
+        if (index >= size && index < size + buffered) {
+            return (T) buffer[index - size];
+        }
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size() + buffered;
+    }
+
+    @Override
+    public List<T> persistent() {
+        flush();
+        return list;
+    }
+
+    @Override
+    protected void merge() {
+        list = list.appendAll(buffer, buffered);
+    }
+
+    @Override
+    public String toString() {
+        return "Transient" + persistent();
+    }
+}
@@ -0,0 +1,106 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.TransientMap;
+
+public final class TransientMapImpl<K, V> extends TransientHashImpl implements TransientMap<K, V> {
+
+    private MapImpl<K, V> map;
+
+    public TransientMapImpl(MapImpl<K, V> map) {
+        this.map = map;
+    }
+
+    @Override
+    public TransientMap<K, V> put(K key, V value) {
+        change(key, Entry.of(key, value));
+        return this;
+    }
+
+    @Override
+    public TransientMap<K, V> put(Entry<K, V> entry) {
+        change(entry.getKey(), entry);
+        return this;
+    }
+
+    @Override
+    public TransientMap<K, V> putAll(Iterable<? extends Entry<K, V>> entries) {
+        for (Entry<K, V> e : entries) {
+            change(e.getKey(), e);
+        }
+        return this;
+    }
+
+    @Override
+    public TransientMap<K, V> removeKey(K key) {
+        change(key, REMOVED);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(K key) {
+        Object pending = pending(key);
+        return pending == null ? map.get(key) : pending == REMOVED ? null : ((Entry<K, V>) pending).getValue();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Object pending = pending(key);
+        return pending == null ? map.containsKey(key) : pending != REMOVED;
+    }
+
+    @Override
+    public int size() {
+        return size(map.size());
+    }
+
+    @Override
+    public Map<K, V> persistent() {
+        flush();
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected boolean merged(Object key) {
+        return map.containsKey((K) key);
+    }
+
+    @Override
+    protected void merge(Object[] puts, int nrOfPuts, Object[] removes, int nrOfRemoves) {
+        if (nrOfRemoves > 0) {
+            Object built = HashCollectionImpl.build(removes, nrOfRemoves, CollectionImpl.identity(), false);
+            map = map.create(HashCollectionImpl.remove(map.value, map.key(), built, CollectionImpl.identity()));
+        }
+        if (nrOfPuts > 0) {
+            Object built = HashCollectionImpl.build(puts, nrOfPuts, map.key(), true);
+            map = map.create(HashCollectionImpl.put(map.value, map.key(), built, map.key()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Transient" + persistent();
+    }
+}
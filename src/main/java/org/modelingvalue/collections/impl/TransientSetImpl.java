@@ -0,0 +1,99 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.impl;
+
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.TransientSet;
+
+public final class TransientSetImpl<T> extends TransientHashImpl implements TransientSet<T> {
+
+    private SetImpl<T> set;
+
+    public TransientSetImpl(SetImpl<T> set) {
+        this.set = set;
+    }
+
+    @Override
+    public TransientSet<T> add(T e) {
+        change(e, e);
+        return this;
+    }
+
+    @Override
+    public TransientSet<T> addAll(Iterable<? extends T> es) {
+        for (T e : es) {
+            change(e, e);
+        }
+        return this;
+    }
+
+    @Override
+    public TransientSet<T> remove(Object e) {
+        change(e, REMOVED);
+        return this;
+    }
+
+    @Override
+    public TransientSet<T> removeAll(Iterable<?> es) {
+        for (Object e : es) {
+            change(e, REMOVED);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean contains(Object e) {
+        Object pending = pending(e);
+        return pending == null ? set.contains(e) : pending != REMOVED;
+    }
+
+    @Override
+    public int size() {
+        return size(set.size());
+    }
+
+    @Override
+    public Set<T> persistent() {
+        flush();
+        return set;
+    }
+
+    @Override
+    protected boolean merged(Object key) {
+        return set.contains(key);
+    }
+
+    @Override
+    protected void merge(Object[] puts, int nrOfPuts, Object[] removes, int nrOfRemoves) {
+        if (nrOfRemoves > 0) {
+            Object built = HashCollectionImpl.build(removes, nrOfRemoves, set.key(), false);
+            set = set.create(HashCollectionImpl.remove(set.value, set.key(), built, set.key()));
+        }
+        if (nrOfPuts > 0) {
+            Object built = HashCollectionImpl.build(puts, nrOfPuts, set.key(), false);
+            set = set.create(HashCollectionImpl.add(set.value, set.key(), built, set.key()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Transient" + persistent();
+    }
+}
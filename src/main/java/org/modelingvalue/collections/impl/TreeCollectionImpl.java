@@ -175,6 +175,13 @@ public abstract class TreeCollectionImpl<T> extends CollectionImpl<T> implements
         return new CollectionIterator<>(value, length(value));
     }
 
+    /**
+     * Whether a walk over {@code total} elements should be a plain loop rather than a (parallel) stream.
+     */
+    protected static boolean sequential(int total) {
+        return total <= MAX_NO_STREAM_SIZE || !runParallel();
+    }
+
     protected static IntStream getIntStream(int min, int max, boolean[] stop, int total) {
         return StreamSupport.intStream(new IntSpliterator(min, max, stop, total), CollectionImpl.runParallel());
     }
@@ -640,22 +647,28 @@ public abstract class TreeCollectionImpl<T> extends CollectionImpl<T> implements
 
     @Override
     public void javaSerialize(Serializer s) {
-        s.writeInt(size());
-        for (Object e : this) {
-            s.writeObject(e);
-        }
+        CollectionCodec.DEFAULT.writeElements(s, this, size());
     }
 
     @Override
     public void javaDeserialize(Deserializer s) {
         int size = s.readInt();
-        for (int i = 0; i < size; i++) {
-            T e = s.readObject();
-            TreeCollectionImpl<T> newSet = (TreeCollectionImpl<T>) add(e);
-            this.value = newSet.value;
+        if (size == CollectionCodec.COMPACT) {
+            this.value = bulkValue(CollectionCodec.DEFAULT.readElements(s));
+        } else {
+            for (int i = 0; i < size; i++) {
+                T e = s.readObject();
+                TreeCollectionImpl<T> newSet = (TreeCollectionImpl<T>) add(e);
+                this.value = newSet.value;
+            }
         }
     }
 
+    /**
+     * Returns the value holding the given elements, built in bulk.
+     */
+    protected abstract Object bulkValue(Object[] es);
+
     @Override
     public Collection<T> filter(Predicate<? super T> predicate) {
         if (size() > MAX_NO_STREAM_SIZE && isParallel()) {
@@ -675,10 +688,8 @@ public abstract class TreeCollectionImpl<T> extends CollectionImpl<T> implements
     public void forEach(Consumer<? super T> action) {
         if (size() > MAX_NO_STREAM_SIZE && isParallel()) {
             super.forEach(action);
-        } else {
-            for (T t : this) {
-                action.accept(t);
-            }
+        } else if (value != null) {
+            visit(value, action);
         }
     }
 
@@ -686,10 +697,8 @@ public abstract class TreeCollectionImpl<T> extends CollectionImpl<T> implements
     public void forEachOrdered(Consumer<? super T> action) {
         if (size() > MAX_NO_STREAM_SIZE && isParallel()) {
             super.forEachOrdered(action);
-        } else {
-            for (T t : this) {
-                action.accept(t);
-            }
+        } else if (value != null) {
+            visit(value, action);
         }
     }
 
@@ -25,6 +25,8 @@ import org.modelingvalue.collections.Collection;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -43,8 +45,48 @@ public class Concurrent<T> {
         return new Concurrent<>();
     }
 
-    private T   pre;
-    private T[] states;
+    // Threads outside the context pool share these slots, a thread always uses the same one.
+    private static final int                                               STRIPES       = Integer.highestOneBit(Math.max(1, Integer.getInteger("CONCURRENT_STRIPES", 16)) * 2 - 1);
+
+    // Not monitors: a virtual thread that blocks on a monitor pins its carrier thread.
+    // Shared by all instances, a lock is only held during one change of one slot.
+    private static final ReentrantLock[]                                   LOCKS         = locks();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Concurrent, Object[]> STRIPES_SLOTS = AtomicReferenceFieldUpdater.newUpdater(Concurrent.class, Object[].class, "stripes");
+
+    private T                                                              pre;
+    private T[]                                                            states;
+    // Allocated on the first access from outside the pool, so pool only use does not pay for it.
+    private volatile T[]                                                   stripes;
+    private Supplier<T>                                                    supplier;
+
+    private static ReentrantLock[] locks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] stripes() {
+        T[] s = stripes;
+        if (s == null) {
+            s = (T[]) Array.newInstance(pre.getClass(), STRIPES);
+            for (int i = 0; i < STRIPES; i++) {
+                s[i] = supplier != null ? supplier.get() : pre;
+            }
+            if (!STRIPES_SLOTS.compareAndSet(this, null, s)) {
+                s = stripes;
+            }
+        }
+        return s;
+    }
+
+    private static int stripe() {
+        return (int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPES - 1);
+    }
 
     private Concurrent(T value) {
         init(value);
@@ -78,16 +120,20 @@ public class Concurrent<T> {
         }
         int i = ContextThread.getCurrentNr();
         if (i < 0) {
-            //noinspection SynchronizeOnNonFinalField
-            synchronized (states) {
-                T t = states[ContextThread.POOL_SIZE];
+            T[] slots = stripes();
+            int s = stripe();
+            LOCKS[s].lock();
+            try {
+                T t = slots[s];
                 T value = Collection.getSequential(() -> oper.apply(t)); // TODO @Wim: come up with an alternative
                 if (t != value) {
-                    states[ContextThread.POOL_SIZE] = value;
+                    slots[s] = value;
                     return true;
                 } else {
                     return false;
                 }
+            } finally {
+                LOCKS[s].unlock();
             }
         } else {
             T value = Collection.getSequential(() -> oper.apply(states[i])); // TODO @Wim: come up with an alternative
@@ -105,7 +151,7 @@ public class Concurrent<T> {
             throw new ConcurrentModificationException();
         }
         int i = ContextThread.getCurrentNr();
-        return i < 0 ? states[ContextThread.POOL_SIZE] : states[i];
+        return i < 0 ? stripes()[stripe()] : states[i];
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -115,15 +161,15 @@ public class Concurrent<T> {
         }
         int i = ContextThread.getCurrentNr();
         if (i < 0) {
-            // this is a synchronize on a non-final field and this is on purpose
-            // the states field is only assigned once in one of the init methods
-            //noinspection SynchronizeOnNonFinalField
-            synchronized (states) {
-                if (states[ContextThread.POOL_SIZE] != value) {
-                    if (pre == states[ContextThread.POOL_SIZE]) {
-                        states[ContextThread.POOL_SIZE] = value;
+            T[] slots = stripes();
+            int s = stripe();
+            LOCKS[s].lock();
+            try {
+                if (slots[s] != value) {
+                    if (pre == slots[s]) {
+                        slots[s] = value;
                     } else if (pre instanceof Mergeable) {
-                        states[ContextThread.POOL_SIZE] = (T) Collection.getSequential(() -> ((Mergeable) pre).merge(states[ContextThread.POOL_SIZE], value));
+                        slots[s] = (T) Collection.getSequential(() -> ((Mergeable) pre).merge(slots[s], value));
                     } else {
                         throw new ConcurrentModificationException();
                     }
@@ -131,6 +177,8 @@ public class Concurrent<T> {
                 } else {
                     return false;
                 }
+            } finally {
+                LOCKS[s].unlock();
             }
         } else {
             if (states[i] != value) {
@@ -148,8 +196,10 @@ public class Concurrent<T> {
             throw new ConcurrentModificationException();
         }
         pre = value;
+        supplier = null;
+        stripes = null;
         if (states == null) {
-            states = (T[]) Array.newInstance(pre.getClass(), ContextThread.POOL_SIZE + 1);
+            states = (T[]) Array.newInstance(pre.getClass(), ContextThread.POOL_SIZE);
         }
         Arrays.fill(states, value);
     }
@@ -160,8 +210,10 @@ public class Concurrent<T> {
             throw new ConcurrentModificationException();
         }
         pre = value.get();
+        supplier = value;
+        stripes = null;
         if (states == null) {
-            states = (T[]) Array.newInstance(pre.getClass(), ContextThread.POOL_SIZE + 1);
+            states = (T[]) Array.newInstance(pre.getClass(), ContextThread.POOL_SIZE);
         }
         for (int i = 0; i < states.length; i++) {
             states[i] = value.get();
@@ -172,14 +224,16 @@ public class Concurrent<T> {
         if (pre == null) {
             throw new ConcurrentModificationException();
         }
+        T[] branches = branches();
         int l = 0;
-        for (int i = 0; i < states.length; i++) {
-            if (states[i] != pre) {
-                states[l++] = states[i];
+        for (int i = 0; i < branches.length; i++) {
+            if (branches[i] != pre) {
+                branches[l++] = branches[i];
             }
         }
-        T result = Mergeables.merge(pre, this::merge, states, l);
+        T result = Mergeables.merge(pre, this::merge, branches, l);
         Arrays.fill(states, result);
+        supplier = null;
         pre = result;
         return result;
     }
@@ -188,14 +242,16 @@ public class Concurrent<T> {
         if (pre == null) {
             throw new ConcurrentModificationException();
         }
+        T[] branches = branches();
         int l = 0;
-        for (int i = 0; i < states.length; i++) {
-            if (states[i] != pre) {
-                states[l++] = states[i];
+        for (int i = 0; i < branches.length; i++) {
+            if (branches[i] != pre) {
+                branches[l++] = branches[i];
             }
         }
-        T result = Mergeables.merge(pre, this::merge, states, l);
+        T result = Mergeables.merge(pre, this::merge, branches, l);
         Arrays.fill(states, null);
+        supplier = null;
         pre = null;
         return result;
     }
@@ -203,10 +259,27 @@ public class Concurrent<T> {
     public void clear() {
         if (pre != null) {
             Arrays.fill(states, null);
+            stripes = null;
+            supplier = null;
             pre = null;
         }
     }
 
+    /**
+     * The slots of the pool threads, followed by the stripes if any thread outside the pool used them. Takes the
+     * stripes, so that they start again from the merged state.
+     */
+    private T[] branches() {
+        T[] s = stripes;
+        if (s == null) {
+            return states;
+        }
+        stripes = null;
+        T[] branches = Arrays.copyOf(states, states.length + s.length);
+        System.arraycopy(s, 0, branches, states.length, s.length);
+        return branches;
+    }
+
     @SuppressWarnings("unchecked")
     protected T merge(T base, T[] branches, int l) {
         if (base instanceof Mergeable) {
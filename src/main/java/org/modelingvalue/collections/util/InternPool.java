@@ -0,0 +1,81 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lossy pool of canonical instances. Every slot holds a weak reference, so pooled instances that are no
+ * longer used elsewhere are collected, and an instance that hashes to an occupied slot replaces the one in it.
+ */
+public final class InternPool {
+
+    private final AtomicReferenceArray<WeakReference<Object>> slots;
+    private final int                                         mask;
+
+    public InternPool(int size) {
+        int length = Integer.highestOneBit(Math.max(size, 1) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+    }
+
+    /**
+     * The pooled instance equal to {@code value}, or {@code value} itself after pooling it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        int i = index(value);
+        WeakReference<Object> ref = slots.get(i);
+        Object pooled = ref != null ? ref.get() : null;
+        if (pooled == value) {
+            return value;
+        } else if (pooled != null && pooled.getClass() == value.getClass() && Objects.equals(pooled, value)) {
+            return (T) pooled;
+        } else {
+            slots.set(i, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Whether {@code value} itself is the pooled instance of its slot.
+     */
+    public boolean isPooled(Object value) {
+        WeakReference<Object> ref = value != null ? slots.get(index(value)) : null;
+        return ref != null && ref.get() == value;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int index(Object value) {
+        int h = value.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+}
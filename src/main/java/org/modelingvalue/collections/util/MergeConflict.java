@@ -0,0 +1,76 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.util;
+
+import java.util.Objects;
+
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.struct.impl.*;
+
+/**
+ * A key that several branches of a merge changed differently: its value in the base, the distinct values the branches
+ * gave it, and whether a branch removed it.
+ */
+public class MergeConflict<K, V> extends Struct4Impl<K, V, Set<V>, Boolean> {
+
+    private static final long serialVersionUID = -2317645092291784302L;
+
+    /**
+     * The conflict of the branch values {@code vs}, of which the first {@code length} are used, null means removed and
+     * values equal to the base are left out.
+     */
+    public static <K, V> MergeConflict<K, V> of(K key, V base, V[] vs, int length) {
+        Set<V> values = Set.of();
+        boolean removed = false;
+        for (int i = 0; i < length; i++) {
+            V v = vs != null ? vs[i] : null;
+            if (Objects.equals(v, base)) {
+                continue;
+            } else if (v != null) {
+                values = values.add(v);
+            } else {
+                removed = true;
+            }
+        }
+        return new MergeConflict<>(key, base, values, removed);
+    }
+
+    protected MergeConflict(K key, V base, Set<V> values, Boolean removed) {
+        super(key, base, values, removed);
+    }
+
+    public K key() {
+        return get0();
+    }
+
+    public V base() {
+        return get1();
+    }
+
+    public Set<V> values() {
+        return get2();
+    }
+
+    public boolean removed() {
+        return get3();
+    }
+
+}
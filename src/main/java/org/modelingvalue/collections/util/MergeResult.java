@@ -0,0 +1,69 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.util;
+
+import java.util.function.Function;
+
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.struct.impl.*;
+
+/**
+ * The result of a merge together with the {@link MergeConflict}s it ran into.
+ */
+public class MergeResult<T, K, V> extends Struct2Impl<T, Set<MergeConflict<K, V>>> {
+
+    private static final long serialVersionUID = 6440512207419853046L;
+
+    /**
+     * Runs {@code merge} with a merger that records every conflict it is asked to resolve. Conflicting values are merged
+     * when they are {@link Mergeable}, otherwise the base value is kept.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K, V> MergeResult<T, K, V> of(Function<QuadFunction<K, V, V[], Integer, V>, T> merge) {
+        Set<MergeConflict<K, V>>[] conflicts = new Set[]{Set.of()};
+        T merged = merge.apply((k, v, vs, l) -> {
+            conflicts[0] = conflicts[0].add(MergeConflict.of(k, v, vs, l));
+            try {
+                return Mergeables.merge(v, vs, l);
+            } catch (NotMergeableException e) {
+                return v;
+            }
+        });
+        return new MergeResult<>(merged, conflicts[0]);
+    }
+
+    protected MergeResult(T merged, Set<MergeConflict<K, V>> conflicts) {
+        super(merged, conflicts);
+    }
+
+    public T merged() {
+        return get0();
+    }
+
+    public Set<MergeConflict<K, V>> conflicts() {
+        return get1();
+    }
+
+    public boolean hasConflicts() {
+        return !get1().isEmpty();
+    }
+
+}
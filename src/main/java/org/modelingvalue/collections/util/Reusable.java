@@ -26,14 +26,13 @@ public class Reusable<C, T, P> {
 
     private static final int                       CHUNCK_SIZE = 4;
 
-    private final ArrayList<T>                     list        = new ArrayList<>(0);
+    private final Stack<T>                         stack       = new Stack<>();
+    private final ThreadLocal<Stack<T>>            local       = ThreadLocal.withInitial(Stack::new);
     private final SerializableFunction<C, T>       construct;
     private final SerializableTriConsumer<T, C, P> start;
     private final SerializableConsumer<T>          stop;
     private final SerializableFunction<T, Boolean> isOpen;
 
-    private int                                    level       = -1;
-
     public Reusable(SerializableFunction<C, T> construct, SerializableTriConsumer<T, C, P> start, SerializableConsumer<T> stop, SerializableFunction<T, Boolean> isOpen) {
         this.construct = construct;
         this.start = start;
@@ -42,42 +41,40 @@ public class Reusable<C, T, P> {
     }
 
     public T open(C cls, P parent) {
-        if (ContextThread.isCurrentAContextThread()) {
-            return doOpen(cls, parent);
-        } else {
-            synchronized (list) {
-                return doOpen(cls, parent);
-            }
-        }
+        return doOpen(stack(), cls, parent);
     }
 
     public void close(T tx) {
-        if (ContextThread.isCurrentAContextThread()) {
-            doClose(tx);
-        } else {
-            synchronized (list) {
-                doClose(tx);
-            }
-        }
+        doClose(stack(), tx);
     }
 
-    private T doOpen(C cls, P parent) {
-        if (++level >= list.size()) {
-            list.ensureCapacity(list.size() + CHUNCK_SIZE);
+    // Other threads (and virtual threads in particular) get their own stack instead of sharing a locked one.
+    private Stack<T> stack() {
+        return ContextThread.isCurrentAContextThread() ? stack : local.get();
+    }
+
+    private T doOpen(Stack<T> stack, C cls, P parent) {
+        if (++stack.level >= stack.list.size()) {
+            stack.list.ensureCapacity(stack.list.size() + CHUNCK_SIZE);
             for (int i = 0; i < CHUNCK_SIZE; i++) {
-                list.add(construct.apply(cls));
+                stack.list.add(construct.apply(cls));
             }
         }
-        T tx = list.get(level);
+        T tx = stack.list.get(stack.level);
         start.accept(tx, cls, parent);
         return tx;
     }
 
-    private void doClose(T tx) {
+    private void doClose(Stack<T> stack, T tx) {
         stop.accept(tx);
-        while (level >= 0 && !isOpen.apply(list.get(level))) {
-            level--;
+        while (stack.level >= 0 && !isOpen.apply(stack.list.get(stack.level))) {
+            stack.level--;
         }
     }
 
+    private static final class Stack<T> {
+        private final ArrayList<T> list  = new ArrayList<>(0);
+        private int                level = -1;
+    }
+
 }
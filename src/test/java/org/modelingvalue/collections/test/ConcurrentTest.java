@@ -0,0 +1,92 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.Concurrent;
+import org.modelingvalue.collections.util.Reusable;
+
+public class ConcurrentTest {
+    private static final int THREADS = 32;
+    private static final int CHANGES = 1000;
+
+    @Test
+    public void changeFromOtherThreads() throws Exception {
+        Concurrent<Set<Integer>> concurrent = Concurrent.of(Set.of());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                int base = t * CHANGES;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < CHANGES; i++) {
+                        int e = base + i;
+                        concurrent.change(s -> s.add(e));
+                        assertTrue(concurrent.get().contains(e));
+                    }
+                });
+            }
+            for (Future<?> f : futures) {
+                f.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Set<Integer> result = concurrent.merge();
+        assertEquals(THREADS * CHANGES, result.size());
+        assertSame(result, concurrent.get());
+    }
+
+    @Test
+    public void reusablePerThread() throws Exception {
+        Reusable<Object, int[], Integer> reusable = new Reusable<>(x -> new int[1], (a, x, p) -> a[0] = 1, a -> a[0] = 0, a -> a[0] != 0);
+        int[] outer = reusable.open(null, 0);
+        int[] inner = reusable.open(null, 0);
+        assertNotSame(outer, inner);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<int[]> other = executor.submit(() -> {
+                int[] a = reusable.open(null, 0);
+                reusable.close(a);
+                return a;
+            });
+            int[] a = other.get(1, TimeUnit.MINUTES);
+            assertNotSame(outer, a);
+            assertNotSame(inner, a);
+        } finally {
+            executor.shutdown();
+        }
+        reusable.close(inner);
+        reusable.close(outer);
+        assertSame(outer, reusable.open(null, 0));
+    }
+}
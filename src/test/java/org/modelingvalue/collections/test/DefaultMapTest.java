@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.modelingvalue.collections.DefaultMap;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.util.Pair;
 
 public class DefaultMapTest {
 
@@ -75,4 +77,13 @@ public class DefaultMapTest {
         dm = dm.add(noot, noot, (a, b) -> a + b);
         assertEquals(noot, dm.get(noot));
     }
+
+    @Test
+    public void diff() {
+        DefaultMap<String, String> dm1 = DefaultMap.<String, String> of(DefaultMapTest::reverse).put(aap, aap).put(noot, noot).put(mies, mies);
+        DefaultMap<String, String> dm2 = dm1.removeKey(aap).put(noot, zus).put(jet, jet);
+        assertEquals(org.modelingvalue.collections.Set.of(Entry.of(aap, Pair.of(aap, "paa")), Entry.of(noot, Pair.of(noot, zus)), Entry.of(jet, Pair.of("tej", jet))), dm1.diff(dm2).asSet());
+        assertEquals(3, dm1.diffCount(dm2));
+        assertEquals(0, dm2.diffCount(dm2));
+    }
 }
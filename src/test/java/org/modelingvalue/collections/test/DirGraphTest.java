@@ -23,14 +23,18 @@ package org.modelingvalue.collections.test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Random;
+import java.util.concurrent.RecursiveAction;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.modelingvalue.collections.Dag;
 import org.modelingvalue.collections.DirGraph;
+import org.modelingvalue.collections.FrozenDirGraph;
 import org.modelingvalue.collections.List;
 import org.modelingvalue.collections.Map;
 import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.ContextThread;
+import org.modelingvalue.collections.util.Pair;
 
 public class DirGraphTest {
     @Test
@@ -105,6 +109,109 @@ public class DirGraphTest {
         assertTrue(result[0].allMatch(e -> list[0].index(e.getKey()) == e.getValue()));
     }
 
+    @RepeatedTest(8)
+    public void topologicalOnPool() {
+        int size = 10_000;
+        Random random = new Random(System.currentTimeMillis());
+        DirGraph<Integer> graph = DirGraph.of();
+        for (int i = 0; i < size; i++) {
+            graph = graph.addEdge(random.nextInt(size) / 4, random.nextInt(size) / 4);
+        }
+        Dag<Integer> dag = graph.removeCycles();
+        Map<Integer, Integer> depths = dag.<Integer> topological(ContextThread.createPool(), (n, preds) -> {
+            assertEquals(dag.ins(n), preds.toKeys().asSet());
+            return preds.toValues().reduce(0, Math::max, Math::max) + 1;
+        });
+        assertEquals(dag.size(), depths.size());
+        Map<Integer, Integer> expected = Map.of();
+        for (Integer n : dag.topologicalNodes()) {
+            Map<Integer, Integer> e = expected;
+            expected = expected.put(n, dag.ins(n).reduce(0, (d, i) -> Math.max(d, e.get(i)), Math::max) + 1);
+        }
+        assertEquals(expected, depths);
+        assertThrows(IllegalStateException.class, () -> dag.topological(ContextThread.createPool(), (n, preds) -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @RepeatedTest(8)
+    public void freeze() {
+        int size = 10_000;
+        Random random = new Random(System.currentTimeMillis());
+        DirGraph<Integer> graph = DirGraph.of();
+        for (int i = 0; i < size; i++) {
+            graph = graph.addEdge(random.nextInt(size) / 4, random.nextInt(size) / 4);
+        }
+        for (DirGraph<Integer> g : List.<DirGraph<Integer>> of(graph, graph.removeCycles())) {
+            FrozenDirGraph<Integer> frozen = g.freeze();
+            assertEquals(g.size(), frozen.size());
+            assertEquals(g.nodes().asSet(), frozen.nodes().asSet());
+            assertEquals(g.begin(), frozen.begin());
+            assertEquals(g.end(), frozen.end());
+            for (Integer n : g.nodes()) {
+                assertEquals(g.ins(n), frozen.ins(n));
+                assertEquals(g.outs(n), frozen.outs(n));
+            }
+            assertFalse(frozen.containsNode(-1));
+            assertEquals(Set.of(), frozen.outs(-1));
+            for (int i = 0; i < 100; i++) {
+                int f = random.nextInt(size) / 4, t = random.nextInt(size) / 4;
+                assertEquals(g.containsEdge(f, t), frozen.containsEdge(f, t));
+            }
+            assertEquals(g.dfsNodes(List.<Integer> of(), List::append), frozen.dfsNodes(List.of(), List::append));
+            assertEquals(g.invDfsNodes(List.<Integer> of(), List::append), frozen.invDfsNodes(List.of(), List::append));
+            if (g instanceof Dag) {
+                checkOrder(g, frozen.topologicalNodes());
+                checkOrder(g, frozen.invTopologicalNodes().reverse().asList());
+            }
+            DirGraph<Integer> thawed = frozen.thaw();
+            assertEquals(g, thawed);
+            assertEquals(g.getClass(), thawed.getClass());
+        }
+        assertEquals(Dag.of(), Dag.<Integer> of().freeze().thaw());
+    }
+
+    @Test
+    public void deepChain() {
+        int size = 200_000;
+        Integer[] edges = new Integer[2 * size];
+        for (int i = 0; i < size; i++) {
+            edges[2 * i] = i;
+            edges[2 * i + 1] = i + 1;
+        }
+        DirGraph<Integer> chain = DirGraph.of(edges);
+        assertEquals(size + 1, (int) chain.dfsNodes(0, (c, n) -> c + 1));
+        assertEquals(size, chain.topologicalNodes().last());
+        assertEquals(size + 1, chain.navigable().size());
+        assertEquals(size + 1, chain.invNavigable().size());
+        DirGraph<Integer> cycle = chain.addEdge(size, 0);
+        assertEquals(Set.of(Pair.of(size, 0)), cycle.cycles());
+        assertEquals(size + 1, cycle.removeCycles().size());
+        assertEquals(size + 1, cycle.dfsEdges(0, (c, f, t, b) -> c + 1) - 1);
+    }
+
+    @RepeatedTest(8)
+    public void parallelNavigable() {
+        int size = 100_000;
+        Random random = new Random(System.currentTimeMillis());
+        DirGraph<Integer> g = DirGraph.of();
+        for (int i = 0; i < size; i++) {
+            g = g.addEdge(random.nextInt(size) / 2, random.nextInt(size) / 2);
+        }
+        DirGraph<Integer> graph = g;
+        Set<Integer> navigable = reach(graph.putBegin(-1, graph.begin()), -1, true).remove(-1);
+        Set<Integer> invNavigable = reach(graph.putEnd(-1, graph.end()), -1, false).remove(-1);
+        assertEquals(navigable, graph.navigable());
+        assertEquals(invNavigable, graph.invNavigable());
+        ContextThread.createPool().setWorkerThreadName("DirGraphTest").invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                assertEquals(navigable, graph.navigable());
+                assertEquals(invNavigable, graph.invNavigable());
+            }
+        });
+    }
+
     private <N> void checkOrder(DirGraph<N> graph, List<N> topo) {
         for (int n = 0; n < topo.size(); n++) {
             N node = topo.get(n);
@@ -326,6 +433,91 @@ public class DirGraphTest {
         assertEquals(List.of("2", "5", "4", "7", "8", "1", "3", "6"), top);
     }
 
+    @RepeatedTest(4)
+    public void incrementalTopologicalOrder() {
+        int size = 200;
+        Random random = new Random(System.currentTimeMillis());
+        DirGraph<Integer> graph = DirGraph.<Integer> of().addNode(0);
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(size), to = random.nextInt(size);
+            switch (random.nextInt(8)) {
+            case 0:
+                graph = graph.removeEdge(from, to);
+                break;
+            case 1:
+                graph = graph.removeNode(from);
+                break;
+            case 2:
+                graph = graph.putOuts(from, Set.of(to, random.nextInt(size)));
+                break;
+            default:
+                graph = graph.addEdge(from, to);
+            }
+            if (!graph.cycles().isEmpty()) {
+                graph = graph.removeCycles();
+            }
+            List<Integer> top = graph.topologicalNodes();
+            assertEquals(graph.size(), top.size());
+            checkOrder(graph, top);
+            assertEquals(top.index(from), graph.topologicalIndex(from));
+            assertEquals(top.index(to), graph.topologicalIndex(to));
+            List<Integer> inv = graph.invTopologicalNodes();
+            assertEquals(top.size(), inv.size());
+            if (!top.isEmpty()) {
+                assertEquals(top.last(), inv.first());
+            }
+        }
+    }
+
+    @RepeatedTest(4)
+    public void incrementalStrongComponents() {
+        int size = 60;
+        Random random = new Random(System.currentTimeMillis());
+        DirGraph<Integer> graph = DirGraph.<Integer> of().addNode(0);
+        assertEquals(Set.of(0), graph.scc(0));
+        for (int i = 0; i < 1500; i++) {
+            int from = random.nextInt(size), to = random.nextInt(size);
+            switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+                graph = graph.removeEdge(from, to);
+                break;
+            case 2:
+                graph = graph.removeNode(from);
+                break;
+            case 3:
+                graph = graph.putOuts(from, Set.of(to, random.nextInt(size)));
+                break;
+            case 4:
+                graph = graph.removeCycles();
+                break;
+            default:
+                graph = graph.addEdges(Set.of(Pair.of(from, to), Pair.of(to, random.nextInt(size))));
+            }
+            for (int n = 0; n < size; n += 7) {
+                Set<Integer> reach = reach(graph, n, true);
+                assertEquals(reach.retainAll(reach(graph, n, false)), graph.scc(n));
+            }
+            assertEquals(graph.dfsEdges(Set.<Pair<Integer, Integer>> of(), (cs, f, t, c) -> c ? cs.add(Pair.of(f, t)) : cs), graph.cycles());
+        }
+    }
+
+    private static <N> Set<N> reach(DirGraph<N> graph, N node, boolean forward) {
+        if (!graph.containsNode(node)) {
+            return Set.of();
+        }
+        Set<N> reach = Set.of(node);
+        for (List<N> todo = List.of(node); !todo.isEmpty(); todo = todo.removeFirst()) {
+            for (N n : forward ? graph.outs(todo.first()) : graph.ins(todo.first())) {
+                if (!reach.contains(n)) {
+                    reach = reach.add(n);
+                    todo = todo.append(n);
+                }
+            }
+        }
+        return reach;
+    }
+
     @Test
     public void putBeginEnd() {
         DirGraph<String> graph1 = DirGraph.of(//
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.FrozenGraph;
 import org.modelingvalue.collections.Graph;
 import org.modelingvalue.collections.List;
 import org.modelingvalue.collections.Set;
@@ -53,6 +54,49 @@ public class GraphTest {
         assertFalse(graph.containsEdge("a", "c", 2));
     }
 
+    @Test
+    public void freeze() {
+        Graph<String, Integer> graph = Graph.of(Triple.of("a", 1, "b"), Triple.of("a", 2, "b"), Triple.of("a", 2, "d"), Triple.of("d", 1, "a"), Triple.of("c", 3, "c"));
+        FrozenGraph<String, Integer> frozen = graph.freeze();
+        assertEquals(graph.size(), frozen.size());
+        assertEquals(graph.getNodes(), frozen.getNodes());
+        for (String n : List.of("a", "b", "c", "d", "e")) {
+            assertEquals(graph.containsNode(n), frozen.containsNode(n));
+            assertEquals(graph.getIncoming(n), frozen.getIncoming(n));
+            assertEquals(graph.getOutgoing(n), frozen.getOutgoing(n));
+            assertEquals(graph.getIncomingEdges(n), frozen.getIncomingEdges(n));
+            assertEquals(graph.getOutgoingEdges(n), frozen.getOutgoingEdges(n));
+            assertEquals(graph.getIncomingNodes(n), frozen.getIncomingNodes(n));
+            assertEquals(graph.getOutgoingNodes(n), frozen.getOutgoingNodes(n));
+            for (int v = 1; v <= 3; v++) {
+                assertEquals(graph.getIncoming(n, v), frozen.getIncoming(n, v));
+                assertEquals(graph.getOutgoing(n, v), frozen.getOutgoing(n, v));
+            }
+            for (String m : List.of("a", "b", "c", "d", "e")) {
+                assertEquals(graph.getEdges(n, m), frozen.getEdges(n, m));
+                assertEquals(graph.containsEdge(n, m, 2), frozen.containsEdge(n, m, 2));
+            }
+        }
+        assertEquals(Set.of(1, 2), frozen.getEdges("a", "b"));
+        assertEquals(Set.of("b", "d"), frozen.getOutgoing("a", 2));
+        assertEquals(graph, frozen.thaw());
+        assertEquals(Graph.of(), Graph.of().freeze().thaw());
+    }
+
+    @Test
+    public void hasCyclesDeepChain() {
+        int size = 100_000;
+        Graph<Integer, Integer> graph = Graph.of();
+        for (int i = 0; i < size; i++) {
+            graph = graph.putEdge(i, i + 1, i % 2);
+        }
+        assertFalse(graph.hasCycles(n -> true, e -> true));
+        Graph<Integer, Integer> cycle = graph.putEdge(size, 0, 0);
+        assertTrue(cycle.hasCycles(n -> true, e -> true));
+        assertFalse(cycle.hasCycles(n -> n != size / 2, e -> true));
+        assertFalse(cycle.hasCycles(n -> true, e -> e.b() == 0));
+    }
+
     @Test
     public void emptyGraph() {
         Graph<String, Integer> graph = Graph.of();
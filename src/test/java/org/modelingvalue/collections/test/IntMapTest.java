@@ -0,0 +1,119 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.IntMap;
+import org.modelingvalue.collections.IntSet;
+import org.modelingvalue.collections.LongMap;
+import org.modelingvalue.collections.LongSet;
+import org.modelingvalue.collections.Map;
+
+public class IntMapTest {
+    private static final long SEED = 267835244387707587L;
+
+    @Test
+    public void intMap() {
+        IntMap<String> map = IntMap.<String> of().put(1, "aap").put(2, "noot").put(-3, "mies");
+        assertEquals(3, map.size());
+        assertEquals("noot", map.get(2));
+        assertNull(map.get(3));
+        assertEquals("teun", map.getOrDefault(3, "teun"));
+        assertSame(map, map.put(1, "aap"));
+        assertSame(map, map.removeKey(7));
+        assertEquals("jet", map.put(1, "jet").get(1));
+        assertEquals(IntSet.of(1, 2, -3), map.keys());
+        assertEquals(Map.of(Entry.of(1, "aap"), Entry.of(2, "noot"), Entry.of(-3, "mies")), map.toMap());
+        assertEquals(IntMap.<String> of().put(2, "noot"), map.filter(k -> k % 2 == 0));
+        assertEquals(IntMap.<String> of().put(-3, "mies"), map.removeAllKey(IntSet.of(1, 2, 99)));
+        assertEquals("IntMap[1=aap,2=noot,-3=mies]", map.toString());
+        StringBuilder sb = new StringBuilder();
+        map.forEach((k, v) -> sb.append(k).append(v));
+        assertEquals("1aap2noot-3mies", sb.toString());
+    }
+
+    @Test
+    public void randomIntMap() {
+        Random                    random = new Random(SEED);
+        HashMap<Integer, Integer> ref    = new HashMap<>();
+        IntMap<Integer>           map    = IntMap.of();
+        for (int i = 0; i < 200_000; i++) {
+            int k = random.nextInt(30_000) << random.nextInt(4);
+            if (random.nextInt(3) == 0) {
+                ref.remove(k);
+                map = map.removeKey(k);
+            } else {
+                int v = random.nextInt(10);
+                ref.put(k, v);
+                map = map.put(k, v);
+            }
+            assertEquals(ref.size(), map.size());
+        }
+        IntMap<Integer> copy = IntMap.of();
+        for (java.util.Map.Entry<Integer, Integer> e : ref.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey()));
+            copy = copy.put(e.getKey(), e.getValue());
+        }
+        assertEquals(copy, map);
+        assertEquals(copy.hashCode(), map.hashCode());
+        assertEquals(ref.hashCode(), map.hashCode());
+        assertEquals(map, IntMap.<Integer> of().putAll(map));
+        assertEquals(ref.values().stream().mapToInt(Integer::intValue).sum(), map.values().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void longMap() {
+        Random                 random = new Random(SEED);
+        HashMap<Long, String>  ref    = new HashMap<>();
+        LongMap<String>        map    = LongMap.of();
+        for (int i = 0; i < 100_000; i++) {
+            long k = random.nextInt(2000) * (random.nextBoolean() ? 1L : 0x100000001L);
+            if (random.nextInt(3) == 0) {
+                ref.remove(k);
+                map = map.removeKey(k);
+            } else {
+                String v = Integer.toString(random.nextInt(10));
+                ref.put(k, v);
+                map = map.put(k, v);
+            }
+            assertEquals(ref.size(), map.size());
+        }
+        for (java.util.Map.Entry<Long, String> e : ref.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey()));
+            assertTrue(map.containsKey(e.getKey()));
+        }
+        assertFalse(map.containsKey(-5L));
+        assertEquals(ref.hashCode(), map.hashCode());
+        assertEquals(LongSet.of(ref.keySet().stream().mapToLong(Long::longValue).toArray()), map.keys());
+        assertEquals(ref.size(), map.toMap().size());
+        assertEquals(LongMap.of(), map.filter(k -> false));
+    }
+}
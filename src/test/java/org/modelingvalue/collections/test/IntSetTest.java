@@ -0,0 +1,134 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.IntSet;
+import org.modelingvalue.collections.LongSet;
+import org.modelingvalue.collections.Set;
+
+public class IntSetTest {
+    private static final long SEED = 267835244387707587L;
+
+    @Test
+    public void intSet() {
+        IntSet set = IntSet.of(5, 3, -1, 3, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(6, set.size());
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.contains(4));
+        assertArrayEquals(new int[]{0, 3, 5, Integer.MAX_VALUE, Integer.MIN_VALUE, -1}, set.toArray());
+        assertSame(set, set.add(5));
+        assertSame(set, set.remove(4));
+        assertEquals(IntSet.of(0, 3, 5), set.filter(i -> i >= 0 && i < 10));
+        assertEquals(Set.of(0, 3, 5, -1, Integer.MIN_VALUE, Integer.MAX_VALUE), set.toSet());
+        assertEquals("IntSet[0,3,5]", IntSet.of(5, 3, 0).toString());
+        assertEquals(IntSet.of(), set.removeAll(set));
+        assertEquals(8, IntSet.of(1, 2, 5).stream().sum());
+    }
+
+    @Test
+    public void randomIntSet() {
+        Random           random = new Random(SEED);
+        HashSet<Integer> ref    = new HashSet<>();
+        IntSet           set    = IntSet.of();
+        for (int i = 0; i < 200_000; i++) {
+            int e = random.nextInt(50_000) * (random.nextBoolean() ? 1 : 0x10001);
+            if (random.nextInt(3) == 0) {
+                assertEquals(ref.remove(e), set.contains(e));
+                set = set.remove(e);
+            } else {
+                assertEquals(!ref.add(e), set.contains(e));
+                set = set.add(e);
+            }
+            assertEquals(ref.size(), set.size());
+        }
+        int[] keys = ref.stream().mapToInt(Integer::intValue).toArray();
+        IntSet built = IntSet.of(keys);
+        assertEquals(built, set);
+        assertEquals(built.hashCode(), set.hashCode());
+        assertEquals(ref.stream().mapToInt(Integer::intValue).sum(), set.hashCode());
+        TreeSet<Integer> sorted = new TreeSet<>(Integer::compareUnsigned);
+        sorted.addAll(ref);
+        assertArrayEquals(sorted.stream().mapToInt(Integer::intValue).toArray(), set.toArray());
+        for (int e : keys) {
+            set = set.remove(e);
+        }
+        assertTrue(set.isEmpty());
+        assertEquals(IntSet.of(), set);
+    }
+
+    @Test
+    public void intSetAlgebra() {
+        IntSet a = IntSet.of(1, 2, 3, 4, 5, 1000, 1 << 20);
+        IntSet b = IntSet.of(4, 5, 6, 7, 1 << 20);
+        assertEquals(IntSet.of(1, 2, 3, 4, 5, 6, 7, 1000, 1 << 20), a.addAll(b));
+        assertEquals(IntSet.of(1, 2, 3, 1000), a.removeAll(b));
+        assertEquals(IntSet.of(6, 7), b.removeAll(a));
+        assertEquals(IntSet.of(4, 5, 1 << 20), a.retainAll(b));
+        assertEquals(IntSet.of(4, 5, 1 << 20), b.retainAll(a));
+        assertTrue(a.containsAll(IntSet.of(2, 1000)));
+        assertFalse(a.containsAll(b));
+    }
+
+    @Test
+    public void longSet() {
+        // these all have the same hash code
+        long[] equalHashes = {0L, (1L << 32) | 1L, (2L << 32) | 2L, (3L << 32) | 3L, -1L};
+        LongSet set = LongSet.of(equalHashes).add(42L).add(Long.MAX_VALUE);
+        assertEquals(7, set.size());
+        for (long e : equalHashes) {
+            assertTrue(set.contains(e));
+        }
+        assertFalse(set.contains((4L << 32) | 4L));
+        assertEquals(set, LongSet.of(set.toArray()));
+        LongSet removed = set.remove((2L << 32) | 2L).remove(0L).remove(-1L).remove((3L << 32) | 3L);
+        assertEquals(LongSet.of((1L << 32) | 1L, 42L, Long.MAX_VALUE), removed);
+        assertEquals(removed.hashCode(), LongSet.of((1L << 32) | 1L, 42L, Long.MAX_VALUE).hashCode());
+
+        Random        random = new Random(SEED);
+        HashSet<Long> ref    = new HashSet<>();
+        LongSet       rand   = LongSet.of();
+        for (int i = 0; i < 100_000; i++) {
+            long e = random.nextInt(1000) * (random.nextBoolean() ? 1L : 0x100000001L);
+            if (random.nextBoolean()) {
+                ref.remove(e);
+                rand = rand.remove(e);
+            } else {
+                ref.add(e);
+                rand = rand.add(e);
+            }
+        }
+        assertEquals(ref, new HashSet<>(rand.toSet().toMutable()));
+        assertEquals(LongSet.of(ref.stream().mapToLong(Long::longValue).toArray()), rand);
+        assertEquals(ref.stream().mapToLong(Long::longValue).sum(), rand.stream().sum());
+    }
+}
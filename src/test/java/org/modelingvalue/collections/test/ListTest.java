@@ -21,7 +21,9 @@
 package org.modelingvalue.collections.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -305,6 +307,84 @@ public class ListTest {
         }
     }
 
+    @Test
+    public void deepIndexOfAndForEach() {
+        List<Integer> list = List.of();
+        for (int i = 0; i < 10000; i++) {
+            list = list.append(i % 1000);
+        }
+        for (int i = 0; i < 1000; i += 7) {
+            assertEquals(i, list.firstIndexOf(i));
+            assertEquals(9000 + i, list.lastIndexOf(i));
+            assertTrue(list.contains(i));
+        }
+        assertEquals(-1, list.firstIndexOf(1000));
+        assertEquals(-1, list.lastIndexOf(-1));
+        assertFalse(list.contains(1000));
+        int[] i = new int[1];
+        list.forEach(e -> assertEquals(i[0]++ % 1000, (int) e));
+        assertEquals(10000, i[0]);
+        assertEquals(list, List.of(list.toArray(Integer[]::new)));
+    }
+
+    @Test
+    public void concatAndSlice() {
+        Random                  random = new Random(LONG);
+        List<Integer>           list   = List.of();
+        java.util.List<Integer> ref    = new java.util.ArrayList<>();
+        for (int i = 0; i < LONG * 10; i++) {
+            list = list.append(i);
+            ref.add(i);
+        }
+        for (int i = 0; i < 200; i++) {
+            int b = random.nextInt(list.size()), e = b + random.nextInt(Math.min(1000, list.size() - b));
+            int p = random.nextInt(list.size());
+            list = list.insertList(p, list.sublist(b, e));
+            ref.addAll(p, new java.util.ArrayList<>(ref.subList(b, e)));
+        }
+        assertEquals(ref.size(), list.size());
+        for (int i = 0; i < LONG; i++) {
+            int p = random.nextInt(ref.size());
+            assertEquals(ref.get(p), list.get(p));
+        }
+        List<Integer> rebuilt = List.of(ref.toArray(Integer[]::new));
+        assertEquals(rebuilt, list);
+        assertEquals(rebuilt.hashCode(), list.hashCode());
+        assertEquals(rebuilt.sublist(LONG, LONG * 2), list.sublist(LONG, LONG * 2));
+        assertEquals(rebuilt.sublist(LONG, LONG * 2).hashCode(), list.sublist(LONG, LONG * 2).hashCode());
+    }
+
+    @Test
+    public void appendAndPrepend() {
+        Random                  random = new Random(LONG);
+        List<Integer>           list   = List.of();
+        java.util.List<Integer> ref    = new java.util.ArrayList<>();
+        for (int i = 0; i < LONG * 10; i++) {
+            if (random.nextInt(4) == 0) {
+                list = list.prepend(i);
+                ref.add(0, i);
+            } else {
+                list = list.append(i);
+                ref.add(i);
+            }
+            if (i % 1000 == 999) {
+                int p = random.nextInt(list.size());
+                list = list.insert(p, -i);
+                ref.add(p, -i);
+            }
+        }
+        assertEquals(ref.size(), list.size());
+        for (int i = 0; i < ref.size(); i += 7) {
+            assertEquals(ref.get(i), list.get(i));
+        }
+        List<Integer> rebuilt = List.of(ref.toArray(Integer[]::new));
+        assertEquals(rebuilt, list);
+        assertEquals(list, rebuilt);
+        assertEquals(rebuilt.hashCode(), list.hashCode());
+        assertEquals(ref, list.toMutable());
+        assertEquals(List.of(1, 2, 3), List.<Integer> of().append(2).prepend(1).append(null).append(3));
+    }
+
     private static int nextInt(Random random, HashSet<Integer> hashSet) {
         int r = random.nextInt(LONG);
         while (!hashSet.add(r)) {
@@ -22,10 +22,17 @@ package org.modelingvalue.collections.test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 import org.modelingvalue.collections.Entry;
 import org.modelingvalue.collections.Map;
 import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.util.MergeConflict;
+import org.modelingvalue.collections.util.MergeResult;
 import org.modelingvalue.collections.util.Pair;
 
 public class MapTest {
@@ -174,6 +181,83 @@ public class MapTest {
         assertEquals(result, expect);
     }
 
+    @Test
+    public void diffOfVersions() {
+        Random random = new Random(8270147723305172473L);
+        java.util.List<Object> keys = new java.util.ArrayList<>();
+        Map<Object, Integer> base = Map.of();
+        for (int i = 0; i < 5_000; i++) {
+            keys.add(i % 500 == 0 ? new EqualHashCode() : (Object) random.nextInt());
+            base = base.put(keys.get(i), i);
+        }
+        Set<Object> baseKeys = base.toKeys().asSet();
+        assertEquals(0, base.diffCount(base));
+        assertEquals(base.size(), base.diffCount(Map.of()));
+        for (int round = 0; round < 50; round++) {
+            Map<Object, Integer> other = base;
+            for (int n = random.nextInt(40); n > 0; n--) {
+                Object key = random.nextInt(5) == 0 ? (random.nextInt(8) == 0 ? new EqualHashCode() : (Object) random.nextInt()) : keys.get(random.nextInt(keys.size()));
+                other = random.nextInt(3) == 0 ? other.removeKey(key) : other.put(key, random.nextInt(3));
+            }
+            java.util.Map<Object, Pair<Integer, Integer>> expected = new HashMap<>();
+            java.util.Set<Object> expectedKeys = new HashSet<>();
+            for (Object key : base.toKeys().asSet().addAll(other.toKeys())) {
+                if (base.containsKey(key) != other.containsKey(key) || !Objects.equals(base.get(key), other.get(key))) {
+                    expected.put(key, Pair.of(base.get(key), other.get(key)));
+                }
+                if (base.containsKey(key) != other.containsKey(key)) {
+                    expectedKeys.add(key);
+                }
+            }
+            java.util.Map<Object, Pair<Integer, Integer>> actual = new HashMap<>();
+            base.diff(other).forEach(e -> assertNull(actual.put(e.getKey(), e.getValue())));
+            assertEquals(expected, actual);
+            assertEquals(expected.size(), base.diffCount(other));
+            Set<Object> otherKeys = other.toKeys().asSet();
+            java.util.Set<Object> actualKeys = new HashSet<>();
+            baseKeys.diff(otherKeys).forEach(p -> assertTrue(actualKeys.add(p.a() != null ? p.a() : p.b())));
+            assertEquals(expectedKeys, actualKeys);
+            assertEquals(expectedKeys.size(), baseKeys.diffCount(otherKeys));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void mergeWithConflicts() {
+        Map<String, Object> base = Map.of(Entry.of("a", 1), Entry.of("b", 1), Entry.of("c", 1), Entry.of("e", 1), Entry.of("m", Set.of(1)));
+        Map<String, Object> branch1 = base.put("a", 2).put("b", 2).put("e", 7).put("m", Set.of(1, 2));
+        Map<String, Object> branch2 = base.put("a", 3).removeKey("c").removeKey("e").put("m", Set.of(1, 3));
+        Map<String, Object> branch3 = base.put("b", 2).put("d", 5);
+        MergeResult<Map<String, Object>, String, Object> result = base.mergeWithConflicts(new Map[]{branch1, branch2, branch3});
+        assertEquals(Map.of(Entry.of("a", 1), Entry.of("b", 2), Entry.of("d", 5), Entry.of("e", 1), Entry.of("m", Set.of(1, 2, 3))), result.merged());
+        assertEquals(Set.of(MergeConflict.of("a", 1, new Object[]{2, 3}, 2), MergeConflict.of("e", 1, new Object[]{7, null}, 2), MergeConflict.of("m", Set.of(1), new Object[]{Set.of(1, 2), Set.of(1, 3)}, 2)), result.conflicts());
+        assertTrue(result.conflicts().anyMatch(c -> c.removed() && c.key().equals("e")));
+        assertFalse(base.mergeWithConflicts(new Map[]{branch1, branch3}).hasConflicts());
+    }
+
+    @Test
+    public void intern() {
+        Map<Integer, String> forward = Map.of(), backward = Map.of();
+        Set<Integer> set = Set.of();
+        for (int i = 0; i < 5000; i++) {
+            forward = forward.put(i, "v" + i);
+            backward = backward.put(4999 - i, "v" + (4999 - i));
+            set = set.add(i);
+        }
+        assertNotSame(forward, backward);
+        Map<Integer, String> interned = forward.intern();
+        assertEquals(forward, interned);
+        assertSame(interned, backward.intern());
+        assertSame(interned, interned.intern());
+        Map<Integer, String> changed = backward.put(2500, "changed");
+        Map<Integer, String> internedChanged = changed.intern();
+        assertEquals(changed, internedChanged);
+        assertEquals(1, internedChanged.diffCount(interned));
+        assertEquals("changed", internedChanged.get((Integer) 2500));
+        assertSame(set.intern(), forward.toKeys().asSet().intern());
+        assertEquals(set, set.intern());
+    }
+
     private final static class EqualHashCode {
 
         @Override
@@ -0,0 +1,133 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.MappedMap;
+import org.modelingvalue.collections.Set;
+
+public class MappedMapTest {
+
+    private record Colliding(int id) implements Serializable {
+        @Override
+        public int hashCode() {
+            return id / 4;
+        }
+    }
+
+    @Test
+    public void mappedMap() throws IOException {
+        Path path = Files.createTempFile("mapped", ".map");
+        try {
+            Map<Object, Object> map = Map.of();
+            for (int i = 0; i < 50_000; i++) {
+                map = map.put(i % 2 == 0 ? "k" + i : new Colliding(i), i % 3 == 0 ? Set.of(i) : "v" + i);
+            }
+            try (MappedMap<Object, Object> mapped = MappedMap.create(path, map)) {
+                assertEquals(map.size(), mapped.size());
+                for (int i = 0; i < 50_000; i++) {
+                    Object key = i % 2 == 0 ? "k" + i : new Colliding(i);
+                    assertEquals(map.get(key), mapped.get(key));
+                }
+                assertNull(mapped.get("k1"));
+                assertFalse(mapped.containsKey(new Colliding(50_001)));
+                assertSame(map, mapped.asMap());
+            }
+            try (MappedMap<Object, Object> mapped = MappedMap.open(path)) {
+                Map<Object, Object> loaded = mapped.asMap();
+                assertEquals(map, loaded);
+                assertEquals(map.hashCode(), loaded.hashCode());
+                long before = Files.size(path);
+                Map<Object, Object> next = loaded.put("k0", "changed").removeKey("k2").put("new", 1);
+                MappedMap<Object, Object> appended = mapped.append(next);
+                assertTrue(Files.size(path) - before < 2_000);
+                assertEquals("changed", appended.get("k0"));
+                assertNull(appended.get("k2"));
+                assertEquals(1, appended.get("new"));
+                assertEquals(Set.of(0), mapped.get("k0"));
+                assertEquals(next.size(), appended.size());
+            }
+            try (MappedMap<Object, Object> mapped = MappedMap.open(path)) {
+                assertEquals("changed", mapped.get("k0"));
+                long before = Files.size(path);
+                Map<Object, Object> copy = mapped.asMap().asMap(e -> e);
+                mapped.append(copy);
+                assertTrue(Files.size(path) - before < 100);
+            }
+            MappedMap.create(path, Map.of()).close();
+            try (MappedMap<Object, Object> mapped = MappedMap.open(path)) {
+                assertTrue(mapped.isEmpty());
+                assertEquals(Map.of(), mapped.asMap());
+                assertNull(mapped.get("k0"));
+            }
+            Files.write(path, new byte[100]);
+            assertThrows(IOException.class, () -> MappedMap.open(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void reopenAfterAppends() throws IOException {
+        Path path = Files.createTempFile("mapped", ".map");
+        try {
+            List<Map<Object, Object>> versions = List.of(Map.of());
+            MappedMap.create(path, versions.last()).close();
+            for (int v = 1; v <= 8; v++) {
+                Map<Object, Object> next = versions.last();
+                for (int i = 0; i < 5_000; i++) {
+                    int k = v * 1_000 + i;
+                    next = i % 7 == 0 ? next.removeKey("k" + (k - 2_000)) : next.put("k" + k, i % 2 == 0 ? Set.of(v) : new Colliding(k));
+                }
+                versions = versions.append(next);
+                try (MappedMap<Object, Object> mapped = MappedMap.open(path)) {
+                    assertEquals(versions.get(v - 1), mapped.asMap());
+                    MappedMap<Object, Object> appended = mapped.append(next);
+                    assertEquals(versions.get(v - 1), mapped.asMap());
+                    assertEquals(next, appended.asMap());
+                }
+                try (MappedMap<Object, Object> mapped = MappedMap.open(path)) {
+                    assertEquals(next.size(), mapped.size());
+                    for (Entry<Object, Object> e : next) {
+                        assertEquals(e.getValue(), mapped.get(e.getKey()));
+                    }
+                    assertEquals(next, mapped.asMap());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.modelingvalue.collections.test.Serialization.copy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.DoubleList;
+import org.modelingvalue.collections.IntList;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.LongList;
+
+public class PrimitiveListTest {
+    private static final long SEED = 267835244387707587L;
+
+    @Test
+    public void intList() {
+        IntList list = IntList.of(5, 3, -1, 3, 0);
+        assertEquals(5, list.size());
+        assertEquals(-1, list.get(2));
+        assertEquals(5, list.first());
+        assertEquals(0, list.last());
+        assertEquals(1, list.firstIndexOf(3));
+        assertFalse(list.contains(4));
+        assertEquals(IntList.of(7, 5, 3, -1, 3, 0, 9), list.prepend(7).append(9));
+        assertEquals(IntList.of(3, -1), list.sublist(1, 3));
+        assertEquals(IntList.of(5, 3, 4, -1, 3, 0), list.insert(2, 4));
+        assertEquals(IntList.of(5, 3, 8, 3, 0), list.replace(2, 8));
+        assertSame(list, list.replace(2, -1));
+        assertEquals(IntList.of(5, 0), list.removeList(1, 4));
+        assertEquals(10, list.sum());
+        assertEquals(-1, list.min().getAsInt());
+        assertEquals(5, list.max().getAsInt());
+        assertFalse(IntList.of().max().isPresent());
+        assertEquals(List.of(5, 3, -1, 3, 0), list.toList());
+        assertEquals(List.of(5, 3, -1, 3, 0).toMutable().hashCode(), list.hashCode());
+        assertEquals("IntList[5,3,-1,3,0]", list.toString());
+        assertSame(IntList.of(), list.sublist(2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.sublist(3, 6));
+    }
+
+    @Test
+    public void randomIntList() {
+        Random             random = new Random(SEED);
+        IntList            list   = IntList.of();
+        ArrayList<Integer> ref    = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int e = random.nextInt();
+            switch (random.nextInt(8)) {
+            case 0 -> {
+                list = list.prepend(e);
+                ref.add(0, e);
+            }
+            case 1 -> {
+                int p = random.nextInt(ref.size() + 1);
+                list = list.insert(p, e);
+                ref.add(p, e);
+            }
+            case 2 -> {
+                if (!ref.isEmpty()) {
+                    int p = random.nextInt(ref.size());
+                    list = list.replace(p, e);
+                    ref.set(p, e);
+                }
+            }
+            case 3 -> {
+                int b = random.nextInt(ref.size() + 1), n = Math.min(random.nextInt(100), ref.size() - b);
+                int p = random.nextInt(ref.size() + 1);
+                list = list.insertList(p, list.sublist(b, b + n));
+                ref.addAll(p, new ArrayList<>(ref.subList(b, b + n)));
+            }
+            case 4 -> {
+                int b = random.nextInt(ref.size() + 1), n = Math.min(random.nextInt(50), ref.size() - b);
+                list = list.removeList(b, b + n);
+                ref.subList(b, b + n).clear();
+            }
+            default -> {
+                list = list.append(e);
+                ref.add(e);
+            }
+            }
+        }
+        assertEquals(ref.size(), list.size());
+        for (int i = 0; i < ref.size(); i++) {
+            assertEquals((int) ref.get(i), list.get(i));
+        }
+        assertArrayEquals(ref.stream().mapToInt(Integer::intValue).toArray(), list.toArray());
+        assertEquals(ref.hashCode(), list.hashCode());
+        assertEquals(IntList.of(list.toArray()), list);
+        assertEquals(ref.stream().mapToLong(Integer::longValue).sum(), list.stream().parallel().asLongStream().sum());
+        assertEquals(ref.stream().mapToLong(Integer::longValue).sum(), list.sum());
+    }
+
+    @Test
+    public void binarySearch() {
+        IntList ints = IntList.of(IntStream.range(0, 10_000).map(i -> i * 2));
+        assertEquals(500, ints.binarySearch(1000));
+        assertEquals(-502, ints.binarySearch(1001));
+        assertEquals(-1, ints.binarySearch(-1));
+        assertEquals(-10_001, ints.binarySearch(20_000));
+        LongList longs = LongList.of(LongStream.range(0, 10_000).map(i -> i << 33));
+        assertEquals(77, longs.binarySearch(77L << 33));
+        assertTrue(longs.binarySearch(1) < 0);
+        DoubleList doubles = DoubleList.of(DoubleStream.of(-1.5, 0.0, 0.5, 2.5));
+        assertEquals(2, doubles.binarySearch(0.5));
+        assertEquals(-4, doubles.binarySearch(1.0));
+    }
+
+    @Test
+    public void longAndDoubleList() {
+        LongList longs = LongList.of(LongStream.range(0, 100_000).map(l -> l * 0x100000001L));
+        assertEquals(100_000, longs.size());
+        assertEquals(99_999 * 0x100000001L, longs.last());
+        assertEquals(LongStream.range(0, 100_000).map(l -> l * 0x100000001L).sum(), longs.sum());
+        assertEquals(longs.toList().toMutable().hashCode(), longs.hashCode());
+        assertEquals(longs, longs.sublist(0, 50_000).appendList(longs.sublist(50_000, 100_000)));
+
+        DoubleList doubles = DoubleList.of(0.5, -2.0, Double.NaN, 4.0);
+        assertEquals(2, doubles.firstIndexOf(Double.NaN));
+        assertEquals(DoubleList.of(0.5, -2.0, Double.NaN, 4.0), doubles);
+        assertEquals(-2.0, DoubleList.of(0.5, -2.0, 4.0).min().getAsDouble());
+        assertEquals(2.5, DoubleList.of(0.5, -2.0, 4.0).sum());
+        assertEquals(List.of(0.5, -2.0, Double.NaN, 4.0).toMutable().hashCode(), doubles.hashCode());
+        assertEquals("DoubleList[0.5,-2.0,NaN,4.0]", doubles.toString());
+    }
+
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        IntList ints = IntList.of(IntStream.range(-1000, 1000));
+        assertEquals(ints, copy(ints));
+        LongList longs = LongList.of(-1L, Long.MAX_VALUE);
+        assertEquals(longs, copy(longs));
+        DoubleList doubles = DoubleList.of(1.5, -0.0);
+        assertEquals(doubles, copy(doubles));
+    }
+}
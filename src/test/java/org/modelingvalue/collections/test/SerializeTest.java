@@ -21,8 +21,10 @@
 package org.modelingvalue.collections.test;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.modelingvalue.collections.test.Serialization.copy;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.stream.*;
 
@@ -31,6 +33,10 @@ import org.modelingvalue.collections.List;
 import org.modelingvalue.collections.Map;
 import org.modelingvalue.collections.Set;
 import org.modelingvalue.collections.*;
+import org.modelingvalue.collections.impl.CollectionCodec;
+import org.modelingvalue.collections.impl.HashCollectionImpl;
+import org.modelingvalue.collections.util.Pair;
+import org.modelingvalue.collections.util.Triple;
 
 public class SerializeTest {
     @Test
@@ -126,6 +132,148 @@ public class SerializeTest {
         assertTrue(Stream.of(inCopy).allMatch(x -> x));
     }
 
+    @Test
+    public void serializeFrozenGraphOfObjectsWithoutEquals() throws IOException, ClassNotFoundException {
+        TestObjectWithoutEquals[] edges = new TestObjectWithoutEquals[2_000];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new TestObjectWithoutEquals(i);
+        }
+        FrozenDirGraph<TestObjectWithoutEquals> copy = copy(DirGraph.of(edges).freeze());
+        assertEquals(edges.length, copy.size());
+        for (TestObjectWithoutEquals n : copy.nodes()) {
+            assertTrue(copy.containsNode(n));
+            TestObjectWithoutEquals other = (n.i & 1) == 0 ? copy.outs(n).get(0) : copy.ins(n).get(0);
+            assertEquals(n.i ^ 1, other.i);
+            assertTrue((n.i & 1) == 0 ? copy.containsEdge(n, other) : copy.containsEdge(other, n));
+        }
+    }
+
+    @Test
+    public void serializePrimitiveCollections() throws IOException, ClassNotFoundException {
+        IntSet intSet = IntSet.of(IntStream.range(-1000, 1000));
+        assertEquals(intSet, copy(intSet));
+        LongSet longSet = LongSet.of(LongStream.range(0, 1000).map(l -> l * 0x100000001L));
+        assertEquals(longSet, copy(longSet));
+        IntMap<String> intMap = IntMap.<String> of().put(1, "aap").put(-1, "noot").put(1 << 30, "mies");
+        assertEquals(intMap, copy(intMap));
+        LongMap<String> longMap = LongMap.<String> of().put(0L, "aap").put(0x100000001L, "noot").put(-1L, "mies");
+        assertEquals(longMap, copy(longMap));
+    }
+
+    @Test
+    public void serializeGraphs() throws IOException, ClassNotFoundException {
+        DirGraph<String> dirGraph = DirGraph.<String> of().addEdge("a", "b").addEdge("b", "c").addEdge("c", "a").addNode("d");
+        DirGraph<String> dirCopy = copy(dirGraph);
+        assertEquals(dirGraph.vertices(), dirCopy.vertices());
+        assertEquals(dirGraph.begin(), dirCopy.begin());
+        assertEquals(dirGraph.end(), dirCopy.end());
+        DirGraph<String> dag = Dag.<String> of().addEdge("a", "b").addEdge("a", "c");
+        DirGraph<String> dagCopy = copy(dag);
+        assertEquals(dag.getClass(), dagCopy.getClass());
+        assertEquals(dag.vertices(), dagCopy.vertices());
+        assertEquals(dag.topologicalNodes(), dagCopy.topologicalNodes());
+        Graph<String, Integer> graph = Graph.of(Triple.of("a", 1, "b"), Triple.of("b", 2, "c"), Triple.of("a", 3, "c"));
+        assertEquals(graph, copy(graph));
+    }
+
+    @Test
+    public void serializeNestedCollections() throws IOException, ClassNotFoundException {
+        Set<Integer> shared = Set.of(IntStream.range(0, 1000).boxed().toArray(Integer[]::new));
+        Map<String, Set<Integer>> map = Map.of(Entry.of("a", shared), Entry.of("b", shared), Entry.of("c", Set.of()));
+        Map<String, Set<Integer>> copy = copy(map);
+        assertEquals(map, copy);
+        assertSame(copy.get("a"), copy.get("b"));
+    }
+
+    @Test
+    public void collectionCodec() {
+        Set<Integer> shared = Set.of(1, 2, 3);
+        List<Object> list = List.of(true, false, 1, -1L, 1.5, 2.5f, (short) -3, (byte) 4, 'x', "aap", "aap", Entry.of("k", "v"), Pair.of(null, 2), Triple.of(1, 2, 3), //
+                shared, shared, List.of(1, 2), Map.of(Entry.of(1, shared)), DefaultMap.of(k -> 0, Entry.of("a", 1)), QualifiedSet.of(s -> s.length(), "a", "bb"), //
+                IntSet.of(1, -1), LongSet.of(-1L), DirGraph.of().addEdge(1, 2), new TestObjectWithEquals(7));
+        ByteBuffer buffer = CollectionCodec.DEFAULT.encode(list);
+        List<Object> copy = CollectionCodec.DEFAULT.decode(buffer);
+        assertEquals(list.size(), copy.size());
+        for (int i = 0; i < list.size(); i++) {
+            Object e = list.get(i);
+            assertEquals(e instanceof DirGraph ? ((DirGraph<?>) e).vertices() : e, e instanceof DirGraph ? ((DirGraph<?>) copy.get(i)).vertices() : copy.get(i));
+        }
+        assertSame(copy.get(14), copy.get(15));
+        assertFalse(buffer.hasRemaining());
+
+        Set<Integer> large = Set.of(IntStream.range(0, 100_000).boxed().toArray(Integer[]::new));
+        assertTrue(CollectionCodec.DEFAULT.encode(large).remaining() < 400_000);
+    }
+
+    @Test
+    public void collectionCodecWithElementCodec() {
+        CollectionCodec codec = CollectionCodec.DEFAULT.with(TestObjectWithEquals.class, new CollectionCodec.ElementCodec<>() {
+            @Override
+            public void write(CollectionCodec.Writer writer, TestObjectWithEquals element) {
+                writer.writeSignedVarInt(element.i);
+            }
+
+            @Override
+            public TestObjectWithEquals read(CollectionCodec.Reader reader) {
+                return new TestObjectWithEquals(reader.readSignedVarInt());
+            }
+        });
+        Set<TestObjectWithEquals> set = Set.of(TestObjectWithEquals::new, IntStream.range(0, 1000).boxed().toArray(Integer[]::new));
+        ByteBuffer buffer = codec.encode(set);
+        assertTrue(buffer.remaining() < 4000);
+        assertEquals(set, codec.decode(buffer));
+    }
+
+    @Test
+    public void collectionCodecSession() {
+        Map<Integer, String> map = Map.of();
+        for (int i = 0; i < 10_000; i++) {
+            map = map.put(i, "v" + i);
+        }
+        List<Integer>          list   = List.of(IntStream.range(0, 10_000).boxed().toArray(Integer[]::new));
+        CollectionCodec.Writer writer = CollectionCodec.DEFAULT.writer();
+        writer.writeObject(map);
+        writer.writeObject(list);
+        ByteBuffer first = writer.toByteBuffer();
+        java.util.List<Object>     versions = new ArrayList<>();
+        java.util.List<ByteBuffer> buffers  = new ArrayList<>();
+        int                        total    = 0;
+        for (int i = 0; i < 100; i++) {
+            map = map.put(i * 97, "w" + i).removeKey(i * 89 + 1);
+            list = list.replace(i * 97, (Integer) (-i)).append(i);
+            writer.writeObject(map);
+            writer.writeObject(list);
+            versions.add(map);
+            versions.add(list);
+            ByteBuffer buffer = writer.toByteBuffer();
+            total += buffer.remaining();
+            buffers.add(buffer);
+        }
+        assertTrue(total / buffers.size() < first.remaining() / 50);
+        CollectionCodec.Reader reader = CollectionCodec.DEFAULT.reader();
+        reader.from(first);
+        assertEquals(10_000, reader.<Map<Integer, String>> readObject().size());
+        assertEquals(10_000, reader.<List<Integer>> readObject().size());
+        for (int i = 0; i < buffers.size(); i++) {
+            reader.from(buffers.get(i));
+            Map<Integer, String> mapCopy = reader.readObject();
+            List<Integer> listCopy = reader.readObject();
+            assertEquals(versions.get(i * 2), mapCopy);
+            assertEquals(versions.get(i * 2).hashCode(), mapCopy.hashCode());
+            assertEquals(versions.get(i * 2 + 1), listCopy);
+            assertEquals(versions.get(i * 2 + 1).hashCode(), listCopy.hashCode());
+        }
+    }
+
+    @Test
+    public void collectionCodecRebuildsOnOtherHashCodes() {
+        Set<TestObjectWithoutEquals> set = Set.of(TestObjectWithoutEquals::new, IntStream.range(0, 1000).boxed().toArray(Integer[]::new));
+        Set<TestObjectWithoutEquals> copy = CollectionCodec.DEFAULT.decode(CollectionCodec.DEFAULT.encode(set));
+        assertEquals(1000, copy.size());
+        assertNull(((HashCollectionImpl<?>) copy).checkHashIntegrity());
+        copy.forEach(e -> assertTrue(copy.contains(e)));
+    }
+
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -21,6 +21,7 @@
 package org.modelingvalue.collections.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -30,6 +31,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -38,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.modelingvalue.collections.Collection;
 import org.modelingvalue.collections.Set;
 import org.modelingvalue.collections.impl.HashCollectionImpl;
+import org.modelingvalue.collections.impl.SetImpl;
 import org.modelingvalue.collections.util.Context;
 import org.modelingvalue.collections.util.ContextThread;
 
@@ -97,6 +101,46 @@ public class SetTest {
         });
     }
 
+    @Test
+    public void parallelSetAlgebra() {
+        Set<Integer> set1 = Set.of(IntStream.range(0, 1_000_000).map(i -> i * 3).boxed().toArray(Integer[]::new));
+        Set<Integer> set2 = Set.of(IntStream.range(0, 1_000_000).map(i -> i * 5).boxed().toArray(Integer[]::new));
+        Set<Integer> union = set1.addAll(set2);
+        Set<Integer> intersection = set1.retainAll(set2);
+        Set<Integer> difference = set1.removeAll(set2);
+        Set<Integer> exclusive = set1.exclusiveAll(set2);
+        assertEquals(2_000_000 - 200_000, union.size());
+        assertEquals(200_000, intersection.size());
+        ContextThread.createPool().setWorkerThreadName("SetTest").invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                assertEquals(union, set1.addAll(set2));
+                assertEquals(intersection, set1.retainAll(set2));
+                assertEquals(difference, set1.removeAll(set2));
+                assertEquals(exclusive, set1.exclusiveAll(set2));
+                assertEquals(union.hashCode(), set2.addAll(set1).hashCode());
+                assertEquals(set1, set1.addAll(set1));
+            }
+        });
+    }
+
+    @Test
+    public void positional() {
+        Random random = new Random(SEED);
+        Set<Integer> set = Set.of(IntStream.range(0, 200_000).map(i -> random.nextInt()).boxed().toArray(Integer[]::new));
+        int i = 0;
+        for (Integer e : set) {
+            assertEquals(e, set.get(i));
+            assertEquals(i, set.index(e));
+            i++;
+        }
+        assertEquals(set.size(), i);
+        Set<Integer> removed = set.remove(set.get(1000));
+        assertEquals(-1, removed.index(set.get(1000)));
+        assertEquals(set.get(1001), removed.get(1000));
+        assertEquals(1000, removed.index(set.get(1001)));
+    }
+
     @Test
     public void randomtest() {
         Random random = new Random();
@@ -316,6 +360,111 @@ public class SetTest {
         assertNull(((HashCollectionImpl) set).checkHashIntegrity());
     }
 
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void sortedEqualHashes() {
+        int                                      max    = 200;
+        Random                                   random = new Random(SEED);
+        java.util.List<SortedHashSharingInteger> objs   = new java.util.ArrayList<>();
+        for (int i = 0; i < max; i++) {
+            objs.add(new SortedHashSharingInteger(i, 7));
+        }
+        Set<SortedHashSharingInteger> set1 = Set.of();
+        for (SortedHashSharingInteger obj : objs) {
+            set1 = set1.add(obj);
+        }
+        Collections.shuffle(objs, random);
+        Set<SortedHashSharingInteger> set2 = Collection.of(objs.stream()).asSet();
+        assertEquals(max, set2.size());
+        assertEquals(set1, set2);
+        assertEquals(set1.hashCode(), set2.hashCode());
+        for (int i = 0; i < max; i++) {
+            assertTrue(set2.contains(new SortedHashSharingInteger(i, 7)));
+        }
+        assertFalse(set2.contains(new SortedHashSharingInteger(max, 7)));
+
+        Set<SortedHashSharingInteger>     even  = set1.filter(o -> o.integer % 2 == 0).asSet();
+        Set<SortedHashSharingInteger>     low   = set2.filter(o -> o.integer < max / 2).asSet();
+        HashSet<SortedHashSharingInteger> union = new HashSet<>(even.toMutable());
+        HashSet<SortedHashSharingInteger> minus = new HashSet<>(even.toMutable());
+        HashSet<SortedHashSharingInteger> both  = new HashSet<>(even.toMutable());
+        union.addAll(low.toMutable());
+        minus.removeAll(low.toMutable());
+        both.retainAll(low.toMutable());
+        assertEquals(union, even.addAll(low).toMutable());
+        assertEquals(minus, even.removeAll(low).toMutable());
+        assertEquals(both, even.retainAll(low).toMutable());
+        assertNull(((HashCollectionImpl) even.addAll(low)).checkHashIntegrity());
+
+        Set<Object> mixed = Set.<Object> of().addAll(even).add(new HashSharingInteger(-1, 7));
+        assertEquals(even.size() + 1, mixed.size());
+        assertTrue(mixed.containsAll(even));
+        assertEquals(even, mixed.remove(new HashSharingInteger(-1, 7)));
+    }
+
+    @Test
+    public void setDroppingChildren() {
+        Integer[] es = IntStream.range(0, 16).map(i -> i << 27).boxed().toArray(Integer[]::new);
+        Integer added = 5 << 27 | 1;
+        DroppingSet set = new DroppingSet(es).add(added, e -> (e >>> 27) % 3 == 0);
+        Set<Integer> expected = Set.of(Arrays.stream(es).filter(e -> (e >>> 27) % 3 != 0).toArray(Integer[]::new)).add(added);
+        assertEquals(11, set.size());
+        assertEquals(expected, Set.of(set.toArray(Integer[]::new)));
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertNull(set.checkHashIntegrity());
+        assertTrue(set.allMatch(set::contains));
+    }
+
+    /**
+     * Merges an element into a set whose top level node has a child per element, with a function that drops some of
+     * those children.
+     */
+    private static final class DroppingSet extends SetImpl<Integer> {
+        private static final long serialVersionUID = -1948117372245286719L;
+
+        private DroppingSet(Integer[] es) {
+            super(es);
+        }
+
+        @SuppressWarnings("unchecked")
+        private DroppingSet add(Integer added, Predicate<Integer> drop) {
+            Function<Object, Object> set1 = v -> v instanceof Integer && drop.test((Integer) v) ? null : v;
+            DroppingSet result = new DroppingSet(new Integer[0]);
+            result.value = set(value, key(), set1, added, key(), identity(), (v1, v2) -> v1);
+            return result;
+        }
+    }
+
+    private static final class SortedHashSharingInteger implements Comparable<SortedHashSharingInteger> {
+        private final int integer;
+        private final int hashCode;
+
+        private SortedHashSharingInteger(int integer, int hashCode) {
+            this.integer  = integer;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int compareTo(SortedHashSharingInteger other) {
+            return Integer.compare(integer, other.integer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SortedHashSharingInteger && ((SortedHashSharingInteger) other).integer == integer;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(integer);
+        }
+    }
+
     private static final class HashSharingInteger {
         private final int integer;
         private final int hashCode;
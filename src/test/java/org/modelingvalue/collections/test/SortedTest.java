@@ -0,0 +1,176 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.modelingvalue.collections.test.Serialization.copy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.Collection;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.SortedMap;
+import org.modelingvalue.collections.SortedSet;
+import org.modelingvalue.collections.util.Pair;
+
+public class SortedTest {
+    private static final long SEED = -4592012335720936411L;
+
+    @Test
+    public void sortedSet() {
+        SortedSet<String> set = SortedSet.of("noot", "aap", "mies", "aap", "jet");
+        assertEquals(List.of("aap", "jet", "mies", "noot"), set.asList());
+        assertEquals(4, set.size());
+        assertEquals("aap", set.first());
+        assertEquals("noot", set.last());
+        assertEquals("jet", set.floor("kees"));
+        assertEquals("mies", set.ceiling("kees"));
+        assertEquals("jet", set.lower("mies"));
+        assertEquals("noot", set.higher("mies"));
+        assertNull(set.lower("aap"));
+        assertNull(set.higher("noot"));
+        assertEquals(2, set.rank("mies"));
+        assertEquals("mies", set.get(2));
+        assertEquals(2, set.index("mies"));
+        assertEquals(-1, set.index("kees"));
+        assertEquals(SortedSet.of("jet", "mies"), set.subSet("b", "n"));
+        assertEquals(SortedSet.of("aap", "jet"), set.headSet("mies"));
+        assertEquals(SortedSet.of("mies", "noot"), set.tailSet("mies"));
+        assertSame(set, set.add("jet"));
+        assertSame(set, set.remove("kees"));
+        assertEquals(SortedSet.of("aap", "jet", "noot"), set.remove("mies"));
+        SortedSet<String> reversed = SortedSet.of(Comparator.<String> reverseOrder(), set.collect(Collectors.toList()));
+        assertEquals("noot", reversed.first());
+        assertEquals("mies", reversed.floor("kees"));
+        assertEquals(set.reverse().asList(), reversed.asList());
+    }
+
+    @Test
+    public void sortedMap() {
+        SortedMap<Integer, String> map = SortedMap.of(Entry.of(3, "c"), Entry.of(1, "a"), Entry.of(2, "b"));
+        assertEquals("b", map.get((Integer) 2));
+        assertTrue(map.containsKey(3));
+        assertFalse(map.containsKey(4));
+        assertEquals(Entry.of(1, "a"), map.firstEntry());
+        assertEquals(Entry.of(3, "c"), map.lastEntry());
+        assertEquals(3, map.floorKey(7));
+        assertNull(map.ceilingKey(7));
+        assertEquals(Entry.of(2, "bb"), map.put(2, "bb").getEntry(2));
+        assertEquals(SortedMap.of(Entry.of(2, "b")), map.subMap(2, 3));
+        assertEquals(SortedMap.of(Entry.of(2, "b"), Entry.of(3, "c")), map.tailMap(1, false));
+        assertEquals(SortedMap.of(Entry.of(1, "a")), map.headMap(2));
+        assertEquals(SortedMap.of(Entry.of(1, "a"), Entry.of(3, "c")), map.removeKey(2));
+        assertEquals(List.of(1, 2, 3), map.toKeys().asList());
+        assertEquals(List.of("a", "b", "c"), map.toValues().asList());
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(SEED);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        SortedMap<Integer, Integer> map = SortedMap.of();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.removeKey(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        int index = 0;
+        for (Entry<Integer, Integer> e : map) {
+            assertEquals(e, map.get(index++));
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), map.toKeys().collect(Collectors.toList()));
+        for (int i = 0; i < 1_000; i++) {
+            int key = random.nextInt(22_000) - 1_000;
+            assertEquals(expected.get(key), map.get((Integer) key));
+            assertEquals(expected.floorKey(key), map.floorKey(key));
+            assertEquals(expected.ceilingKey(key), map.ceilingKey(key));
+            assertEquals(expected.headMap(key).size(), map.rank(key));
+            int to = key + random.nextInt(3_000);
+            assertEquals(new ArrayList<>(expected.subMap(key, to).keySet()), map.subMap(key, to).toKeys().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void spliteratorSplitsByKeyRange() {
+        SortedSet<Integer> set = SortedSet.of(Collection.range(0, 100_000).toArray(Integer[]::new));
+        Spliterator<Integer> second = set.spliterator();
+        assertTrue(second.hasCharacteristics(Spliterator.SORTED));
+        assertNull(second.getComparator());
+        Spliterator<Integer> first = second.trySplit();
+        if (first != null) {
+            int[] last = {-1};
+            first.forEachRemaining(i -> last[0] = i);
+            int[] next = {-1};
+            second.tryAdvance(i -> next[0] = i);
+            assertEquals(last[0] + 1, next[0]);
+        }
+        assertEquals(new TreeSet<>(set.collect(Collectors.toList())).stream().mapToLong(i -> i).sum(), set.parallel().mapToLong(i -> i).sum());
+    }
+
+    @Test
+    public void diffAndMerge() {
+        SortedMap<Integer, String> base = SortedMap.of();
+        for (int i = 0; i < 10_000; i++) {
+            base = base.put(i, "v" + i);
+        }
+        SortedMap<Integer, String> left = base.put(10, "left").removeKey(5_000);
+        SortedMap<Integer, String> right = base.put(9_000, "right").put(20_000, "new");
+        assertEquals(List.of(Entry.of(10, Pair.of("v10", "left")), Entry.of(5_000, Pair.of("v5000", null))), base.diff(left).asList());
+        assertEquals(2, base.compare(right).size());
+        SortedMap<Integer, String> merged = base.merge(left, right);
+        assertEquals("left", merged.get((Integer) 10));
+        assertFalse(merged.containsKey(5_000));
+        assertEquals("right", merged.get((Integer) 9_000));
+        assertEquals("new", merged.get((Integer) 20_000));
+        assertEquals(10_000, merged.size());
+        SortedSet<Integer> set = SortedSet.of(1, 2, 3);
+        assertEquals(SortedSet.of(2, 3, 4, 5), set.merge(set.remove(1).add(4), set.add(5)));
+    }
+
+    @Test
+    public void serialize() throws IOException, ClassNotFoundException {
+        SortedSet<Integer> set = SortedSet.of(Collection.range(0, 1_000).toArray(Integer[]::new));
+        assertEquals(set, copy(set));
+        SortedMap<String, Integer> map = SortedMap.<String, Integer> of(Comparator.reverseOrder()).put("a", 1).put("b", 2);
+        SortedMap<String, Integer> copied = copy(map);
+        assertEquals(map, copied);
+        assertEquals("b", copied.firstEntry().getKey());
+    }
+}
@@ -0,0 +1,153 @@
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+//  (C) Copyright 2018-2026 Modeling Value Group B.V. (http://modelingvalue.org)                                         ~
+//                                                                                                                       ~
+//  Licensed under the GNU Lesser General Public License v3.0 (the 'License'). You may not use this file except in       ~
+//  compliance with the License. You may obtain a copy of the License at: https://choosealicense.com/licenses/lgpl-3.0   ~
+//  Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on  ~
+//  an 'AS IS' BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the   ~
+//  specific language governing permissions and limitations under the License.                                           ~
+//                                                                                                                       ~
+//  Maintainers:                                                                                                         ~
+//      Wim Bast, Tom Brus                                                                                               ~
+//                                                                                                                       ~
+//  Contributors:                                                                                                        ~
+//      Ronald Krijgsheld ✝, Arjan Kok, Carel Bast                                                                       ~
+// --------------------------------------------------------------------------------------------------------------------- ~
+//  In Memory of Ronald Krijgsheld, 1972 - 2023                                                                          ~
+//      Ronald was suddenly and unexpectedly taken from us. He was not only our long-term colleague and team member      ~
+//      but also our friend. "He will live on in many of the lines of code you see below."                               ~
+//~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+package org.modelingvalue.collections.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.modelingvalue.collections.Entry;
+import org.modelingvalue.collections.List;
+import org.modelingvalue.collections.Map;
+import org.modelingvalue.collections.Set;
+import org.modelingvalue.collections.TransientList;
+import org.modelingvalue.collections.TransientMap;
+import org.modelingvalue.collections.TransientSet;
+import org.modelingvalue.collections.impl.HashCollectionImpl;
+
+public class TransientTest {
+    private static final long SEED = 7140983563781902271L;
+
+    private record Colliding(int id) {
+        @Override
+        public int hashCode() {
+            return id % 1000;
+        }
+    }
+
+    @Test
+    public void transientSet() {
+        Random               random = new Random(SEED);
+        Set<Object>          set    = Set.of();
+        TransientSet<Object> tr     = set.transientCopy();
+        for (int i = 0; i < 100_000; i++) {
+            Object e = random.nextBoolean() ? (Object) random.nextInt(20_000) : new Colliding(random.nextInt(5_000));
+            if (random.nextInt(4) == 0) {
+                set = set.remove(e);
+                tr.remove(e);
+            } else {
+                set = set.add(e);
+                tr.add(e);
+            }
+            if (i % 9_999 == 0) {
+                assertEquals(set.size(), tr.size());
+                assertEquals(set.contains(e), tr.contains(e));
+            }
+        }
+        Set<Object> result = tr.persistent();
+        assertEquals(set, result);
+        assertEquals(set.hashCode(), result.hashCode());
+        assertNull(((HashCollectionImpl<Object>) result).checkHashIntegrity());
+        assertEquals(set, Set.of(set.toMutable()));
+        assertSame(result, result.transientCopy().persistent());
+    }
+
+    @Test
+    public void transientMap() {
+        Random                         random = new Random(SEED);
+        Map<Integer, Integer>          map    = Map.of();
+        TransientMap<Integer, Integer> tr     = map.transientCopy();
+        for (int i = 0; i < 100_000; i++) {
+            int k = random.nextInt(20_000);
+            if (random.nextInt(4) == 0) {
+                map = map.removeKey(k);
+                tr.removeKey(k);
+            } else {
+                map = map.put(k, i);
+                tr.put(k, i);
+            }
+        }
+        assertEquals(map.size(), tr.size());
+        Map<Integer, Integer> result = tr.persistent();
+        assertEquals(map, result);
+        assertEquals(map.hashCode(), result.hashCode());
+        tr = result.transientCopy().put(1, 1).put(Entry.of(1, 2)).put(2, 3).removeKey(2);
+        assertEquals(2, tr.get(1));
+        assertFalse(tr.containsKey(2));
+        assertEquals(result.put(1, 2).removeKey(2), tr.persistent());
+    }
+
+    @Test
+    public void readsBetweenChanges() {
+        Random                         random = new Random(SEED);
+        Map<Integer, Integer>          map    = Map.of(Entry.of(1, 1));
+        TransientMap<Integer, Integer> trm    = map.transientCopy();
+        Set<Object>                    set    = Set.of(1);
+        TransientSet<Object>           trs    = set.transientCopy();
+        for (int i = 0; i < 50_000; i++) {
+            Integer k = random.nextInt(5_000);
+            if (trm.containsKey(k)) {
+                map = map.removeKey(k);
+                trm.removeKey(k);
+            } else {
+                map = map.put(k, i);
+                trm.put(k, i);
+            }
+            assertEquals(map.size(), trm.size());
+            assertEquals(map.get(k), trm.get(k));
+            Object e = random.nextBoolean() ? (Object) k : new Colliding(k);
+            if (trs.contains(e)) {
+                set = set.remove(e);
+                trs.remove(e);
+            } else {
+                set = set.add(e);
+                trs.add(e);
+            }
+            assertEquals(set.size(), trs.size());
+        }
+        assertEquals(map, trm.persistent());
+        assertEquals(set, trs.persistent());
+        assertNull(((HashCollectionImpl<Object>) trs.persistent()).checkHashIntegrity());
+    }
+
+    @Test
+    public void transientList() {
+        List<Integer>          list = List.of(-1, -2);
+        TransientList<Integer> tr   = list.transientCopy();
+        for (int i = 0; i < 50_000; i++) {
+            list = list.append(i);
+            tr.append(i);
+            if (i % 10_000 == 0) {
+                assertEquals(list.size(), tr.size());
+                assertEquals(list.get(i / 2), tr.get(i / 2));
+                assertEquals(i, tr.get(tr.size() - 1));
+            }
+        }
+        List<Integer> result = tr.persistent();
+        assertEquals(list, result);
+        assertEquals(list.hashCode(), result.hashCode());
+        assertEquals(list, List.of(list.toMutable()));
+        assertEquals(result.append(1).append(2), result.transientCopy().appendAll(List.of(1, 2)).persistent());
+    }
+}